@@ -0,0 +1,353 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cassandra.support.exception.CassandraConcurrencyLimitExceededException;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.exceptions.BusyConnectionException;
+import com.datastax.driver.core.exceptions.BusyPoolException;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.OverloadedException;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+
+/**
+ * Limits the number of concurrently executed statements and adapts the limit to observed latencies using an additive
+ * increase/multiplicative decrease (AIMD) strategy. The limit grows by one for each execution that completes within the
+ * latency threshold while at least half of the limit is in use. It shrinks by the backoff ratio, at most once per
+ * latency threshold, when executions exceed the latency threshold or fail because the cluster is overloaded.
+ * Executions exceeding the limit wait up to {@code maxWait} for a permit and are rejected with
+ * {@link CassandraConcurrencyLimitExceededException} afterwards.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see CqlTemplate#setConcurrencyLimiter(AdaptiveConcurrencyLimiter)
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final long latencyThresholdNanos;
+	private final double backoffRatio;
+	private final long maxWaitNanos;
+
+	private final AtomicInteger limit;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong lastDecreaseNanos;
+
+	private final Object monitor = new Object();
+
+	private AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos,
+			double backoffRatio, long maxWaitNanos) {
+
+		Assert.isTrue(minLimit <= maxLimit, "Min limit must not be greater than max limit");
+
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyThresholdNanos = latencyThresholdNanos;
+		this.backoffRatio = backoffRatio;
+		this.maxWaitNanos = maxWaitNanos;
+		this.limit = new AtomicInteger(Math.min(maxLimit, Math.max(minLimit, initialLimit)));
+		this.lastDecreaseNanos = new AtomicLong(System.nanoTime() - latencyThresholdNanos);
+	}
+
+	/**
+	 * Creates a new {@link AdaptiveConcurrencyLimiterBuilder}.
+	 *
+	 * @return a new {@link AdaptiveConcurrencyLimiterBuilder}.
+	 */
+	public static AdaptiveConcurrencyLimiterBuilder builder() {
+		return new AdaptiveConcurrencyLimiterBuilder();
+	}
+
+	/**
+	 * Acquire a permit to execute a statement. Waits up to {@code maxWait} if the limit is reached.
+	 *
+	 * @throws CassandraConcurrencyLimitExceededException if no permit became available in time.
+	 */
+	public void acquire() {
+
+		if (tryAcquire() || (maxWaitNanos > 0 && awaitPermit())) {
+			return;
+		}
+
+		rejected.incrementAndGet();
+
+		int limit = this.limit.get();
+
+		throw new CassandraConcurrencyLimitExceededException(limit,
+				String.format("Concurrency limit of %d in-flight statements exceeded", limit));
+	}
+
+	private boolean tryAcquire() {
+
+		for (;;) {
+
+			int current = inFlight.get();
+
+			if (current >= limit.get()) {
+				return false;
+			}
+
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private boolean awaitPermit() {
+
+		long deadline = System.nanoTime() + maxWaitNanos;
+
+		synchronized (monitor) {
+
+			waiting.incrementAndGet();
+
+			try {
+				for (long remaining = maxWaitNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+
+					if (tryAcquire()) {
+						return true;
+					}
+
+					TimeUnit.NANOSECONDS.timedWait(monitor, remaining);
+				}
+
+				return tryAcquire();
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				return false;
+			} finally {
+				waiting.decrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Release a permit acquired with {@link #acquire()} and adapt the limit to the outcome of the execution. The limit
+	 * is decreased at most once per latency threshold so a burst of failures backs off once.
+	 *
+	 * @param durationNanos execution duration in nanoseconds.
+	 * @param failure the execution failure, {@literal null} if the execution succeeded.
+	 */
+	public void release(long durationNanos, Throwable failure) {
+
+		int previousInFlight = inFlight.getAndDecrement();
+
+		if (durationNanos > latencyThresholdNanos || isOverload(failure)) {
+			decreaseLimit();
+		} else if (failure == null) {
+			increaseLimit(previousInFlight);
+		}
+
+		if (waiting.get() > 0) {
+			synchronized (monitor) {
+				monitor.notifyAll();
+			}
+		}
+	}
+
+	private void decreaseLimit() {
+
+		long now = System.nanoTime();
+		long lastDecrease = lastDecreaseNanos.get();
+
+		if (now - lastDecrease < latencyThresholdNanos || !lastDecreaseNanos.compareAndSet(lastDecrease, now)) {
+			return;
+		}
+
+		for (;;) {
+
+			int current = limit.get();
+			int decreased = Math.max(minLimit, (int) (current * backoffRatio));
+
+			if (current == decreased || limit.compareAndSet(current, decreased)) {
+				return;
+			}
+		}
+	}
+
+	private void increaseLimit(int inFlight) {
+
+		for (;;) {
+
+			int current = limit.get();
+
+			if (inFlight * 2 < current || current >= maxLimit || limit.compareAndSet(current, current + 1)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @return the current concurrency limit.
+	 */
+	public int getLimit() {
+		return limit.get();
+	}
+
+	/**
+	 * @return the number of statements currently in flight.
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * @return the number of rejected executions.
+	 */
+	public long getRejectedCount() {
+		return rejected.get();
+	}
+
+	private static boolean isOverload(Throwable failure) {
+
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof BusyPoolException || cause instanceof BusyConnectionException
+					|| cause instanceof OperationTimedOutException || cause instanceof OverloadedException
+					|| cause instanceof ReadTimeoutException || cause instanceof WriteTimeoutException) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Builder for {@link AdaptiveConcurrencyLimiter}.
+	 *
+	 * @author Mark Paluch
+	 * @since 1.6
+	 */
+	public static class AdaptiveConcurrencyLimiterBuilder {
+
+		private int initialLimit = 20;
+		private int minLimit = 1;
+		private int maxLimit = 1000;
+		private long latencyThresholdNanos = TimeUnit.SECONDS.toNanos(1);
+		private double backoffRatio = 0.9;
+		private long maxWaitNanos;
+
+		private AdaptiveConcurrencyLimiterBuilder() {}
+
+		/**
+		 * Sets the initial concurrency limit. Defaults to {@literal 20}.
+		 *
+		 * @param initialLimit must be greater than zero.
+		 * @return {@code this} {@link AdaptiveConcurrencyLimiterBuilder}
+		 */
+		public AdaptiveConcurrencyLimiterBuilder initialLimit(int initialLimit) {
+
+			Assert.isTrue(initialLimit > 0, "Initial limit must be greater than zero");
+
+			this.initialLimit = initialLimit;
+			return this;
+		}
+
+		/**
+		 * Sets the lower bound of the concurrency limit. Defaults to {@literal 1}.
+		 *
+		 * @param minLimit must be greater than zero.
+		 * @return {@code this} {@link AdaptiveConcurrencyLimiterBuilder}
+		 */
+		public AdaptiveConcurrencyLimiterBuilder minLimit(int minLimit) {
+
+			Assert.isTrue(minLimit > 0, "Min limit must be greater than zero");
+
+			this.minLimit = minLimit;
+			return this;
+		}
+
+		/**
+		 * Sets the upper bound of the concurrency limit. Defaults to {@literal 1000}.
+		 *
+		 * @param maxLimit must be greater than zero.
+		 * @return {@code this} {@link AdaptiveConcurrencyLimiterBuilder}
+		 */
+		public AdaptiveConcurrencyLimiterBuilder maxLimit(int maxLimit) {
+
+			Assert.isTrue(maxLimit > 0, "Max limit must be greater than zero");
+
+			this.maxLimit = maxLimit;
+			return this;
+		}
+
+		/**
+		 * Sets the latency above which an execution decreases the limit. Defaults to one second.
+		 *
+		 * @param latencyThreshold must be greater than zero.
+		 * @param timeUnit must not be {@literal null}.
+		 * @return {@code this} {@link AdaptiveConcurrencyLimiterBuilder}
+		 */
+		public AdaptiveConcurrencyLimiterBuilder latencyThreshold(long latencyThreshold, TimeUnit timeUnit) {
+
+			Assert.isTrue(latencyThreshold > 0, "Latency threshold must be greater than zero");
+			Assert.notNull(timeUnit, "TimeUnit must not be null");
+
+			this.latencyThresholdNanos = timeUnit.toNanos(latencyThreshold);
+			return this;
+		}
+
+		/**
+		 * Sets the factor the limit is multiplied with on overload. Defaults to {@literal 0.9}.
+		 *
+		 * @param backoffRatio must be between {@literal 0} and {@literal 1} (exclusive).
+		 * @return {@code this} {@link AdaptiveConcurrencyLimiterBuilder}
+		 */
+		public AdaptiveConcurrencyLimiterBuilder backoffRatio(double backoffRatio) {
+
+			Assert.isTrue(backoffRatio > 0 && backoffRatio < 1, "Backoff ratio must be between 0 and 1");
+
+			this.backoffRatio = backoffRatio;
+			return this;
+		}
+
+		/**
+		 * Sets how long executions wait for a permit if the limit is reached. Defaults to zero, rejecting excess
+		 * executions immediately.
+		 *
+		 * @param maxWait must not be negative.
+		 * @param timeUnit must not be {@literal null}.
+		 * @return {@code this} {@link AdaptiveConcurrencyLimiterBuilder}
+		 */
+		public AdaptiveConcurrencyLimiterBuilder maxWait(long maxWait, TimeUnit timeUnit) {
+
+			Assert.isTrue(maxWait >= 0, "Max wait must not be negative");
+			Assert.notNull(timeUnit, "TimeUnit must not be null");
+
+			this.maxWaitNanos = timeUnit.toNanos(maxWait);
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link AdaptiveConcurrencyLimiter}.
+		 *
+		 * @return a new {@link AdaptiveConcurrencyLimiter}.
+		 */
+		public AdaptiveConcurrencyLimiter build() {
+			return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThresholdNanos, backoffRatio,
+					maxWaitNanos);
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Executor} running asynchronous query callbacks on a fixed number of daemon threads so callbacks do not run on
+ * the driver's I/O threads. Callbacks submitted while more than {@code queueCapacity} callbacks are waiting overflow:
+ * they are handed to the overflow {@link Executor} if one is configured, otherwise they are queued anyway and a
+ * warning about the growing queue is logged. Callbacks are never run on the submitting thread. Idle callback threads
+ * terminate after {@value #KEEP_ALIVE_SECONDS} seconds.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see CqlTemplate#setCallbackExecutor(Executor)
+ */
+public class BoundedCallbackExecutor implements Executor, DisposableBean {
+
+	/**
+	 * Default queue capacity.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private static final long WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+	private static final Logger LOG = LoggerFactory.getLogger(BoundedCallbackExecutor.class);
+
+	private static final ThreadLocal<Boolean> CALLBACK_THREAD = new ThreadLocal<Boolean>();
+
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+	private final ThreadPoolExecutor executor;
+
+	private final int queueCapacity;
+
+	private final Executor overflowExecutor;
+
+	private final AtomicLong overflowed = new AtomicLong();
+
+	private final AtomicLong lastWarning = new AtomicLong(System.nanoTime() - WARNING_INTERVAL_NANOS);
+
+	/**
+	 * Create a new {@link BoundedCallbackExecutor} with one thread per available processor and a queue capacity of
+	 * {@value #DEFAULT_QUEUE_CAPACITY}.
+	 */
+	public BoundedCallbackExecutor() {
+		this(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Create a new {@link BoundedCallbackExecutor} that keeps queueing overflowing callbacks and logs a warning.
+	 *
+	 * @param poolSize number of callback threads, must be greater than zero.
+	 * @param queueCapacity number of queued callbacks after which callbacks overflow, must be greater than zero.
+	 */
+	public BoundedCallbackExecutor(int poolSize, int queueCapacity) {
+		this(poolSize, queueCapacity, null);
+	}
+
+	/**
+	 * Create a new {@link BoundedCallbackExecutor} that hands overflowing callbacks to {@code overflowExecutor}.
+	 *
+	 * @param poolSize number of callback threads, must be greater than zero.
+	 * @param queueCapacity number of queued callbacks after which callbacks overflow, must be greater than zero.
+	 * @param overflowExecutor the {@link Executor} to run overflowing callbacks with, {@literal null} to queue them
+	 *          anyway. Must not run callbacks on the submitting thread.
+	 */
+	public BoundedCallbackExecutor(int poolSize, int queueCapacity, Executor overflowExecutor) {
+
+		Assert.isTrue(poolSize > 0, "Pool size must be greater than zero");
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than zero");
+
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new CallbackThreadFactory(), new RejectedExecutionHandler() {
+
+					@Override
+					public void rejectedExecution(Runnable command, ThreadPoolExecutor executor) {
+						throw new RejectedExecutionException("Callback executor is shut down");
+					}
+				});
+
+		this.executor.allowCoreThreadTimeOut(true);
+		this.queueCapacity = queueCapacity;
+		this.overflowExecutor = overflowExecutor;
+	}
+
+	/**
+	 * @return {@literal true} if the current thread is a callback thread of a {@link BoundedCallbackExecutor}.
+	 */
+	public static boolean isCallbackThread() {
+		return CALLBACK_THREAD.get() != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void execute(Runnable command) {
+
+		if (executor.getQueue().size() >= queueCapacity && !executor.isShutdown()) {
+
+			overflowed.incrementAndGet();
+
+			if (overflowExecutor != null) {
+				overflowExecutor.execute(command);
+				return;
+			}
+
+			warnQueueGrowing();
+		}
+
+		executor.execute(command);
+	}
+
+	private void warnQueueGrowing() {
+
+		long now = System.nanoTime();
+		long last = lastWarning.get();
+
+		if (now - last >= WARNING_INTERVAL_NANOS && lastWarning.compareAndSet(last, now) && LOG.isWarnEnabled()) {
+			LOG.warn("Callback queue exceeds its capacity of {} with {} waiting callbacks; "
+					+ "callbacks are slower than query completions", queueCapacity, executor.getQueue().size());
+		}
+	}
+
+	/**
+	 * @return the number of callbacks waiting for execution.
+	 */
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	/**
+	 * @return the approximate number of callbacks currently running.
+	 */
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	/**
+	 * @return the approximate number of completed callbacks.
+	 */
+	public long getCompletedCount() {
+		return executor.getCompletedTaskCount();
+	}
+
+	/**
+	 * @return the number of callbacks submitted while the queue exceeded its capacity.
+	 */
+	public long getOverflowCount() {
+		return overflowed.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	/**
+	 * Creates daemon threads that are marked as callback threads.
+	 */
+	private static class CallbackThreadFactory implements ThreadFactory {
+
+		private final String prefix = String.format("cassandra-callback-%d-", POOL_NUMBER.incrementAndGet());
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		@Override
+		public Thread newThread(final Runnable runnable) {
+
+			Thread thread = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+
+					CALLBACK_THREAD.set(Boolean.TRUE);
+					runnable.run();
+				}
+			}, prefix + threadNumber.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	}
+}
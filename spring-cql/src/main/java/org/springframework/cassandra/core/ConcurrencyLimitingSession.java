@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * {@link InvocationHandler} for {@link Session} proxies acquiring a permit from an {@link AdaptiveConcurrencyLimiter}
+ * for each {@code execute} and {@code executeAsync} invocation. The permit is released with the observed latency once
+ * the execution completes. Other methods are delegated as-is.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class ConcurrencyLimitingSession implements InvocationHandler {
+
+	private final Session session;
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	private ConcurrencyLimitingSession(Session session, AdaptiveConcurrencyLimiter limiter) {
+
+		this.session = session;
+		this.limiter = limiter;
+	}
+
+	/**
+	 * Create a {@link Session} proxy limiting concurrent statement executions.
+	 *
+	 * @param session the target {@link Session}.
+	 * @param limiter the {@link AdaptiveConcurrencyLimiter} to acquire permits from.
+	 * @return the {@link Session} proxy.
+	 */
+	static Session create(Session session, AdaptiveConcurrencyLimiter limiter) {
+
+		return (Session) Proxy.newProxyInstance(ConcurrencyLimitingSession.class.getClassLoader(),
+				new Class<?>[] { Session.class }, new ConcurrencyLimitingSession(session, limiter));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		// proxies are used as cache keys, compare by proxy identity
+		if (method.getName().equals("equals") && args != null && args.length == 1) {
+			return proxy == args[0];
+		}
+
+		if (method.getName().equals("hashCode") && args == null) {
+			return System.identityHashCode(proxy);
+		}
+
+		if (method.getName().equals("execute") && args != null && args.length > 0) {
+			return execute(method, args);
+		}
+
+		if (method.getName().equals("executeAsync") && args != null && args.length > 0) {
+			return executeAsync(method, args);
+		}
+
+		return invokeTarget(method, args);
+	}
+
+	private Object execute(Method method, Object[] args) throws Throwable {
+
+		limiter.acquire();
+
+		long start = System.nanoTime();
+
+		try {
+
+			Object result = invokeTarget(method, args);
+
+			limiter.release(System.nanoTime() - start, null);
+
+			return result;
+		} catch (Throwable e) {
+
+			limiter.release(System.nanoTime() - start, e);
+			throw e;
+		}
+	}
+
+	private Object executeAsync(Method method, Object[] args) throws Throwable {
+
+		limiter.acquire();
+
+		final long start = System.nanoTime();
+		final ResultSetFuture future;
+
+		try {
+			future = (ResultSetFuture) invokeTarget(method, args);
+		} catch (Throwable e) {
+
+			limiter.release(System.nanoTime() - start, e);
+			throw e;
+		}
+
+		future.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+					Uninterruptibles.getUninterruptibly(future);
+					limiter.release(System.nanoTime() - start, null);
+				} catch (ExecutionException e) {
+					limiter.release(System.nanoTime() - start, e.getCause());
+				} catch (CancellationException e) {
+					limiter.release(System.nanoTime() - start, e);
+				}
+			}
+		}, CqlTemplate.RUN_RUNNABLE_EXECUTOR);
+
+		return future;
+	}
+
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
+
+		try {
+			return method.invoke(session, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+
+import com.datastax.driver.core.ConsistencyLevel;
+
+/**
+ * A completed statement execution reported to {@link CqlExecutionListener}.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+public class CqlExecution {
+
+	private final StatementKind kind;
+	private final String tableName;
+	private final ConsistencyLevel consistencyLevel;
+	private final boolean async;
+	private final long durationNanos;
+	private final int rowCount;
+	private final int pageCount;
+	private final RuntimeException exception;
+
+	/**
+	 * Creates a new {@link CqlExecution}.
+	 *
+	 * @param kind the kind of the statement, must not be {@literal null}.
+	 * @param tableName the table name, may be {@literal null} if unknown.
+	 * @param consistencyLevel the consistency level set on the statement, may be {@literal null}.
+	 * @param async whether the statement was executed asynchronously.
+	 * @param durationNanos the duration in nanoseconds.
+	 * @param rowCount the number of rows fetched with the execution.
+	 * @param pageCount the number of pages fetched with the execution.
+	 * @param exception the translated exception if the execution failed, may be {@literal null}.
+	 */
+	public CqlExecution(StatementKind kind, String tableName, ConsistencyLevel consistencyLevel, boolean async,
+			long durationNanos, int rowCount, int pageCount, RuntimeException exception) {
+
+		this.kind = kind;
+		this.tableName = tableName;
+		this.consistencyLevel = consistencyLevel;
+		this.async = async;
+		this.durationNanos = durationNanos;
+		this.rowCount = rowCount;
+		this.pageCount = pageCount;
+		this.exception = exception;
+	}
+
+	/**
+	 * @return the kind of the statement.
+	 */
+	public StatementKind getKind() {
+		return kind;
+	}
+
+	/**
+	 * @return the table name as used in the statement or {@literal null} if the table could not be determined.
+	 */
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * @return the consistency level set on the statement or {@literal null} if the cluster default applies.
+	 */
+	public ConsistencyLevel getConsistencyLevel() {
+		return consistencyLevel;
+	}
+
+	/**
+	 * @return {@literal true} if the statement was executed asynchronously.
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * @param timeUnit must not be {@literal null}.
+	 * @return the duration between submitting the statement and receiving its first page or failure.
+	 */
+	public long getDuration(TimeUnit timeUnit) {
+		return timeUnit.convert(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return the number of rows fetched with the execution. Rows of subsequent pages fetched while iterating the result
+	 *         are not included.
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * @return the number of pages fetched with the execution.
+	 */
+	public int getPageCount() {
+		return pageCount;
+	}
+
+	/**
+	 * @return {@literal true} if the execution failed.
+	 */
+	public boolean isFailed() {
+		return exception != null;
+	}
+
+	/**
+	 * @return the exception translated into Spring's {@link org.springframework.dao.DataAccessException} hierarchy if
+	 *         possible or {@literal null} if the execution succeeded.
+	 */
+	public RuntimeException getException() {
+		return exception;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("CqlExecution [kind=%s, tableName=%s, consistencyLevel=%s, async=%s, duration=%dus, rows=%d, "
+				+ "pages=%d, exception=%s]", kind, tableName, consistencyLevel, async, getDuration(TimeUnit.MICROSECONDS),
+				rowCount, pageCount, (exception != null ? exception.getClass().getName() : null));
+	}
+
+	/**
+	 * Kind of an executed statement.
+	 */
+	public enum StatementKind {
+		SELECT, INSERT, UPDATE, DELETE, BATCH, TRUNCATE, SCHEMA, OTHER
+	}
+}
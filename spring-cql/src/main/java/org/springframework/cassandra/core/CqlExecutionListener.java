@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+/**
+ * Listener notified about each statement executed by {@link CqlTemplate}, e.g. to record latency, row count and error
+ * metrics. Listeners are notified on the calling thread for synchronous executions and on a driver I/O thread for
+ * asynchronous executions, so implementations must be thread-safe and must not block.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see CqlTemplate#setExecutionListener(CqlExecutionListener)
+ * @see CqlExecutionMetrics
+ */
+public interface CqlExecutionListener {
+
+	/**
+	 * Called after a statement execution completed, successfully or not.
+	 *
+	 * @param execution the completed execution, never {@literal null}.
+	 */
+	void onExecution(CqlExecution execution);
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cassandra.core.CqlExecution.StatementKind;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CqlExecutionListener} aggregating execution counts, rows, errors and a latency histogram in memory per
+ * {@link StatementKind} and table.
+ *
+ * <pre class="code">
+ * CqlExecutionMetrics metrics = new CqlExecutionMetrics();
+ * cqlTemplate.setExecutionListener(metrics);
+ *
+ * CqlExecutionStatistics statistics = metrics.getStatistics(StatementKind.SELECT, "person");
+ * long p99 = statistics.getLatencyPercentile(99, TimeUnit.MILLISECONDS);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+public class CqlExecutionMetrics implements CqlExecutionListener {
+
+	private final ConcurrentMap<List<Object>, Accumulator> accumulators =
+			new ConcurrentHashMap<List<Object>, Accumulator>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cassandra.core.CqlExecutionListener#onExecution(org.springframework.cassandra.core.CqlExecution)
+	 */
+	@Override
+	public void onExecution(CqlExecution execution) {
+
+		List<Object> key = Arrays.<Object> asList(execution.getKind(), execution.getTableName());
+		Accumulator accumulator = accumulators.get(key);
+
+		if (accumulator == null) {
+
+			Accumulator newAccumulator = new Accumulator(execution.getKind(), execution.getTableName());
+
+			accumulator = accumulators.putIfAbsent(key, newAccumulator);
+
+			if (accumulator == null) {
+				accumulator = newAccumulator;
+			}
+		}
+
+		accumulator.record(execution);
+	}
+
+	/**
+	 * Return the statistics for statements of {@code kind} against {@code tableName}.
+	 *
+	 * @param kind must not be {@literal null}.
+	 * @param tableName the table name as used in statements, may be {@literal null}.
+	 * @return the {@link CqlExecutionStatistics} or {@literal null} if there were no such executions.
+	 */
+	public CqlExecutionStatistics getStatistics(StatementKind kind, String tableName) {
+
+		Assert.notNull(kind, "StatementKind must not be null");
+
+		Accumulator accumulator = accumulators.get(Arrays.<Object> asList(kind, tableName));
+
+		return (accumulator != null ? accumulator.getStatistics() : null);
+	}
+
+	/**
+	 * @return the statistics for all statement kinds and tables with at least one execution.
+	 */
+	public List<CqlExecutionStatistics> getStatistics() {
+
+		List<CqlExecutionStatistics> statistics = new ArrayList<CqlExecutionStatistics>(accumulators.size());
+
+		for (Accumulator accumulator : accumulators.values()) {
+			statistics.add(accumulator.getStatistics());
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Discard all recorded statistics.
+	 */
+	public void reset() {
+		accumulators.clear();
+	}
+
+	private static class Accumulator {
+
+		private final StatementKind kind;
+		private final String tableName;
+
+		private final AtomicLong executionCount = new AtomicLong();
+		private final AtomicLong rowCount = new AtomicLong();
+		private final AtomicLong pageCount = new AtomicLong();
+		private final ConcurrentMap<String, AtomicLong> errorCounts = new ConcurrentHashMap<String, AtomicLong>();
+		private final LatencyHistogram latencies = new LatencyHistogram();
+
+		Accumulator(StatementKind kind, String tableName) {
+
+			this.kind = kind;
+			this.tableName = tableName;
+		}
+
+		void record(CqlExecution execution) {
+
+			latencies.record(execution.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+			rowCount.addAndGet(execution.getRowCount());
+			pageCount.addAndGet(execution.getPageCount());
+
+			if (execution.isFailed()) {
+
+				String type = execution.getException().getClass().getName();
+				AtomicLong errorCount = errorCounts.get(type);
+
+				if (errorCount == null) {
+
+					AtomicLong newErrorCount = new AtomicLong();
+
+					errorCount = errorCounts.putIfAbsent(type, newErrorCount);
+
+					if (errorCount == null) {
+						errorCount = newErrorCount;
+					}
+				}
+
+				errorCount.incrementAndGet();
+			}
+
+			executionCount.incrementAndGet();
+		}
+
+		CqlExecutionStatistics getStatistics() {
+
+			Map<String, Long> errors = new HashMap<String, Long>();
+
+			for (Map.Entry<String, AtomicLong> entry : errorCounts.entrySet()) {
+				errors.put(entry.getKey(), entry.getValue().get());
+			}
+
+			return new CqlExecutionStatistics(kind, tableName, executionCount.get(), rowCount.get(), pageCount.get(), errors,
+					latencies.getCounts(), latencies.getSum(), latencies.getMax());
+		}
+	}
+}
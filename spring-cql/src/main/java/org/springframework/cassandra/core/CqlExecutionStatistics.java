@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cassandra.core.CqlExecution.StatementKind;
+
+/**
+ * Point-in-time statistics of statement executions of one {@link StatementKind} against one table.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see CqlExecutionMetrics
+ */
+public class CqlExecutionStatistics {
+
+	private final StatementKind kind;
+	private final String tableName;
+	private final long executionCount;
+	private final long rowCount;
+	private final long pageCount;
+	private final Map<String, Long> errorCounts;
+	private final long[] latencyCounts;
+	private final long latencySum;
+	private final long maxLatency;
+
+	CqlExecutionStatistics(StatementKind kind, String tableName, long executionCount, long rowCount, long pageCount,
+			Map<String, Long> errorCounts, long[] latencyCounts, long latencySum, long maxLatency) {
+
+		this.kind = kind;
+		this.tableName = tableName;
+		this.executionCount = executionCount;
+		this.rowCount = rowCount;
+		this.pageCount = pageCount;
+		this.errorCounts = Collections.unmodifiableMap(errorCounts);
+		this.latencyCounts = latencyCounts;
+		this.latencySum = latencySum;
+		this.maxLatency = maxLatency;
+	}
+
+	/**
+	 * @return the kind of the executed statements.
+	 */
+	public StatementKind getKind() {
+		return kind;
+	}
+
+	/**
+	 * @return the table name or {@literal null} for statements without a known table.
+	 */
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * @return the number of executions, including failed ones.
+	 */
+	public long getExecutionCount() {
+		return executionCount;
+	}
+
+	/**
+	 * @return the number of failed executions.
+	 */
+	public long getErrorCount() {
+
+		long errorCount = 0;
+
+		for (Long count : errorCounts.values()) {
+			errorCount += count;
+		}
+
+		return errorCount;
+	}
+
+	/**
+	 * @return the ratio of failed executions or {@code 0.0} if there were no executions.
+	 */
+	public double getErrorRate() {
+		return (executionCount == 0 ? 0.0 : (double) getErrorCount() / executionCount);
+	}
+
+	/**
+	 * @return failed executions by the class name of the translated exception.
+	 */
+	public Map<String, Long> getErrorCounts() {
+		return errorCounts;
+	}
+
+	/**
+	 * @return the number of rows fetched with the first page of executions.
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * @return the number of pages fetched by executions.
+	 */
+	public long getPageCount() {
+		return pageCount;
+	}
+
+	/**
+	 * Return the approximate latency below which {@code percentile} percent of the executions completed.
+	 *
+	 * @param percentile the percentile between {@code 0} and {@code 100}, e.g. {@code 99.9}.
+	 * @param timeUnit must not be {@literal null}.
+	 * @return the latency, zero if there were no executions.
+	 */
+	public long getLatencyPercentile(double percentile, TimeUnit timeUnit) {
+		return timeUnit.convert(LatencyHistogram.getPercentile(latencyCounts, percentile), TimeUnit.MICROSECONDS);
+	}
+
+	/**
+	 * @param timeUnit must not be {@literal null}.
+	 * @return the mean latency, zero if there were no executions.
+	 */
+	public long getMeanLatency(TimeUnit timeUnit) {
+		return (executionCount == 0 ? 0 : timeUnit.convert(latencySum / executionCount, TimeUnit.MICROSECONDS));
+	}
+
+	/**
+	 * @param timeUnit must not be {@literal null}.
+	 * @return the maximum latency, zero if there were no executions.
+	 */
+	public long getMaxLatency(TimeUnit timeUnit) {
+		return timeUnit.convert(maxLatency, TimeUnit.MICROSECONDS);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("CqlExecutionStatistics [kind=%s, tableName=%s, executions=%d, errors=%d, rows=%d, "
+				+ "mean=%dus, p99=%dus, max=%dus]", kind, tableName, executionCount, getErrorCount(), rowCount,
+				getMeanLatency(TimeUnit.MICROSECONDS), getLatencyPercentile(99, TimeUnit.MICROSECONDS), maxLatency);
+	}
+}
@@ -32,10 +32,13 @@ import org.springframework.cassandra.core.keyspace.DropKeyspaceSpecification;
 import org.springframework.cassandra.core.keyspace.DropTableSpecification;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Batch;
@@ -510,6 +513,15 @@ public interface CqlOperations {
 	 */
 	ResultSet query(Select select);
 
+	/**
+	 * Executes the provided {@link Statement} and returns the {@link ResultSet}.
+	 *
+	 * @param statement The {@link Statement} to execute, must not be {@literal null}.
+	 * @return The {@link ResultSet}
+	 * @since 1.6
+	 */
+	ResultSet query(Statement statement);
+
 	/**
 	 * Executes the provided CQL query with the given {@link QueryOptions} and returns the {@link ResultSet}.
 	 * 
@@ -1276,14 +1288,37 @@ public interface CqlOperations {
 	 * <p>
 	 * This is used internally by the other ingest() methods, but can be used if you want to write your own RowIterator.
 	 * The Object[] length returned by the next() implementation must match the number of bind variables in the CQL.
+	 * Concurrency is limited according to {@link IngestOptions#defaults()}.
 	 * </p>
 	 * 
 	 * @param cql The CQL
 	 * @param rowIterator Implementation to provide the Object[] to be bound to the CQL.
 	 * @param options The Query Options Object
+	 * @see #ingest(String, RowIterator, WriteOptions, IngestOptions)
 	 */
 	void ingest(String cql, RowIterator rowIterator, WriteOptions options);
 
+	/**
+	 * Ingest rows provided by a {@link RowIterator} using a single PreparedStatement. The number of concurrently
+	 * executing statements and the submission rate are limited according to the given {@link IngestOptions}: this
+	 * method blocks the calling thread while the maximum number of statements is in flight and returns after all rows
+	 * were submitted. Failed rows are retried and reported to the {@link IngestFailureCallback} configured in
+	 * {@link IngestOptions}.
+	 * <p>
+	 * The Object[] length returned by the next() implementation must match the number of bind variables in the CQL.
+	 * </p>
+	 *
+	 * @param cql The CQL, must not be empty.
+	 * @param rowIterator Implementation to provide the Object[] to be bound to the CQL, must not be {@literal null}.
+	 * @param options The {@link WriteOptions} applied to each bound statement, may be {@literal null}.
+	 * @param ingestOptions The {@link IngestOptions} controlling concurrency, rate and retries, must not be
+	 *          {@literal null}.
+	 * @return a {@link ListenableFuture} completed with the {@link IngestResult} once all submitted statements completed.
+	 * @since 1.6
+	 */
+	ListenableFuture<IngestResult> ingest(String cql, RowIterator rowIterator, WriteOptions options,
+			IngestOptions ingestOptions);
+
 	/**
 	 * This is an operation designed for high performance writes. The CQL is used to create a PreparedStatement once, then
 	 * all row values are bound to the single PreparedStatement and executed against the Session.
@@ -1377,6 +1412,43 @@ public interface CqlOperations {
 	 */
 	long count(String tableName);
 
+	/**
+	 * Counts all rows of the given table by counting token ranges in parallel. Unlike {@link #count(CqlIdentifier)}, no
+	 * single query has to count the whole table. Requires a {@link Session} bound to the keyspace of the table.
+	 *
+	 * @param tableName must not be {@literal null}.
+	 * @param scanOptions must not be {@literal null}.
+	 * @return the number of rows.
+	 * @since 1.6
+	 */
+	long count(CqlIdentifier tableName, ScanOptions scanOptions);
+
+	/**
+	 * Scans all rows of the given table by querying token ranges in parallel and passes each row to the
+	 * {@link RowCallbackHandler}. Blocks until all ranges are scanned. Completed ranges are reported to
+	 * {@link ScanOptions#getListener()} so an interrupted scan can be resumed. Requires a {@link Session} bound to the
+	 * keyspace of the table.
+	 *
+	 * @param tableName must not be {@literal null}.
+	 * @param scanOptions must not be {@literal null}.
+	 * @param rowCallbackHandler must not be {@literal null}; is called on the calling thread.
+	 * @return the number of scanned rows.
+	 * @since 1.6
+	 */
+	long scan(CqlIdentifier tableName, ScanOptions scanOptions, RowCallbackHandler rowCallbackHandler);
+
+	/**
+	 * Scans all rows of the given table by querying token ranges in parallel ahead of consumption and returns an
+	 * iterator over the merged rows. Rows are not ordered. The iterator must be closed if it is not consumed completely
+	 * to stop the scan. Requires a {@link Session} bound to the keyspace of the table.
+	 *
+	 * @param tableName must not be {@literal null}.
+	 * @param scanOptions must not be {@literal null}.
+	 * @return a {@link CloseableIterator} over the scanned rows.
+	 * @since 1.6
+	 */
+	CloseableIterator<Row> scan(CqlIdentifier tableName, ScanOptions scanOptions);
+
 	/**
 	 * Convenience method to convert the given specification to CQL and execute it.
 	 * 
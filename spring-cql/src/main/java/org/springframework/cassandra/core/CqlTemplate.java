@@ -19,7 +19,6 @@ import static org.springframework.cassandra.core.cql.CqlIdentifier.*;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +29,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.cassandra.core.cql.generator.AlterKeyspaceCqlGenerator;
 import org.springframework.cassandra.core.cql.generator.AlterTableCqlGenerator;
@@ -47,17 +47,19 @@ import org.springframework.cassandra.core.keyspace.CreateTableSpecification;
 import org.springframework.cassandra.core.keyspace.DropIndexSpecification;
 import org.springframework.cassandra.core.keyspace.DropKeyspaceSpecification;
 import org.springframework.cassandra.core.keyspace.DropTableSpecification;
+import org.springframework.cassandra.core.support.RowMap;
 import org.springframework.cassandra.support.CassandraAccessor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.QueryTimeoutException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.CodecRegistry;
-import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.Host;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ProtocolVersion;
@@ -97,7 +99,7 @@ import com.datastax.driver.core.querybuilder.Update;
  * @see org.springframework.cassandra.core.CqlOperations
  * @see org.springframework.cassandra.support.CassandraAccessor
  */
-public class CqlTemplate extends CassandraAccessor implements CqlOperations {
+public class CqlTemplate extends CassandraAccessor implements CqlOperations, DisposableBean {
 
 	protected static final Executor RUN_RUNNABLE_EXECUTOR = new Executor() {
 
@@ -116,6 +118,22 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		}
 	};
 
+	private PreparedStatementCache preparedStatementCache = CachedPreparedStatementCreator.getDefaultCache();
+
+	private CqlExecutionListener executionListener;
+
+	private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+	private volatile ExecutionSession executionSession;
+
+	private int prefetchThreshold;
+
+	private Executor callbackExecutor;
+
+	private volatile BoundedCallbackExecutor defaultCallbackExecutor;
+
+	private long blockingCallbackThresholdMillis = 100;
+
 	protected String logCql(String cql) {
 		return logCql("executing CQL [{}]", cql);
 	}
@@ -151,6 +169,10 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 			} else if (queryOptions.getRetryPolicy() != null) {
 				preparedStatement.setRetryPolicy(RetryPolicyResolver.resolve(queryOptions.getRetryPolicy()));
 			}
+
+			if (queryOptions.getIdempotent() != null) {
+				preparedStatement.setIdempotent(queryOptions.getIdempotent());
+			}
 		}
 
 		return preparedStatement;
@@ -193,6 +215,10 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 					statement.disableTracing();
 				}
 			}
+
+			if (queryOptions.getIdempotent() != null) {
+				statement.setIdempotent(queryOptions.getIdempotent());
+			}
 		}
 
 		return statement;
@@ -261,6 +287,207 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		setSession(session);
 	}
 
+	/**
+	 * Sets the {@link PreparedStatementCache} used to prepare and cache statements for CQL-based prepared statement
+	 * operations. Defaults to the {@link CachedPreparedStatementCreator#getDefaultCache() shared cache}.
+	 *
+	 * @param preparedStatementCache must not be {@literal null}.
+	 * @since 1.6
+	 */
+	public void setPreparedStatementCache(PreparedStatementCache preparedStatementCache) {
+
+		Assert.notNull(preparedStatementCache, "PreparedStatementCache must not be null");
+
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * @return the {@link PreparedStatementCache} used by this template.
+	 * @since 1.6
+	 */
+	public PreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
+	}
+
+	/**
+	 * Sets the {@link CqlExecutionListener} notified about each statement executed by this template, synchronously or
+	 * asynchronously. Listening to executions is disabled by default.
+	 *
+	 * @param executionListener may be {@literal null} to disable listening to executions.
+	 * @since 1.6
+	 * @see CqlExecutionMetrics
+	 */
+	public void setExecutionListener(CqlExecutionListener executionListener) {
+		this.executionListener = executionListener;
+	}
+
+	/**
+	 * @return the {@link CqlExecutionListener} notified about executions, may be {@literal null}.
+	 * @since 1.6
+	 */
+	public CqlExecutionListener getExecutionListener() {
+		return executionListener;
+	}
+
+	/**
+	 * Sets the {@link AdaptiveConcurrencyLimiter} limiting the number of statements this template executes concurrently,
+	 * synchronously or asynchronously. Statements exceeding the limit are rejected with
+	 * {@link org.springframework.cassandra.support.exception.CassandraConcurrencyLimitExceededException}. Concurrency is
+	 * not limited by default.
+	 *
+	 * @param concurrencyLimiter may be {@literal null} to disable concurrency limiting.
+	 * @since 1.6
+	 */
+	public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+		this.concurrencyLimiter = concurrencyLimiter;
+	}
+
+	/**
+	 * @return the {@link AdaptiveConcurrencyLimiter}, may be {@literal null}.
+	 * @since 1.6
+	 */
+	public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+		return concurrencyLimiter;
+	}
+
+	/**
+	 * Set the number of remaining rows of the current page at which result processing fetches the next page
+	 * asynchronously. Rows are processed page by page; prefetching lets processing continue without blocking on a round
+	 * trip at each page boundary. A value of {@literal 0} disables prefetching (default); a reasonable value is a fraction
+	 * of the fetch size.
+	 *
+	 * @param prefetchThreshold must not be negative.
+	 * @since 1.6
+	 */
+	public void setPrefetchThreshold(int prefetchThreshold) {
+
+		Assert.isTrue(prefetchThreshold >= 0, "Prefetch threshold must not be negative");
+
+		this.prefetchThreshold = prefetchThreshold;
+	}
+
+	/**
+	 * @return the number of remaining rows at which result processing prefetches the next page, {@literal 0} if
+	 *         prefetching is disabled.
+	 * @since 1.6
+	 */
+	public int getPrefetchThreshold() {
+		return prefetchThreshold;
+	}
+
+	/**
+	 * Set the {@link Executor} to run asynchronous query callbacks with unless an {@link Executor} is passed to the
+	 * operation. Callbacks run by default on a {@link BoundedCallbackExecutor} owned by this template so they do not block
+	 * the driver's I/O threads. The default executor is created on first use and shut down by {@link #destroy()}.
+	 *
+	 * @param callbackExecutor the {@link Executor} to run callbacks with, {@literal null} to use the default.
+	 * @since 1.6
+	 */
+	public void setCallbackExecutor(Executor callbackExecutor) {
+		this.callbackExecutor = callbackExecutor;
+	}
+
+	/**
+	 * @return the {@link Executor} to run asynchronous query callbacks with.
+	 * @since 1.6
+	 */
+	public Executor getCallbackExecutor() {
+		return (callbackExecutor != null ? callbackExecutor : getDefaultCallbackExecutor());
+	}
+
+	private BoundedCallbackExecutor getDefaultCallbackExecutor() {
+
+		BoundedCallbackExecutor executor = this.defaultCallbackExecutor;
+
+		if (executor == null) {
+			synchronized (this) {
+
+				executor = this.defaultCallbackExecutor;
+
+				if (executor == null) {
+					executor = new BoundedCallbackExecutor();
+					this.defaultCallbackExecutor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
+	/**
+	 * Shut down the default callback {@link Executor} if it was created. A {@link Executor} set through
+	 * {@link #setCallbackExecutor(Executor)} is not owned by the template and remains running.
+	 *
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 * @since 1.6
+	 */
+	@Override
+	public void destroy() {
+
+		BoundedCallbackExecutor executor = this.defaultCallbackExecutor;
+
+		if (executor != null) {
+			executor.destroy();
+		}
+	}
+
+	/**
+	 * Set the duration in milliseconds after which a callback running on a driver I/O thread is reported as blocking it.
+	 * Callbacks running on other threads, such as a {@link BoundedCallbackExecutor} or a user-provided {@link Executor},
+	 * are not timed. A value of {@literal 0} disables the detection. Defaults to {@literal 100}.
+	 *
+	 * @param blockingCallbackThresholdMillis must not be negative.
+	 * @since 1.6
+	 */
+	public void setBlockingCallbackThresholdMillis(long blockingCallbackThresholdMillis) {
+
+		Assert.isTrue(blockingCallbackThresholdMillis >= 0, "Blocking callback threshold must not be negative");
+
+		this.blockingCallbackThresholdMillis = blockingCallbackThresholdMillis;
+	}
+
+	/**
+	 * @return the duration in milliseconds after which a callback is reported as blocking.
+	 * @since 1.6
+	 */
+	public long getBlockingCallbackThresholdMillis() {
+		return blockingCallbackThresholdMillis;
+	}
+
+	/**
+	 * Return the {@link Session} to execute statements with. The {@link Session} acquires permits from the configured
+	 * {@link AdaptiveConcurrencyLimiter} and notifies the configured {@link CqlExecutionListener} about executions,
+	 * including rejected ones.
+	 *
+	 * @return the {@link Session} to execute statements with.
+	 * @since 1.6
+	 */
+	protected Session getExecutionSession() {
+
+		CqlExecutionListener executionListener = this.executionListener;
+		AdaptiveConcurrencyLimiter concurrencyLimiter = this.concurrencyLimiter;
+
+		Session session = getSession();
+
+		if (executionListener == null && concurrencyLimiter == null) {
+			return session;
+		}
+
+		PersistenceExceptionTranslator exceptionTranslator = getExceptionTranslator();
+
+		// reuse the Session proxy so Session-keyed caches such as the PreparedStatementCache keep hitting
+		ExecutionSession executionSession = this.executionSession;
+
+		if (executionSession == null
+				|| !executionSession.isFor(session, executionListener, concurrencyLimiter, exceptionTranslator)) {
+
+			executionSession = new ExecutionSession(session, executionListener, concurrencyLimiter, exceptionTranslator);
+			this.executionSession = executionSession;
+		}
+
+		return executionSession.proxy;
+	}
+
 	/**
 	 * Executes the given command in a Cassandra {@link Session}.
 	 *
@@ -273,7 +500,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		Assert.notNull(callback, "SessionCallback must not be null");
 
 		try {
-			return callback.doInSession(getSession());
+			return callback.doInSession(getExecutionSession());
 		} catch (Throwable t) {
 			throw translateExceptionIfPossible(t);
 		}
@@ -380,22 +607,22 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public Cancellable queryAsynchronously(String cql, Runnable listener) {
-		return queryAsynchronously(cql, listener, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(cql, listener, getCallbackExecutor());
 	}
 
 	@Override
 	public Cancellable queryAsynchronously(String cql, AsynchronousQueryListener listener) {
-		return queryAsynchronously(cql, listener, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(cql, listener, getCallbackExecutor());
 	}
 
 	@Override
 	public Cancellable queryAsynchronously(String cql, Runnable listener, QueryOptions queryOptions) {
-		return queryAsynchronously(cql, listener, queryOptions, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(cql, listener, queryOptions, getCallbackExecutor());
 	}
 
 	@Override
 	public Cancellable queryAsynchronously(String cql, AsynchronousQueryListener listener, QueryOptions queryOptions) {
-		return queryAsynchronously(cql, listener, queryOptions, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(cql, listener, queryOptions, getCallbackExecutor());
 	}
 
 	@Override
@@ -420,7 +647,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 				Statement statement = addQueryOptions(new SimpleStatement(logCql("async execute CQL [{}]", cql)), queryOptions);
 
 				ResultSetFuture resultSetFuture = session.executeAsync(statement);
-				resultSetFuture.addListener(listener, executor);
+				resultSetFuture.addListener(monitorCallback(listener), executor);
 				return new ResultSetFutureCancellable(resultSetFuture);
 			}
 		});
@@ -447,7 +674,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 					}
 				};
 
-				resultSetFuture.addListener(runnable, executor);
+				resultSetFuture.addListener(monitorCallback(runnable), executor);
 
 				return new ResultSetFutureCancellable(resultSetFuture);
 			}
@@ -596,12 +823,12 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 				final ResultSetFuture resultSetFuture = session.executeAsync(addQueryOptions(statement, queryOptions));
 
 				if (listener != null) {
-					resultSetFuture.addListener(new Runnable() {
+					resultSetFuture.addListener(monitorCallback(new Runnable() {
 						@Override
 						public void run() {
 							listener.onQueryComplete(resultSetFuture);
 						}
-					}, RUN_RUNNABLE_EXECUTOR);
+					}), getCallbackExecutor());
 				}
 
 				return new ResultSetFutureCancellable(resultSetFuture);
@@ -609,6 +836,64 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		});
 	}
 
+	/**
+	 * Decorate an asynchronous query callback to log a warning if the callback blocks a
+	 * {@link #isDriverIoThread(Thread) driver I/O thread} for longer than the
+	 * {@link #setBlockingCallbackThresholdMillis(long) blocking callback threshold}.
+	 *
+	 * @param callback the callback to decorate.
+	 * @return the decorated callback.
+	 * @since 1.6
+	 */
+	protected Runnable monitorCallback(final Runnable callback) {
+
+		final long thresholdMillis = blockingCallbackThresholdMillis;
+
+		if (thresholdMillis <= 0) {
+			return callback;
+		}
+
+		return new Runnable() {
+
+			@Override
+			public void run() {
+
+				if (!isDriverIoThread(Thread.currentThread())) {
+					callback.run();
+					return;
+				}
+
+				long start = System.nanoTime();
+
+				try {
+					callback.run();
+				} finally {
+
+					long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+					if (durationMillis > thresholdMillis && logger.isWarnEnabled()) {
+						logger.warn("Asynchronous query callback blocked thread [{}] for {} ms; "
+								+ "run callbacks on a callback executor to keep driver I/O threads responsive",
+								Thread.currentThread().getName(), durationMillis);
+					}
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns whether the given {@link Thread} is a driver I/O thread. The driver names its Netty event loop threads
+	 * {@code <cluster name>-nio-worker-<n>}. Subclasses may override this method to detect I/O threads created by custom
+	 * {@link com.datastax.driver.core.NettyOptions}.
+	 *
+	 * @param thread the {@link Thread} to inspect.
+	 * @return {@literal true} if {@code thread} is a driver I/O thread.
+	 * @since 1.6
+	 */
+	protected boolean isDriverIoThread(Thread thread) {
+		return thread.getName().contains("-nio-worker-");
+	}
+
 	protected Object firstColumnToObject(Row row) {
 
 		Iterator<Definition> columnDefinitions = row.getColumnDefinitions().iterator();
@@ -620,20 +905,15 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return (T) row.getObject(columnDefinition.getName());
 	}
 
+	/**
+	 * Returns a read-only {@link Map} view of the {@link Row} keyed by column name. Column values are decoded on access.
+	 *
+	 * @param row the {@link Row}, may be {@literal null}.
+	 * @return the {@link Map} view of the {@link Row} or {@literal null} if {@code row} is {@literal null}.
+	 * @see RowMap
+	 */
 	protected Map<String, Object> toMap(Row row) {
-
-		Map<String, Object> map = null;
-
-		if (row != null) {
-			ColumnDefinitions columns = row.getColumnDefinitions();
-			map = new HashMap<String, Object>(columns.size());
-
-			for (Definition columnDefinition : columns.asList()) {
-				map.put(columnDefinition.getName(), columnToObject(row, columnDefinition));
-			}
-		}
-
-		return map;
+		return (row != null ? RowMap.of(row) : null);
 	}
 
 	@Override
@@ -672,7 +952,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public Cancellable executeAsynchronously(String cql, Runnable listener) {
-		return executeAsynchronously(cql, listener, RUN_RUNNABLE_EXECUTOR);
+		return executeAsynchronously(cql, listener, getCallbackExecutor());
 	}
 
 	@Override
@@ -686,7 +966,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 				Statement statement = new SimpleStatement(logCql("async execute CQL [{}]", cql));
 
 				ResultSetFuture resultSetFuture = session.executeAsync(statement);
-				resultSetFuture.addListener(listener, executor);
+				resultSetFuture.addListener(monitorCallback(listener), executor);
 
 				return new ResultSetFutureCancellable(resultSetFuture);
 			}
@@ -696,7 +976,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	@Override
 	public Cancellable executeAsynchronously(String cql, AsynchronousQueryListener listener) {
 
-		return executeAsynchronously(cql, listener, RUN_RUNNABLE_EXECUTOR);
+		return executeAsynchronously(cql, listener, getCallbackExecutor());
 	}
 
 	@Override
@@ -719,7 +999,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 					}
 				};
 
-				resultSetFuture.addListener(runnable, executor);
+				resultSetFuture.addListener(monitorCallback(runnable), executor);
 
 				return new ResultSetFutureCancellable(resultSetFuture);
 			}
@@ -733,13 +1013,13 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public Cancellable executeAsynchronously(Statement statement, Runnable listener) {
-		return executeAsynchronously(statement, listener, RUN_RUNNABLE_EXECUTOR);
+		return executeAsynchronously(statement, listener, getCallbackExecutor());
 	}
 
 	@Override
 	public Cancellable executeAsynchronously(Statement statement, AsynchronousQueryListener listener) {
 
-		return executeAsynchronously(statement, listener, RUN_RUNNABLE_EXECUTOR);
+		return executeAsynchronously(statement, listener, getCallbackExecutor());
 	}
 
 	@Override
@@ -754,7 +1034,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 				logDebug("executing [{}]", statement);
 
 				final ResultSetFuture resultSetFuture = session.executeAsync(statement);
-				resultSetFuture.addListener(listener, executor);
+				resultSetFuture.addListener(monitorCallback(listener), executor);
 
 				return new ResultSetFutureCancellable(resultSetFuture);
 			}
@@ -781,7 +1061,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 					}
 				};
 
-				resultSetFuture.addListener(runnable, executor);
+				resultSetFuture.addListener(monitorCallback(runnable), executor);
 
 				return new ResultSetFutureCancellable(resultSetFuture);
 			}
@@ -792,7 +1072,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	public void process(ResultSet resultSet, RowCallbackHandler rowCallbackHandler) {
 
 		try {
-			for (Row row : resultSet.all()) {
+			for (Row row : rows(resultSet)) {
 				rowCallbackHandler.processRow(row);
 			}
 		} catch (DriverException e) {
@@ -805,12 +1085,11 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 		try {
 
-			List<Row> rows = resultSet.all();
-			List<T> mappedRows = new ArrayList<T>(rows.size());
+			List<T> mappedRows = new ArrayList<T>(resultSet.getAvailableWithoutFetching());
 
 			int rowIndex = 0;
 
-			for (Row row : rows) {
+			for (Row row : rows(resultSet)) {
 				mappedRows.add(rowMapper.mapRow(row, rowIndex++));
 			}
 
@@ -877,10 +1156,9 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	@SuppressWarnings("unchecked")
 	public <T> List<T> processList(ResultSet resultSet, Class<T> elementType) {
 
-		List<Row> rows = resultSet.all();
-		List<T> list = new ArrayList<T>(rows.size());
+		List<T> list = new ArrayList<T>(resultSet.getAvailableWithoutFetching());
 
-		for (Row row : rows) {
+		for (Row row : rows(resultSet)) {
 			list.add(elementType.cast(firstColumnToObject(row)));
 		}
 
@@ -890,16 +1168,39 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	@Override
 	public List<Map<String, Object>> processListOfMap(ResultSet resultSet) {
 
-		List<Row> rows = resultSet.all();
-		List<Map<String, Object>> list = new ArrayList<Map<String, Object>>(rows.size());
+		List<Map<String, Object>> list = new ArrayList<Map<String, Object>>(resultSet.getAvailableWithoutFetching());
 
-		for (Row row : rows) {
+		for (Row row : rows(resultSet)) {
 			list.add(toMap(row));
 		}
 
 		return list;
 	}
 
+	/**
+	 * Returns the {@link Row}s of the {@link ResultSet} for iteration page by page. Only the current page is held in
+	 * memory; the next page is fetched once the current page is consumed or, if a
+	 * {@link #setPrefetchThreshold(int) prefetch threshold} is set, asynchronously ahead of time.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @return the {@link Row}s of the {@link ResultSet}.
+	 * @since 1.6
+	 */
+	protected Iterable<Row> rows(final ResultSet resultSet) {
+
+		if (prefetchThreshold <= 0) {
+			return resultSet;
+		}
+
+		return new Iterable<Row>() {
+
+			@Override
+			public Iterator<Row> iterator() {
+				return new PrefetchingRowIterator(resultSet, prefetchThreshold);
+			}
+		};
+	}
+
 	/**
 	 * Attempts to translate the {@link Exception} into a Spring Data {@link Exception}.
 	 *
@@ -965,7 +1266,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public <T> T execute(String cql, PreparedStatementCallback<T> callback) {
-		return execute(new CachedPreparedStatementCreator(logCql(cql)), callback);
+		return execute(new CachedPreparedStatementCreator(logCql(cql), getPreparedStatementCache()), callback);
 	}
 
 	@Override
@@ -1012,8 +1313,8 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	public <T> T query(String cql, PreparedStatementBinder preparedStatementBinder,
 			ResultSetExtractor<T> resultSetExtractor, QueryOptions queryOptions) {
 
-		return query(new CachedPreparedStatementCreator(logCql(cql)), preparedStatementBinder, resultSetExtractor,
-				queryOptions);
+		return query(new CachedPreparedStatementCreator(logCql(cql), getPreparedStatementCache()),
+				preparedStatementBinder, resultSetExtractor, queryOptions);
 	}
 
 	@Override
@@ -1027,7 +1328,8 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	public void query(String cql, PreparedStatementBinder preparedStatementBinder, RowCallbackHandler rowCallbackHandler,
 			QueryOptions queryOptions) {
 
-		query(new CachedPreparedStatementCreator(logCql(cql)), preparedStatementBinder, rowCallbackHandler, queryOptions);
+		query(new CachedPreparedStatementCreator(logCql(cql), getPreparedStatementCache()), preparedStatementBinder,
+				rowCallbackHandler, queryOptions);
 	}
 
 	@Override
@@ -1039,23 +1341,35 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	public <T> List<T> query(String cql, PreparedStatementBinder preparedStatementBinder, RowMapper<T> rowMapper,
 			QueryOptions queryOptions) {
 
-		return query(new CachedPreparedStatementCreator(logCql(cql)), preparedStatementBinder, rowMapper, queryOptions);
+		return query(new CachedPreparedStatementCreator(logCql(cql), getPreparedStatementCache()),
+				preparedStatementBinder, rowMapper, queryOptions);
 	}
 
 	@Override
 	public void ingest(String cql, RowIterator rowIterator, WriteOptions options) {
+		ingest(cql, rowIterator, options, IngestOptions.defaults());
+	}
 
-		CachedPreparedStatementCreator cachedPreparedStatementCreator =
-				new CachedPreparedStatementCreator(logCql(cql));
+	@Override
+	public ListenableFuture<IngestResult> ingest(String cql, RowIterator rowIterator, WriteOptions options,
+			IngestOptions ingestOptions) {
 
-		PreparedStatement preparedStatement = addPreparedStatementOptions(
-				cachedPreparedStatementCreator.createPreparedStatement(getSession()), options);
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(rowIterator, "RowIterator must not be null");
+		Assert.notNull(ingestOptions, "IngestOptions must not be null");
 
-		Session session = getSession();
+		Session session = getExecutionSession();
+		PreparedStatement preparedStatement;
 
-		while (rowIterator.hasNext()) {
-			session.executeAsync(preparedStatement.bind(rowIterator.next()));
+		try {
+			preparedStatement = new CachedPreparedStatementCreator(logCql(cql), getPreparedStatementCache())
+					.createPreparedStatement(session);
+		} catch (DriverException e) {
+			throw translateExceptionIfPossible(e);
 		}
+
+		return new Ingester(session, preparedStatement, options, ingestOptions, getExceptionTranslator(),
+				getCallbackExecutor()).ingest(rowIterator);
 	}
 
 	@Override
@@ -1343,6 +1657,32 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return selectCount(QueryBuilder.select().countAll().from(tableName.toCql()));
 	}
 
+	@Override
+	public long count(CqlIdentifier tableName, ScanOptions scanOptions) {
+		return newTokenRangeScanner(tableName, scanOptions).count();
+	}
+
+	@Override
+	public long scan(CqlIdentifier tableName, ScanOptions scanOptions, RowCallbackHandler rowCallbackHandler) {
+		return newTokenRangeScanner(tableName, scanOptions).scan(rowCallbackHandler);
+	}
+
+	@Override
+	public CloseableIterator<Row> scan(CqlIdentifier tableName, ScanOptions scanOptions) {
+		return newTokenRangeScanner(tableName, scanOptions).iterator();
+	}
+
+	private TokenRangeScanner newTokenRangeScanner(CqlIdentifier tableName, ScanOptions scanOptions) {
+
+		Assert.notNull(tableName, "Table name must not be null");
+		Assert.notNull(scanOptions, "ScanOptions must not be null");
+
+		logDebug("scanning table [{}] by token ranges", tableName);
+
+		return new TokenRangeScanner(getExecutionSession(), getPreparedStatementCache(), tableName, scanOptions,
+				prefetchThreshold, getExceptionTranslator());
+	}
+
 	protected long selectCount(final Select select) {
 
 		return query(select, new ResultSetExtractor<Long>() {
@@ -1427,7 +1767,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public Cancellable queryAsynchronously(Select select, AsynchronousQueryListener listener) {
-		return queryAsynchronously(select, listener, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(select, listener, getCallbackExecutor());
 	}
 
 	@Override
@@ -1451,7 +1791,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 					}
 				};
 
-				resultSetFuture.addListener(wrapper, executor);
+				resultSetFuture.addListener(monitorCallback(wrapper), executor);
 
 				return new ResultSetFutureCancellable(resultSetFuture);
 			}
@@ -1460,7 +1800,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public Cancellable queryAsynchronously(Select select, Runnable listener) {
-		return queryAsynchronously(select, listener, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(select, listener, getCallbackExecutor());
 	}
 
 	@Override
@@ -1474,7 +1814,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 				logDebug("async query [{}]", select);
 
 				ResultSetFuture resultSetFuture = session.executeAsync(select);
-				resultSetFuture.addListener(listener, executor);
+				resultSetFuture.addListener(monitorCallback(listener), executor);
 
 				return new ResultSetFutureCancellable(resultSetFuture);
 			}
@@ -1486,6 +1826,14 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return query(select, RESULT_SET_RETURNING_EXTRACTOR);
 	}
 
+	@Override
+	public ResultSet query(Statement statement) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		return doExecute(statement);
+	}
+
 	@Override
 	public <T> T query(Select select, ResultSetExtractor<T> resultSetExtractor) {
 
@@ -1763,4 +2111,89 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 			throw translateExceptionIfPossible(e);
 		}
 	}
+
+	/**
+	 * {@link Iterator} consuming the {@link Row}s of a {@link ResultSet} page by page that fetches the next page
+	 * asynchronously as soon as the number of rows available without fetching drops to the {@code prefetchThreshold}.
+	 */
+	static class PrefetchingRowIterator implements Iterator<Row> {
+
+		private final ResultSet resultSet;
+		private final int prefetchThreshold;
+
+		PrefetchingRowIterator(ResultSet resultSet, int prefetchThreshold) {
+
+			this.resultSet = resultSet;
+			this.prefetchThreshold = prefetchThreshold;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			// fetchMoreResults() returns the pending fetch if a fetch is in progress
+			if (resultSet.getAvailableWithoutFetching() <= prefetchThreshold && !resultSet.isFullyFetched()) {
+				resultSet.fetchMoreResults();
+			}
+
+			return !resultSet.isExhausted();
+		}
+
+		@Override
+		public Row next() {
+
+			Row row = resultSet.one();
+
+			if (row == null) {
+				throw new NoSuchElementException();
+			}
+
+			return row;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * {@link Session} proxy applying concurrency limiting and execution listening along with the components it was
+	 * created for.
+	 */
+	private static class ExecutionSession {
+
+		private final Session session;
+		private final CqlExecutionListener executionListener;
+		private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+		private final PersistenceExceptionTranslator exceptionTranslator;
+		private final Session proxy;
+
+		ExecutionSession(Session session, CqlExecutionListener executionListener,
+				AdaptiveConcurrencyLimiter concurrencyLimiter, PersistenceExceptionTranslator exceptionTranslator) {
+
+			this.session = session;
+			this.executionListener = executionListener;
+			this.concurrencyLimiter = concurrencyLimiter;
+			this.exceptionTranslator = exceptionTranslator;
+
+			Session proxy = session;
+
+			if (concurrencyLimiter != null) {
+				proxy = ConcurrencyLimitingSession.create(proxy, concurrencyLimiter);
+			}
+
+			if (executionListener != null) {
+				proxy = ExecutionListeningSession.create(proxy, executionListener, exceptionTranslator);
+			}
+
+			this.proxy = proxy;
+		}
+
+		boolean isFor(Session session, CqlExecutionListener executionListener,
+				AdaptiveConcurrencyLimiter concurrencyLimiter, PersistenceExceptionTranslator exceptionTranslator) {
+
+			return this.session == session && this.executionListener == executionListener
+					&& this.concurrencyLimiter == concurrencyLimiter && this.exceptionTranslator == exceptionTranslator;
+		}
+	}
 }
@@ -0,0 +1,449 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * Default {@link PreparedStatementCache} implementation. Caches {@link PreparedStatement}s per {@link Session} and
+ * logged keyspace with the following properties:
+ * <ul>
+ * <li>{@link Session}s are referenced weakly so cached statements of discarded sessions are released.</li>
+ * <li>The number of cached statements per {@link Session} is bounded by {@link #getMaximumSize()}. Exceeding the
+ * bound evicts statements according to the {@link EvictionPolicy}.</li>
+ * <li>Concurrent requests for the same uncached statement are prepared once. Callers waiting for an in-flight
+ * preparation do not hold any lock during the network round trip.</li>
+ * <li>Hit, miss, eviction and prepare-time counters are exposed for monitoring.</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+public class DefaultPreparedStatementCache implements PreparedStatementCache {
+
+	/**
+	 * Default maximum number of cached statements per {@link Session}.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	private static final Logger log = LoggerFactory.getLogger(DefaultPreparedStatementCache.class);
+
+	private final Map<Session, SessionCache> sessionCaches = Collections
+			.synchronizedMap(new WeakHashMap<Session, SessionCache>());
+
+	private final AtomicLong clock = new AtomicLong();
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+	private final AtomicLong prepareTimeNanos = new AtomicLong();
+
+	private final int maximumSize;
+	private final EvictionPolicy evictionPolicy;
+
+	private volatile SessionCache lastSessionCache;
+
+	/**
+	 * Creates a new {@link DefaultPreparedStatementCache} bounded to {@link #DEFAULT_MAXIMUM_SIZE} statements per
+	 * {@link Session} using {@link EvictionPolicy#LRU} eviction.
+	 */
+	public DefaultPreparedStatementCache() {
+		this(DEFAULT_MAXIMUM_SIZE, EvictionPolicy.LRU);
+	}
+
+	/**
+	 * Creates a new {@link DefaultPreparedStatementCache} given {@code maximumSize} and {@link EvictionPolicy}.
+	 *
+	 * @param maximumSize maximum number of cached statements per {@link Session}, must be greater than zero.
+	 * @param evictionPolicy must not be {@literal null}.
+	 */
+	public DefaultPreparedStatementCache(int maximumSize, EvictionPolicy evictionPolicy) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+		Assert.notNull(evictionPolicy, "EvictionPolicy must not be null");
+
+		this.maximumSize = maximumSize;
+		this.evictionPolicy = evictionPolicy;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.PreparedStatementCache#getPreparedStatement(com.datastax.driver.core.Session, java.lang.String)
+	 */
+	@Override
+	public PreparedStatement getPreparedStatement(final Session session, final String cql) throws DriverException {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.hasText(cql, "CQL must not be empty");
+
+		SessionCache sessionCache = getSessionCache(session);
+		ConcurrentMap<String, CacheEntry> statements = sessionCache.getStatements(session.getLoggedKeyspace());
+
+		CacheEntry entry = statements.get(cql);
+
+		if (entry == null) {
+
+			CacheEntry newEntry = new CacheEntry(new FutureTask<PreparedStatement>(new Callable<PreparedStatement>() {
+
+				@Override
+				public PreparedStatement call() {
+					return session.prepare(cql);
+				}
+			}));
+
+			entry = statements.putIfAbsent(cql, newEntry);
+
+			if (entry == null) {
+				return prepare(sessionCache, statements, cql, newEntry);
+			}
+		}
+
+		hitCount.incrementAndGet();
+		entry.touch(clock.incrementAndGet());
+
+		return entry.get();
+	}
+
+	private PreparedStatement prepare(SessionCache sessionCache, ConcurrentMap<String, CacheEntry> statements,
+			String cql, CacheEntry entry) {
+
+		log.debug("No cached PreparedStatement found for [{}], preparing", cql);
+
+		missCount.incrementAndGet();
+		entry.touch(clock.incrementAndGet());
+
+		long start = System.nanoTime();
+
+		try {
+
+			entry.task.run();
+
+			PreparedStatement preparedStatement = entry.get();
+
+			entry.prepared = true;
+			sessionCache.size.incrementAndGet();
+			evictIfNecessary(sessionCache, entry);
+
+			return preparedStatement;
+		} catch (RuntimeException e) {
+
+			statements.remove(cql, entry);
+			throw e;
+		} finally {
+			prepareTimeNanos.addAndGet(System.nanoTime() - start);
+		}
+	}
+
+	private SessionCache getSessionCache(Session session) {
+
+		SessionCache sessionCache = lastSessionCache;
+
+		if (sessionCache != null && sessionCache.session.get() == session) {
+			return sessionCache;
+		}
+
+		synchronized (sessionCaches) {
+
+			sessionCache = sessionCaches.get(session);
+
+			if (sessionCache == null) {
+				sessionCache = new SessionCache(session);
+				sessionCaches.put(session, sessionCache);
+			}
+		}
+
+		lastSessionCache = sessionCache;
+
+		return sessionCache;
+	}
+
+	private void evictIfNecessary(SessionCache sessionCache, CacheEntry retain) {
+
+		if (sessionCache.size.get() <= maximumSize) {
+			return;
+		}
+
+		synchronized (sessionCache) {
+
+			while (sessionCache.size.get() > maximumSize) {
+
+				Map<String, CacheEntry> victimStatements = null;
+				String victimCql = null;
+				CacheEntry victim = null;
+
+				for (Map<String, CacheEntry> statements : sessionCache.keyspaces.values()) {
+					for (Map.Entry<String, CacheEntry> candidate : statements.entrySet()) {
+
+						CacheEntry entry = candidate.getValue();
+
+						if (entry != retain && entry.prepared && (victim == null || evictionPolicy.compare(entry, victim) < 0)) {
+							victimStatements = statements;
+							victimCql = candidate.getKey();
+							victim = entry;
+						}
+					}
+				}
+
+				if (victim == null) {
+					return;
+				}
+
+				if (victimStatements.remove(victimCql, victim)) {
+
+					log.debug("Evicting PreparedStatement [{}]", victimCql);
+
+					sessionCache.size.decrementAndGet();
+					evictionCount.incrementAndGet();
+				}
+			}
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.PreparedStatementCache#invalidate(com.datastax.driver.core.Session)
+	 */
+	@Override
+	public void invalidate(Session session) {
+
+		Assert.notNull(session, "Session must not be null");
+
+		lastSessionCache = null;
+		sessionCaches.remove(session);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.PreparedStatementCache#invalidateAll()
+	 */
+	@Override
+	public void invalidateAll() {
+
+		lastSessionCache = null;
+		sessionCaches.clear();
+	}
+
+	/**
+	 * @return the maximum number of cached statements per {@link Session}.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return the {@link EvictionPolicy}.
+	 */
+	public EvictionPolicy getEvictionPolicy() {
+		return evictionPolicy;
+	}
+
+	/**
+	 * @param session must not be {@literal null}.
+	 * @return the number of cached statements for the given {@link Session}.
+	 */
+	public int size(Session session) {
+
+		Assert.notNull(session, "Session must not be null");
+
+		SessionCache sessionCache = sessionCaches.get(session);
+
+		return (sessionCache != null ? sessionCache.size.get() : 0);
+	}
+
+	/**
+	 * @return the number of requests served by a cached or in-flight {@link PreparedStatement}.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * @return the number of requests that required preparing a statement.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * @return the number of evicted statements.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * Return the accumulated time spent preparing statements.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return the accumulated prepare time in the given {@link TimeUnit}.
+	 */
+	public long getTotalPrepareTime(TimeUnit unit) {
+
+		Assert.notNull(unit, "TimeUnit must not be null");
+
+		return unit.convert(prepareTimeNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Return the average time spent preparing a statement.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return the average prepare time in the given {@link TimeUnit} or zero if no statement was prepared yet.
+	 */
+	public long getAveragePrepareTime(TimeUnit unit) {
+
+		Assert.notNull(unit, "TimeUnit must not be null");
+
+		long misses = missCount.get();
+
+		return (misses == 0 ? 0 : unit.convert(prepareTimeNanos.get() / misses, TimeUnit.NANOSECONDS));
+	}
+
+	/**
+	 * Eviction policies for {@link DefaultPreparedStatementCache}.
+	 */
+	public enum EvictionPolicy {
+
+		/**
+		 * Evict the least recently used statement.
+		 */
+		LRU {
+
+			@Override
+			int compare(CacheEntry left, CacheEntry right) {
+				return compareLongs(left.lastAccess, right.lastAccess);
+			}
+		},
+
+		/**
+		 * Evict the least frequently used statement. Ties are evicted in least recently used order.
+		 */
+		LFU {
+
+			@Override
+			int compare(CacheEntry left, CacheEntry right) {
+
+				int result = compareLongs(left.accessCount.get(), right.accessCount.get());
+
+				return (result != 0 ? result : compareLongs(left.lastAccess, right.lastAccess));
+			}
+		};
+
+		abstract int compare(CacheEntry left, CacheEntry right);
+
+		private static int compareLongs(long left, long right) {
+			return (left < right ? -1 : (left == right ? 0 : 1));
+		}
+	}
+
+	/**
+	 * Statements of a single {@link Session} grouped by logged keyspace.
+	 */
+	private static class SessionCache {
+
+		final WeakReference<Session> session;
+		final ConcurrentMap<String, ConcurrentMap<String, CacheEntry>> keyspaces = new ConcurrentHashMap<String, ConcurrentMap<String, CacheEntry>>();
+		final AtomicInteger size = new AtomicInteger();
+
+		SessionCache(Session session) {
+			this.session = new WeakReference<Session>(session);
+		}
+
+		ConcurrentMap<String, CacheEntry> getStatements(String keyspace) {
+
+			String key = String.valueOf(keyspace);
+			ConcurrentMap<String, CacheEntry> statements = keyspaces.get(key);
+
+			if (statements == null) {
+
+				ConcurrentMap<String, CacheEntry> newStatements = new ConcurrentHashMap<String, CacheEntry>();
+
+				statements = keyspaces.putIfAbsent(key, newStatements);
+
+				if (statements == null) {
+					statements = newStatements;
+				}
+			}
+
+			return statements;
+		}
+	}
+
+	/**
+	 * Cached, potentially in-flight, {@link PreparedStatement} along with access statistics.
+	 */
+	static class CacheEntry {
+
+		final FutureTask<PreparedStatement> task;
+		final AtomicLong accessCount = new AtomicLong();
+		volatile long lastAccess;
+		volatile boolean prepared;
+
+		CacheEntry(FutureTask<PreparedStatement> task) {
+			this.task = task;
+		}
+
+		void touch(long tick) {
+			lastAccess = tick;
+			accessCount.incrementAndGet();
+		}
+
+		PreparedStatement get() {
+
+			boolean interrupted = false;
+
+			try {
+				while (true) {
+					try {
+						return task.get();
+					} catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			} catch (ExecutionException e) {
+
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+
+				if (e.getCause() instanceof Error) {
+					throw (Error) e.getCause();
+				}
+
+				throw new IllegalStateException(e.getCause());
+			} finally {
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.cassandra.core.CqlExecution.StatementKind;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * {@link InvocationHandler} for {@link Session} proxies notifying a {@link CqlExecutionListener} about each
+ * {@code execute} and {@code executeAsync} invocation. Other methods are delegated as-is.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class ExecutionListeningSession implements InvocationHandler {
+
+	private static final Pattern KEYWORD = Pattern.compile("^\\s*(\\w+)");
+
+	private static final Pattern TABLE_NAME = Pattern.compile(
+			"^\\s*(?:SELECT\\b.*?\\bFROM|INSERT\\s+INTO|UPDATE|DELETE\\b.*?\\bFROM|TRUNCATE(?:\\s+TABLE)?)\\s+"
+					+ "((?:\"[^\"]+\"|\\w+)(?:\\.(?:\"[^\"]+\"|\\w+))?)",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+	private final Session session;
+	private final CqlExecutionListener listener;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+
+	private ExecutionListeningSession(Session session, CqlExecutionListener listener,
+			PersistenceExceptionTranslator exceptionTranslator) {
+
+		this.session = session;
+		this.listener = listener;
+		this.exceptionTranslator = exceptionTranslator;
+	}
+
+	/**
+	 * Create a {@link Session} proxy notifying {@link CqlExecutionListener} about statement executions.
+	 *
+	 * @param session the target {@link Session}.
+	 * @param listener the {@link CqlExecutionListener} to notify.
+	 * @param exceptionTranslator translator for failed executions.
+	 * @return the {@link Session} proxy.
+	 */
+	static Session create(Session session, CqlExecutionListener listener,
+			PersistenceExceptionTranslator exceptionTranslator) {
+
+		return (Session) Proxy.newProxyInstance(ExecutionListeningSession.class.getClassLoader(),
+				new Class<?>[] { Session.class }, new ExecutionListeningSession(session, listener, exceptionTranslator));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		// proxies are used as cache keys, compare by proxy identity
+		if (method.getName().equals("equals") && args != null && args.length == 1) {
+			return proxy == args[0];
+		}
+
+		if (method.getName().equals("hashCode") && args == null) {
+			return System.identityHashCode(proxy);
+		}
+
+		if (method.getName().equals("execute") && args != null && args.length > 0) {
+			return execute(method, args);
+		}
+
+		if (method.getName().equals("executeAsync") && args != null && args.length > 0) {
+			return executeAsync(method, args);
+		}
+
+		return invokeTarget(method, args);
+	}
+
+	private Object execute(Method method, Object[] args) throws Throwable {
+
+		long start = System.nanoTime();
+
+		try {
+
+			ResultSet resultSet = (ResultSet) invokeTarget(method, args);
+
+			notifyListener(args[0], false, start, resultSet, null);
+
+			return resultSet;
+		} catch (RuntimeException e) {
+
+			notifyListener(args[0], false, start, null, e);
+			throw e;
+		}
+	}
+
+	private Object executeAsync(Method method, final Object[] args) throws Throwable {
+
+		final long start = System.nanoTime();
+		final ResultSetFuture future;
+
+		try {
+			future = (ResultSetFuture) invokeTarget(method, args);
+		} catch (RuntimeException e) {
+
+			notifyListener(args[0], true, start, null, e);
+			throw e;
+		}
+
+		future.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+					notifyListener(args[0], true, start, Uninterruptibles.getUninterruptibly(future), null);
+				} catch (ExecutionException e) {
+					notifyListener(args[0], true, start, null, e.getCause());
+				} catch (CancellationException e) {
+					notifyListener(args[0], true, start, null, e);
+				}
+			}
+		}, CqlTemplate.RUN_RUNNABLE_EXECUTOR);
+
+		return future;
+	}
+
+	private Object invokeTarget(Method method, Object[] args) throws Throwable {
+
+		try {
+			return method.invoke(session, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private void notifyListener(Object statementOrCql, boolean async, long start, ResultSet resultSet,
+			Throwable failure) {
+
+		long duration = System.nanoTime() - start;
+
+		String cql = getCql(statementOrCql);
+		StatementKind kind = (statementOrCql instanceof BatchStatement ? StatementKind.BATCH : getKind(cql));
+		ConsistencyLevel consistencyLevel = (statementOrCql instanceof Statement
+				? ((Statement) statementOrCql).getConsistencyLevel() : null);
+
+		int rowCount = 0;
+		int pageCount = 0;
+
+		if (resultSet != null) {
+
+			List<ExecutionInfo> executionInfos = resultSet.getAllExecutionInfo();
+
+			rowCount = resultSet.getAvailableWithoutFetching();
+			pageCount = (executionInfos != null ? executionInfos.size() : 1);
+		}
+
+		RuntimeException exception = (failure != null
+				? CqlTemplate.translateExceptionIfPossible(failure, exceptionTranslator) : null);
+
+		listener.onExecution(new CqlExecution(kind, getTableName(statementOrCql, cql), consistencyLevel, async, duration,
+				rowCount, pageCount, exception));
+	}
+
+	private static String getCql(Object statementOrCql) {
+
+		if (statementOrCql instanceof String) {
+			return (String) statementOrCql;
+		}
+
+		if (statementOrCql instanceof BoundStatement) {
+			return ((BoundStatement) statementOrCql).preparedStatement().getQueryString();
+		}
+
+		if (statementOrCql instanceof RegularStatement) {
+			return ((RegularStatement) statementOrCql).getQueryString();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Determine the {@link StatementKind} from the leading keyword of the CQL.
+	 */
+	static StatementKind getKind(String cql) {
+
+		Matcher matcher = (cql != null ? KEYWORD.matcher(cql) : null);
+
+		if (matcher == null || !matcher.find()) {
+			return StatementKind.OTHER;
+		}
+
+		String keyword = matcher.group(1).toUpperCase(Locale.ENGLISH);
+
+		if (keyword.equals("BEGIN")) {
+			return StatementKind.BATCH;
+		}
+
+		if (keyword.equals("CREATE") || keyword.equals("ALTER") || keyword.equals("DROP")) {
+			return StatementKind.SCHEMA;
+		}
+
+		try {
+			return StatementKind.valueOf(keyword);
+		} catch (IllegalArgumentException e) {
+			return StatementKind.OTHER;
+		}
+	}
+
+	private static String getTableName(Object statementOrCql, String cql) {
+
+		if (statementOrCql instanceof BoundStatement) {
+
+			ColumnDefinitions variables = ((BoundStatement) statementOrCql).preparedStatement().getVariables();
+
+			if (variables != null && variables.size() != 0) {
+				return variables.getTable(0);
+			}
+		}
+
+		return getTableName(cql);
+	}
+
+	/**
+	 * Determine the table name of a {@code SELECT}, {@code INSERT}, {@code UPDATE}, {@code DELETE} or {@code TRUNCATE}
+	 * statement.
+	 *
+	 * @return the table name as used in the CQL or {@literal null} if not found.
+	 */
+	static String getTableName(String cql) {
+
+		Matcher matcher = (cql != null ? TABLE_NAME.matcher(cql) : null);
+
+		return (matcher != null && matcher.find() ? matcher.group(1) : null);
+	}
+}
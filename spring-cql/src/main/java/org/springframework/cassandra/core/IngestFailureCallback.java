@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+/**
+ * Callback notified about rows that could not be written during an ingest operation.
+ * <p>
+ * Callbacks are invoked on the {@link CqlTemplate#getCallbackExecutor() callback executor} for rows that failed
+ * asynchronously and on the submitting thread for rows that could not be bound.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see IngestOptions
+ */
+public interface IngestFailureCallback {
+
+	/**
+	 * Called for a row that failed after exhausting all retries.
+	 *
+	 * @param row the bind values of the failed row.
+	 * @param cause the failure cause, translated to a {@link org.springframework.dao.DataAccessException} if possible.
+	 */
+	void onFailure(Object[] row, Throwable cause);
+}
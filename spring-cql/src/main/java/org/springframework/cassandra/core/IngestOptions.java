@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options controlling the flow of {@link CqlOperations#ingest(String, RowIterator, WriteOptions, IngestOptions)
+ * ingest} operations. {@link IngestOptions} limit the number of concurrently executing statements, optionally limit
+ * the rate at which rows are submitted and configure how failed rows are retried and reported. Statement-level options
+ * such as the consistency level are configured through {@link WriteOptions}.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see IngestResult
+ */
+public class IngestOptions {
+
+	/**
+	 * Default number of concurrently executing statements.
+	 */
+	public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+
+	/**
+	 * Default delay in milliseconds before the first retry of a failed row.
+	 */
+	public static final long DEFAULT_RETRY_BACKOFF_MILLIS = 100;
+
+	private static final IngestOptions DEFAULTS = builder().build();
+
+	private final int maxInFlight;
+	private final double rowsPerSecond;
+	private final int maxRetries;
+	private final long retryBackoffMillis;
+	private final IngestFailureCallback failureCallback;
+
+	private IngestOptions(int maxInFlight, double rowsPerSecond, int maxRetries, long retryBackoffMillis,
+			IngestFailureCallback failureCallback) {
+
+		this.maxInFlight = maxInFlight;
+		this.rowsPerSecond = rowsPerSecond;
+		this.maxRetries = maxRetries;
+		this.retryBackoffMillis = retryBackoffMillis;
+		this.failureCallback = failureCallback;
+	}
+
+	/**
+	 * Creates a new {@link IngestOptionsBuilder}.
+	 *
+	 * @return a new {@link IngestOptionsBuilder}.
+	 */
+	public static IngestOptionsBuilder builder() {
+		return new IngestOptionsBuilder();
+	}
+
+	/**
+	 * @return {@link IngestOptions} using {@link #DEFAULT_MAX_IN_FLIGHT}, no rate limit and no retries.
+	 */
+	public static IngestOptions defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * @return the maximum number of concurrently executing statements.
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * @return the maximum number of rows submitted per second or zero if the submission rate is not limited.
+	 */
+	public double getRowsPerSecond() {
+		return rowsPerSecond;
+	}
+
+	/**
+	 * @return {@literal true} if the submission rate is limited.
+	 */
+	public boolean isRateLimited() {
+		return rowsPerSecond > 0;
+	}
+
+	/**
+	 * @return the number of times a failed row is retried before it is reported as failed.
+	 */
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @return the delay in milliseconds before the first retry of a failed row. The delay doubles with each further
+	 *         retry.
+	 */
+	public long getRetryBackoffMillis() {
+		return retryBackoffMillis;
+	}
+
+	/**
+	 * @return the {@link IngestFailureCallback} notified about failed rows, may be {@literal null}.
+	 */
+	public IngestFailureCallback getFailureCallback() {
+		return failureCallback;
+	}
+
+	/**
+	 * Builder for {@link IngestOptions}.
+	 *
+	 * @author Mark Paluch
+	 * @since 1.6
+	 */
+	public static class IngestOptionsBuilder {
+
+		private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+		private double rowsPerSecond;
+		private int maxRetries;
+		private long retryBackoffMillis = DEFAULT_RETRY_BACKOFF_MILLIS;
+		private IngestFailureCallback failureCallback;
+
+		private IngestOptionsBuilder() {}
+
+		/**
+		 * Sets the maximum number of concurrently executing statements. Row submission blocks until a permit is available.
+		 *
+		 * @param maxInFlight must be greater than zero.
+		 * @return {@code this} {@link IngestOptionsBuilder}
+		 */
+		public IngestOptionsBuilder maxInFlight(int maxInFlight) {
+
+			Assert.isTrue(maxInFlight > 0, "Max in-flight must be greater than zero");
+
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+
+		/**
+		 * Limits the number of rows submitted per second.
+		 *
+		 * @param rowsPerSecond must be greater than zero.
+		 * @return {@code this} {@link IngestOptionsBuilder}
+		 */
+		public IngestOptionsBuilder rowsPerSecond(double rowsPerSecond) {
+
+			Assert.isTrue(rowsPerSecond > 0, "Rows per second must be greater than zero");
+
+			this.rowsPerSecond = rowsPerSecond;
+			return this;
+		}
+
+		/**
+		 * Sets the number of times a failed row is retried before it is reported as failed. Only transient failures
+		 * such as timeouts, unavailable replicas and overloaded coordinators are retried. Retries are only safe for
+		 * idempotent statements.
+		 *
+		 * @param maxRetries must not be negative.
+		 * @return {@code this} {@link IngestOptionsBuilder}
+		 */
+		public IngestOptionsBuilder maxRetries(int maxRetries) {
+
+			Assert.isTrue(maxRetries >= 0, "Max retries must not be negative");
+
+			this.maxRetries = maxRetries;
+			return this;
+		}
+
+		/**
+		 * Sets the delay before the first retry of a failed row. The delay doubles with each further retry of the same
+		 * row. A delay of {@literal 0} retries immediately.
+		 *
+		 * @param retryBackoff must not be negative.
+		 * @param timeUnit must not be {@literal null}.
+		 * @return {@code this} {@link IngestOptionsBuilder}
+		 */
+		public IngestOptionsBuilder retryBackoff(long retryBackoff, TimeUnit timeUnit) {
+
+			Assert.isTrue(retryBackoff >= 0, "Retry backoff must not be negative");
+			Assert.notNull(timeUnit, "TimeUnit must not be null");
+
+			this.retryBackoffMillis = timeUnit.toMillis(retryBackoff);
+			return this;
+		}
+
+		/**
+		 * Sets the {@link IngestFailureCallback} notified about rows that failed after exhausting all retries.
+		 *
+		 * @param failureCallback may be {@literal null}.
+		 * @return {@code this} {@link IngestOptionsBuilder}
+		 */
+		public IngestOptionsBuilder failureCallback(IngestFailureCallback failureCallback) {
+
+			this.failureCallback = failureCallback;
+			return this;
+		}
+
+		/**
+		 * Builds new {@link IngestOptions} with the configured values.
+		 *
+		 * @return new {@link IngestOptions} with the configured values
+		 */
+		public IngestOptions build() {
+			return new IngestOptions(maxInFlight, rowsPerSecond, maxRetries, retryBackoffMillis, failureCallback);
+		}
+	}
+}
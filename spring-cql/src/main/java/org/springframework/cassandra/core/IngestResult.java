@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+/**
+ * Outcome of a completed ingest operation.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see CqlOperations#ingest(String, RowIterator, WriteOptions, IngestOptions)
+ */
+public class IngestResult {
+
+	private final long succeeded;
+	private final long failed;
+	private final long retries;
+
+	/**
+	 * Creates a new {@link IngestResult}.
+	 *
+	 * @param succeeded number of successfully written rows.
+	 * @param failed number of rows that failed after exhausting all retries.
+	 * @param retries number of retried executions.
+	 */
+	public IngestResult(long succeeded, long failed, long retries) {
+
+		this.succeeded = succeeded;
+		this.failed = failed;
+		this.retries = retries;
+	}
+
+	/**
+	 * @return the number of successfully written rows.
+	 */
+	public long getSucceeded() {
+		return succeeded;
+	}
+
+	/**
+	 * @return the number of rows that failed after exhausting all retries.
+	 */
+	public long getFailed() {
+		return failed;
+	}
+
+	/**
+	 * @return the number of retried executions.
+	 */
+	public long getRetries() {
+		return retries;
+	}
+
+	/**
+	 * @return the total number of processed rows.
+	 */
+	public long getTotal() {
+		return succeeded + failed;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("IngestResult [succeeded=%d, failed=%d, retries=%d]", succeeded, failed, retries);
+	}
+}
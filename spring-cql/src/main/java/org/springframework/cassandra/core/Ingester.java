@@ -0,0 +1,315 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.BusyConnectionException;
+import com.datastax.driver.core.exceptions.BusyPoolException;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.OverloadedException;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import com.datastax.driver.core.exceptions.UnavailableException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * Ingest engine binding rows provided by a {@link RowIterator} to a {@link PreparedStatement} and executing them
+ * asynchronously. The number of in-flight statements is bounded by {@link IngestOptions#getMaxInFlight()}: the
+ * submitting thread blocks until a permit is released by a completed execution. Rows failing with a transient
+ * error (timeout, unavailable or overloaded) are retried up to {@link IngestOptions#getMaxRetries()} times with an
+ * exponential backoff starting at {@link IngestOptions#getRetryBackoffMillis()}. Failure handling, retries and the
+ * {@link IngestFailureCallback} run on the callback {@link Executor}, not on driver I/O threads.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class Ingester {
+
+	private static final Logger log = LoggerFactory.getLogger(Ingester.class);
+
+	private static final long MAX_RETRY_BACKOFF_MILLIS = 10000;
+
+	private final Session session;
+	private final PreparedStatement preparedStatement;
+	private final WriteOptions writeOptions;
+	private final IngestOptions ingestOptions;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+	private final Executor callbackExecutor;
+
+	private final Semaphore permits;
+	private final RateLimiter rateLimiter;
+
+	private final AtomicLong succeeded = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+
+	// one additional count for the submission phase
+	private final AtomicInteger pending = new AtomicInteger(1);
+
+	private final SettableListenableFuture<IngestResult> completion = new SettableListenableFuture<IngestResult>();
+
+	private ScheduledExecutorService retryScheduler;
+
+	/**
+	 * Creates a new {@link Ingester}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param preparedStatement must not be {@literal null}.
+	 * @param writeOptions may be {@literal null}.
+	 * @param ingestOptions must not be {@literal null}.
+	 * @param exceptionTranslator must not be {@literal null}.
+	 * @param callbackExecutor must not be {@literal null}.
+	 */
+	Ingester(Session session, PreparedStatement preparedStatement, WriteOptions writeOptions,
+			IngestOptions ingestOptions, PersistenceExceptionTranslator exceptionTranslator,
+			Executor callbackExecutor) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(preparedStatement, "PreparedStatement must not be null");
+		Assert.notNull(ingestOptions, "IngestOptions must not be null");
+		Assert.notNull(exceptionTranslator, "PersistenceExceptionTranslator must not be null");
+		Assert.notNull(callbackExecutor, "Callback Executor must not be null");
+
+		this.session = session;
+		this.preparedStatement = preparedStatement;
+		this.writeOptions = writeOptions;
+		this.ingestOptions = ingestOptions;
+		this.exceptionTranslator = exceptionTranslator;
+		this.callbackExecutor = callbackExecutor;
+		this.permits = new Semaphore(ingestOptions.getMaxInFlight());
+		this.rateLimiter = (ingestOptions.isRateLimited() ? RateLimiter.create(ingestOptions.getRowsPerSecond()) : null);
+	}
+
+	/**
+	 * Submit all rows of the {@link RowIterator}. Blocks while the maximum number of statements is in flight and returns
+	 * once all rows are submitted.
+	 *
+	 * @param rowIterator must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completed with the {@link IngestResult} after all submitted statements
+	 *         completed.
+	 */
+	ListenableFuture<IngestResult> ingest(RowIterator rowIterator) {
+
+		Assert.notNull(rowIterator, "RowIterator must not be null");
+
+		try {
+			while (rowIterator.hasNext()) {
+
+				Object[] row = rowIterator.next();
+
+				if (rateLimiter != null) {
+					rateLimiter.acquire();
+				}
+
+				permits.acquireUninterruptibly();
+				pending.incrementAndGet();
+
+				execute(row, 0);
+			}
+		} catch (RuntimeException e) {
+			completion.setException(e);
+		} finally {
+			complete();
+		}
+
+		return completion;
+	}
+
+	private void execute(final Object[] row, final int attempt) {
+
+		final ResultSetFuture future;
+
+		try {
+			future = session.executeAsync(CqlTemplate.addQueryOptions(preparedStatement.bind(row), writeOptions));
+		} catch (RuntimeException e) {
+			onFailure(row, e);
+			return;
+		}
+
+		future.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+					future.getUninterruptibly();
+				} catch (final RuntimeException e) {
+
+					try {
+						callbackExecutor.execute(new Runnable() {
+
+							@Override
+							public void run() {
+								retryOrFail(row, attempt, e);
+							}
+						});
+					} catch (RejectedExecutionException rejected) {
+						onFailure(row, e);
+					}
+					return;
+				}
+
+				succeeded.incrementAndGet();
+				release();
+			}
+		}, CqlTemplate.RUN_RUNNABLE_EXECUTOR);
+	}
+
+	private void retryOrFail(final Object[] row, final int attempt, RuntimeException e) {
+
+		if (attempt >= ingestOptions.getMaxRetries() || !isTransient(e)) {
+			onFailure(row, e);
+			return;
+		}
+
+		long backoff = getRetryBackoffMillis(attempt);
+
+		log.debug("Retrying row in {} ms after failure (attempt {}): {}", backoff, attempt + 1, e.getMessage());
+
+		retries.incrementAndGet();
+
+		Runnable retry = new Runnable() {
+
+			@Override
+			public void run() {
+				execute(row, attempt + 1);
+			}
+		};
+
+		try {
+			if (backoff > 0) {
+				getRetryScheduler().schedule(retry, backoff, TimeUnit.MILLISECONDS);
+			} else {
+				retry.run();
+			}
+		} catch (RuntimeException schedulingException) {
+			onFailure(row, schedulingException);
+		}
+	}
+
+	private long getRetryBackoffMillis(int attempt) {
+
+		long backoff = ingestOptions.getRetryBackoffMillis();
+
+		for (int i = 0; i < attempt && backoff < MAX_RETRY_BACKOFF_MILLIS; i++) {
+			backoff *= 2;
+		}
+
+		return Math.min(backoff, MAX_RETRY_BACKOFF_MILLIS);
+	}
+
+	private synchronized ScheduledExecutorService getRetryScheduler() {
+
+		if (retryScheduler == null) {
+
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+
+				@Override
+				public Thread newThread(Runnable runnable) {
+
+					Thread thread = new Thread(runnable, "cassandra-ingest-retry");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+
+			scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+			retryScheduler = scheduler;
+		}
+
+		return retryScheduler;
+	}
+
+	/**
+	 * Transient failures are timeouts, unavailable replicas and overloaded coordinators or connection pools. Other
+	 * failures, such as syntax or invalid query errors, fail the same way on each attempt and are not retried.
+	 */
+	private static boolean isTransient(Throwable e) {
+
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof OperationTimedOutException || cause instanceof ReadTimeoutException
+					|| cause instanceof WriteTimeoutException || cause instanceof UnavailableException
+					|| cause instanceof OverloadedException || cause instanceof BusyPoolException
+					|| cause instanceof BusyConnectionException) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void onFailure(Object[] row, RuntimeException e) {
+
+		failed.incrementAndGet();
+
+		DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(e);
+		Throwable cause = (translated != null ? translated : e);
+
+		try {
+			if (ingestOptions.getFailureCallback() != null) {
+				ingestOptions.getFailureCallback().onFailure(row, cause);
+			} else {
+				log.warn("Failed to ingest row", cause);
+			}
+		} catch (RuntimeException callbackException) {
+			log.error("IngestFailureCallback failed", callbackException);
+		} finally {
+			release();
+		}
+	}
+
+	private void release() {
+
+		permits.release();
+		complete();
+	}
+
+	private void complete() {
+
+		if (pending.decrementAndGet() == 0) {
+
+			shutdownRetryScheduler();
+			completion.set(new IngestResult(succeeded.get(), failed.get(), retries.get()));
+		}
+	}
+
+	private synchronized void shutdownRetryScheduler() {
+
+		if (retryScheduler != null) {
+			retryScheduler.shutdown();
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies in microseconds. Each power of two is split into four linear buckets so recorded
+ * values are reported with a relative error of at most 25%.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class LatencyHistogram {
+
+	private static final int SUB_BUCKETS = 4;
+
+	private static final int BUCKETS = (64 - 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong sum = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Record a latency.
+	 *
+	 * @param duration the duration, negative values are recorded as zero.
+	 * @param timeUnit the unit of {@code duration}.
+	 */
+	void record(long duration, TimeUnit timeUnit) {
+
+		long micros = Math.max(0, timeUnit.toMicros(duration));
+
+		counts.incrementAndGet(getBucket(micros));
+		sum.addAndGet(micros);
+
+		long currentMax;
+
+		do {
+			currentMax = max.get();
+		} while (micros > currentMax && !max.compareAndSet(currentMax, micros));
+	}
+
+	/**
+	 * @return a copy of the bucket counts.
+	 */
+	long[] getCounts() {
+
+		long[] copy = new long[BUCKETS];
+
+		for (int i = 0; i < BUCKETS; i++) {
+			copy[i] = counts.get(i);
+		}
+
+		return copy;
+	}
+
+	/**
+	 * @return the sum of all recorded latencies in microseconds.
+	 */
+	long getSum() {
+		return sum.get();
+	}
+
+	/**
+	 * @return the maximum recorded latency in microseconds.
+	 */
+	long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Return the upper bound of the bucket containing the given percentile.
+	 *
+	 * @param counts bucket counts obtained from {@link #getCounts()}.
+	 * @param percentile the percentile between {@code 0} and {@code 100}.
+	 * @return the latency in microseconds, zero if no latency was recorded.
+	 */
+	static long getPercentile(long[] counts, double percentile) {
+
+		long total = 0;
+
+		for (long count : counts) {
+			total += count;
+		}
+
+		if (total == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long seen = 0;
+
+		for (int i = 0; i < counts.length; i++) {
+
+			seen += counts[i];
+
+			if (seen >= rank) {
+				return getUpperBound(i);
+			}
+		}
+
+		return getUpperBound(counts.length - 1);
+	}
+
+	static int getBucket(long micros) {
+
+		if (micros < SUB_BUCKETS) {
+			return (int) micros;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		int subBucket = (int) ((micros >>> (exponent - 2)) & (SUB_BUCKETS - 1));
+
+		return (exponent - 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long getUpperBound(int bucket) {
+
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+
+		int exponent = bucket / SUB_BUCKETS + 1;
+		long width = 1L << (exponent - 2);
+
+		return (SUB_BUCKETS + bucket % SUB_BUCKETS) * width + width - 1;
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * Cache of {@link PreparedStatement}s. A {@link PreparedStatementCache} prepares a CQL statement on a cache miss and
+ * returns the cached {@link PreparedStatement} for subsequent requests of the same CQL in the same {@link Session} and
+ * logged keyspace.
+ * <p>
+ * Implementations are required to be thread-safe.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see DefaultPreparedStatementCache
+ * @see CachedPreparedStatementCreator
+ */
+public interface PreparedStatementCache {
+
+	/**
+	 * Return the {@link PreparedStatement} for {@code cql} in the given {@link Session}. Prepares the statement if it is
+	 * not cached yet.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param cql must not be empty or {@literal null}.
+	 * @return the {@link PreparedStatement}.
+	 * @throws DriverException if preparing the statement fails.
+	 */
+	PreparedStatement getPreparedStatement(Session session, String cql) throws DriverException;
+
+	/**
+	 * Remove all cached {@link PreparedStatement}s of the given {@link Session}.
+	 *
+	 * @param session must not be {@literal null}.
+	 */
+	void invalidate(Session session);
+
+	/**
+	 * Remove all cached {@link PreparedStatement}s.
+	 */
+	void invalidateAll();
+}
@@ -18,6 +18,7 @@ package org.springframework.cassandra.core;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 import com.datastax.driver.core.SocketOptions;
 
@@ -42,6 +43,8 @@ public class QueryOptions {
 
 	private Long readTimeout;
 
+	private Boolean idempotent;
+
 	/**
 	 * Creates new {@link QueryOptions}.
 	 */
@@ -242,6 +245,70 @@ public class QueryOptions {
 		return tracing;
 	}
 
+	/**
+	 * Marks statements as idempotent or non-idempotent. Only idempotent statements are retried speculatively by the
+	 * driver's {@link com.datastax.driver.core.policies.SpeculativeExecutionPolicy} and retried on write timeouts.
+	 * Statements are considered non-idempotent unless marked or inferred by the driver for statements built with
+	 * {@link com.datastax.driver.core.querybuilder.QueryBuilder}.
+	 *
+	 * @param idempotent {@literal true} if the statement can be applied multiple times without changing the result.
+	 * @since 1.6
+	 * @see com.datastax.driver.core.Statement#setIdempotent(boolean)
+	 */
+	public void setIdempotent(boolean idempotent) {
+		this.idempotent = idempotent;
+	}
+
+	/**
+	 * @return whether statements are idempotent. May be {@literal null} if not set.
+	 * @since 1.6
+	 */
+	protected Boolean getIdempotent() {
+		return idempotent;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+
+		QueryOptions that = (QueryOptions) obj;
+
+		return ObjectUtils.nullSafeEquals(consistencyLevel, that.consistencyLevel)
+				&& ObjectUtils.nullSafeEquals(driverConsistencyLevel, that.driverConsistencyLevel)
+				&& ObjectUtils.nullSafeEquals(retryPolicy, that.retryPolicy)
+				&& ObjectUtils.nullSafeEquals(driverRetryPolicy, that.driverRetryPolicy)
+				&& ObjectUtils.nullSafeEquals(tracing, that.tracing) && ObjectUtils.nullSafeEquals(fetchSize, that.fetchSize)
+				&& ObjectUtils.nullSafeEquals(readTimeout, that.readTimeout)
+				&& ObjectUtils.nullSafeEquals(idempotent, that.idempotent);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = ObjectUtils.nullSafeHashCode(consistencyLevel);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(driverConsistencyLevel);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(retryPolicy);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(driverRetryPolicy);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(tracing);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(fetchSize);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(readTimeout);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(idempotent);
+		return result;
+	}
+
 	/**
 	 * Builder for {@link QueryOptions}.
 	 *
@@ -261,6 +328,8 @@ public class QueryOptions {
 
 		private Long readTimeout;
 
+		private Boolean idempotent;
+
 		QueryOptionsBuilder() {}
 
 		/**
@@ -394,6 +463,20 @@ public class QueryOptions {
 			return tracing(true);
 		}
 
+		/**
+		 * Marks statements as idempotent or non-idempotent. Only idempotent statements are executed speculatively.
+		 *
+		 * @param idempotent {@literal true} if the statement can be applied multiple times without changing the result.
+		 * @return {@code this} {@link QueryOptionsBuilder}
+		 * @since 1.6
+		 * @see com.datastax.driver.core.Statement#setIdempotent(boolean)
+		 */
+		public QueryOptionsBuilder idempotent(boolean idempotent) {
+
+			this.idempotent = idempotent;
+			return this;
+		}
+
 		/**
 		 * Builds a new {@link QueryOptions} with the configured values.
 		 *
@@ -421,6 +504,10 @@ public class QueryOptions {
 				queryOptions.setTracing(tracing);
 			}
 
+			if (idempotent != null) {
+				queryOptions.setIdempotent(idempotent);
+			}
+
 			return queryOptions;
 		}
 	}
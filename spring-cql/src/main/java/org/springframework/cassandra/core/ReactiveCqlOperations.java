@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import org.reactivestreams.Publisher;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Reactive variant of {@link CqlOperations} returning Reactive Streams {@link Publisher}s. Statements are executed
+ * asynchronously once a {@link org.reactivestreams.Subscriber} signals demand and are executed again for each
+ * subscription. Row-emitting publishers fetch further result pages only on demand so consumers are not flooded with
+ * rows and no thread blocks waiting for Cassandra. Exceptions are translated into Spring's
+ * {@link org.springframework.dao.DataAccessException} hierarchy and signalled through
+ * {@link org.reactivestreams.Subscriber#onError(Throwable)}.
+ * <p>
+ * Requires {@code org.reactivestreams:reactive-streams} on the class path.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see ReactiveCqlTemplate
+ */
+public interface ReactiveCqlOperations {
+
+	/**
+	 * Execute the given CQL and emit whether the statement was applied.
+	 *
+	 * @param cql must not be empty or {@literal null}.
+	 * @return a {@link Publisher} emitting {@link ResultSet#wasApplied()}.
+	 */
+	Publisher<Boolean> execute(String cql);
+
+	/**
+	 * Execute the given {@link Statement} and emit whether the statement was applied.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @return a {@link Publisher} emitting {@link ResultSet#wasApplied()}.
+	 */
+	Publisher<Boolean> execute(Statement statement);
+
+	/**
+	 * Execute the given {@link Statement} and emit the result extracted from its {@link ResultSet}. The
+	 * {@link ResultSetExtractor} is called once with the first result page and should not iterate beyond the rows
+	 * available without fetching as this would block.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param resultSetExtractor must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the extracted result, completing empty if the result is {@literal null}.
+	 */
+	<T> Publisher<T> query(Statement statement, ResultSetExtractor<T> resultSetExtractor);
+
+	/**
+	 * Execute the given CQL and emit the resulting {@link Row}s.
+	 *
+	 * @param cql must not be empty or {@literal null}.
+	 * @return a {@link Publisher} emitting {@link Row}s.
+	 */
+	Publisher<Row> queryForRows(String cql);
+
+	/**
+	 * Execute the given {@link Statement} and emit the resulting {@link Row}s.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @return a {@link Publisher} emitting {@link Row}s.
+	 */
+	Publisher<Row> queryForRows(Statement statement);
+
+	/**
+	 * Execute the given CQL and emit the resulting {@link Row}s mapped by the {@link RowMapper}.
+	 *
+	 * @param cql must not be empty or {@literal null}.
+	 * @param rowMapper must not be {@literal null}.
+	 * @return a {@link Publisher} emitting mapped rows.
+	 */
+	<T> Publisher<T> query(String cql, RowMapper<T> rowMapper);
+
+	/**
+	 * Execute the given {@link Statement} and emit the resulting {@link Row}s mapped by the {@link RowMapper}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param rowMapper must not be {@literal null}.
+	 * @return a {@link Publisher} emitting mapped rows.
+	 */
+	<T> Publisher<T> query(Statement statement, RowMapper<T> rowMapper);
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.Executor;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cassandra.support.CassandraAccessor;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Default implementation of {@link ReactiveCqlOperations} using the asynchronous API of the Cassandra driver.
+ * <p>
+ * Results fetched asynchronously are mapped and emitted on the {@link #setCallbackExecutor(Executor) callback
+ * executor}. <strong>By default, no callback executor is configured and signals arrive on the driver's I/O
+ * threads</strong>: {@link RowMapper}s, {@link ResultSetExtractor}s and {@link org.reactivestreams.Subscriber}s must
+ * not block unless a callback executor is set, otherwise they stall all requests served by the same connection.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see ReactiveCqlOperations
+ */
+public class ReactiveCqlTemplate extends CassandraAccessor implements ReactiveCqlOperations {
+
+	private static final ResultSetExtractor<Boolean> WAS_APPLIED_EXTRACTOR = new ResultSetExtractor<Boolean>() {
+
+		@Override
+		public Boolean extractData(ResultSet resultSet) {
+			return resultSet.wasApplied();
+		}
+	};
+
+	private static final RowMapper<Row> ROW_RETURNING_MAPPER = new RowMapper<Row>() {
+
+		@Override
+		public Row mapRow(Row row, int rowNum) {
+			return row;
+		}
+	};
+
+	private Executor callbackExecutor;
+
+	/**
+	 * Creates an instance of {@link ReactiveCqlTemplate}. A {@link Session} must be set before use.
+	 *
+	 * @see #setSession(Session)
+	 */
+	public ReactiveCqlTemplate() {}
+
+	/**
+	 * Creates an instance of {@link ReactiveCqlTemplate} initialized with the given {@link Session}.
+	 *
+	 * @param session {@link Session} used to interact with Cassandra; must not be {@literal null}.
+	 */
+	public ReactiveCqlTemplate(Session session) {
+		setSession(session);
+	}
+
+	/**
+	 * Set the {@link Executor} to map results and emit signals with once a page was fetched asynchronously. Use an
+	 * executor to keep blocking or expensive {@link RowMapper}s and subscribers off the driver's I/O threads, e.g. a
+	 * {@link BoundedCallbackExecutor}. The executor is not owned by the template and is not shut down by it.
+	 *
+	 * @param callbackExecutor the {@link Executor} to emit signals with, {@literal null} to emit signals on the driver's
+	 *          I/O threads.
+	 */
+	public void setCallbackExecutor(Executor callbackExecutor) {
+		this.callbackExecutor = callbackExecutor;
+	}
+
+	/**
+	 * @return the {@link Executor} to map results and emit signals with.
+	 */
+	public Executor getCallbackExecutor() {
+		return (callbackExecutor != null ? callbackExecutor : CqlTemplate.RUN_RUNNABLE_EXECUTOR);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#execute(java.lang.String)
+	 */
+	@Override
+	public Publisher<Boolean> execute(String cql) {
+		return execute(toStatement(cql));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#execute(com.datastax.driver.core.Statement)
+	 */
+	@Override
+	public Publisher<Boolean> execute(Statement statement) {
+		return query(statement, WAS_APPLIED_EXTRACTOR);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#query(com.datastax.driver.core.Statement, org.springframework.cassandra.core.ResultSetExtractor)
+	 */
+	@Override
+	public <T> Publisher<T> query(Statement statement, ResultSetExtractor<T> resultSetExtractor) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(resultSetExtractor, "ResultSetExtractor must not be null");
+
+		logDebug("reactive execute [{}]", statement);
+
+		return new ResultSetPublisher<T>(getSession(), statement, resultSetExtractor, getExceptionTranslator(),
+				getCallbackExecutor());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#queryForRows(java.lang.String)
+	 */
+	@Override
+	public Publisher<Row> queryForRows(String cql) {
+		return queryForRows(toStatement(cql));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#queryForRows(com.datastax.driver.core.Statement)
+	 */
+	@Override
+	public Publisher<Row> queryForRows(Statement statement) {
+		return query(statement, ROW_RETURNING_MAPPER);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#query(java.lang.String, org.springframework.cassandra.core.RowMapper)
+	 */
+	@Override
+	public <T> Publisher<T> query(String cql, RowMapper<T> rowMapper) {
+		return query(toStatement(cql), rowMapper);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#query(com.datastax.driver.core.Statement, org.springframework.cassandra.core.RowMapper)
+	 */
+	@Override
+	public <T> Publisher<T> query(Statement statement, RowMapper<T> rowMapper) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+
+		logDebug("reactive query [{}]", statement);
+
+		return new RowPublisher<T>(getSession(), statement, rowMapper, getExceptionTranslator(),
+				getCallbackExecutor());
+	}
+
+	private static Statement toStatement(String cql) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+
+		return new SimpleStatement(cql);
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+
+/**
+ * {@link Publisher} executing a {@link Statement} asynchronously and emitting at most one element extracted from the
+ * first page of its {@link ResultSet} by a {@link ResultSetExtractor}. The statement is executed once the first demand
+ * is signalled. {@literal null} results complete the {@link Subscriber} without emitting an element. The
+ * {@link ResultSetExtractor} runs and signals are emitted on the callback {@link Executor}.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class ResultSetPublisher<T> implements Publisher<T> {
+
+	private final Session session;
+	private final Statement statement;
+	private final ResultSetExtractor<T> resultSetExtractor;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+	private final Executor callbackExecutor;
+
+	/**
+	 * Creates a new {@link ResultSetPublisher}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @param resultSetExtractor must not be {@literal null}.
+	 * @param exceptionTranslator must not be {@literal null}.
+	 * @param callbackExecutor must not be {@literal null}.
+	 */
+	ResultSetPublisher(Session session, Statement statement, ResultSetExtractor<T> resultSetExtractor,
+			PersistenceExceptionTranslator exceptionTranslator, Executor callbackExecutor) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(resultSetExtractor, "ResultSetExtractor must not be null");
+		Assert.notNull(exceptionTranslator, "PersistenceExceptionTranslator must not be null");
+		Assert.notNull(callbackExecutor, "Callback Executor must not be null");
+
+		this.session = session;
+		this.statement = statement;
+		this.resultSetExtractor = resultSetExtractor;
+		this.exceptionTranslator = exceptionTranslator;
+		this.callbackExecutor = callbackExecutor;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+	 */
+	@Override
+	public void subscribe(final Subscriber<? super T> subscriber) {
+
+		if (subscriber == null) {
+			throw new NullPointerException("Subscriber must not be null");
+		}
+
+		subscriber.onSubscribe(new Subscription() {
+
+			private final AtomicBoolean started = new AtomicBoolean();
+
+			private volatile boolean cancelled;
+			private volatile ResultSetFuture future;
+
+			@Override
+			public void request(long n) {
+
+				if (!started.compareAndSet(false, true)) {
+					return;
+				}
+
+				if (n <= 0) {
+					subscriber.onError(new IllegalArgumentException(
+							String.format("Requested elements must be positive, was %d", n)));
+					return;
+				}
+
+				try {
+					future = session.executeAsync(statement);
+				} catch (RuntimeException e) {
+					subscriber.onError(CqlTemplate.translateExceptionIfPossible(e, exceptionTranslator));
+					return;
+				}
+
+				future.addListener(new Runnable() {
+
+					@Override
+					public void run() {
+
+						if (cancelled) {
+							return;
+						}
+
+						T result;
+
+						try {
+							result = resultSetExtractor.extractData(future.getUninterruptibly());
+						} catch (RuntimeException e) {
+							subscriber.onError(CqlTemplate.translateExceptionIfPossible(e, exceptionTranslator));
+							return;
+						}
+
+						if (result != null) {
+							subscriber.onNext(result);
+						}
+
+						subscriber.onComplete();
+					}
+				}, callbackExecutor);
+			}
+
+			@Override
+			public void cancel() {
+
+				cancelled = true;
+
+				ResultSetFuture future = this.future;
+
+				if (future != null) {
+					future.cancel(false);
+				}
+			}
+		});
+	}
+}
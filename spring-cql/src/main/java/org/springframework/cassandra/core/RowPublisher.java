@@ -0,0 +1,284 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * {@link Publisher} executing a {@link Statement} asynchronously and emitting its {@link Row}s mapped by a
+ * {@link RowMapper}. The statement is executed once the first demand is signalled. Rows are emitted from the pages
+ * already fetched; the next page is fetched asynchronously only when the current page is drained and the
+ * {@link Subscriber} requested more elements, so no thread blocks on I/O and memory consumption is bounded by the fetch
+ * size. Each {@link Subscriber} executes the statement anew.
+ * <p>
+ * Rows fetched asynchronously are mapped and emitted on the callback {@link Executor}. Rows already available when
+ * demand is signalled are emitted on the thread calling {@link Subscription#request(long)}.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class RowPublisher<T> implements Publisher<T> {
+
+	private final Session session;
+	private final Statement statement;
+	private final RowMapper<T> rowMapper;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+	private final Executor callbackExecutor;
+
+	/**
+	 * Creates a new {@link RowPublisher}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @param rowMapper must not be {@literal null}.
+	 * @param exceptionTranslator must not be {@literal null}.
+	 * @param callbackExecutor must not be {@literal null}.
+	 */
+	RowPublisher(Session session, Statement statement, RowMapper<T> rowMapper,
+			PersistenceExceptionTranslator exceptionTranslator, Executor callbackExecutor) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+		Assert.notNull(exceptionTranslator, "PersistenceExceptionTranslator must not be null");
+		Assert.notNull(callbackExecutor, "Callback Executor must not be null");
+
+		this.session = session;
+		this.statement = statement;
+		this.rowMapper = rowMapper;
+		this.exceptionTranslator = exceptionTranslator;
+		this.callbackExecutor = callbackExecutor;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+	 */
+	@Override
+	public void subscribe(Subscriber<? super T> subscriber) {
+
+		if (subscriber == null) {
+			throw new NullPointerException("Subscriber must not be null");
+		}
+
+		subscriber.onSubscribe(new RowSubscription(subscriber));
+	}
+
+	/**
+	 * {@link Subscription} draining fetched rows according to the requested demand. All signals to the
+	 * {@link Subscriber} are serialized through {@link #drain()}.
+	 */
+	class RowSubscription implements Subscription {
+
+		private final Subscriber<? super T> subscriber;
+
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private final AtomicBoolean started = new AtomicBoolean();
+
+		private volatile ResultSet resultSet;
+		private volatile ListenableFuture<ResultSet> pendingFetch;
+		private volatile Throwable error;
+		private volatile boolean cancelled;
+
+		private boolean done;
+		private int rowNum;
+
+		RowSubscription(Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.reactivestreams.Subscription#request(long)
+		 */
+		@Override
+		public void request(long n) {
+
+			if (n <= 0) {
+				error = new IllegalArgumentException(String.format("Requested elements must be positive, was %d", n));
+				drain();
+				return;
+			}
+
+			addDemand(n);
+
+			if (started.compareAndSet(false, true)) {
+				try {
+					await(session.executeAsync(statement));
+				} catch (RuntimeException e) {
+					error = e;
+				}
+			}
+
+			drain();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.reactivestreams.Subscription#cancel()
+		 */
+		@Override
+		public void cancel() {
+
+			cancelled = true;
+
+			ListenableFuture<ResultSet> pendingFetch = this.pendingFetch;
+
+			if (pendingFetch != null) {
+				pendingFetch.cancel(false);
+			}
+		}
+
+		private void await(final ListenableFuture<ResultSet> future) {
+
+			pendingFetch = future;
+
+			future.addListener(new Runnable() {
+
+				@Override
+				public void run() {
+
+					try {
+						resultSet = Uninterruptibles.getUninterruptibly(future);
+					} catch (ExecutionException e) {
+						error = e.getCause();
+					} catch (RuntimeException e) {
+						error = e;
+					}
+
+					pendingFetch = null;
+					drain();
+				}
+			}, callbackExecutor);
+		}
+
+		private void drain() {
+
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+
+			int missed = 1;
+
+			for (;;) {
+
+				if (cancelled || done) {
+					return;
+				}
+
+				if (error != null) {
+					onError(error);
+					return;
+				}
+
+				ResultSet resultSet = this.resultSet;
+
+				if (resultSet != null && pendingFetch == null) {
+
+					long demand = requested.get();
+					long emitted = 0;
+
+					// never call ResultSet.one() without rows available as it would block on fetching the next page
+					while (emitted != demand && resultSet.getAvailableWithoutFetching() > 0) {
+
+						if (cancelled) {
+							return;
+						}
+
+						T value;
+
+						try {
+							value = rowMapper.mapRow(resultSet.one(), rowNum++);
+						} catch (RuntimeException e) {
+							cancel();
+							onError(e);
+							return;
+						}
+
+						subscriber.onNext(value);
+						emitted++;
+					}
+
+					if (emitted != 0 && demand != Long.MAX_VALUE) {
+						requested.addAndGet(-emitted);
+					}
+
+					if (resultSet.getAvailableWithoutFetching() == 0) {
+
+						if (resultSet.isFullyFetched()) {
+							done = true;
+							subscriber.onComplete();
+							return;
+						}
+
+						if (requested.get() > 0 && !cancelled) {
+							await(resultSet.fetchMoreResults());
+						}
+					}
+				}
+
+				missed = wip.addAndGet(-missed);
+
+				if (missed == 0) {
+					break;
+				}
+			}
+		}
+
+		private void onError(Throwable throwable) {
+
+			done = true;
+			subscriber.onError(CqlTemplate.translateExceptionIfPossible(throwable, exceptionTranslator));
+		}
+
+		private void addDemand(long n) {
+
+			for (;;) {
+
+				long current = requested.get();
+
+				if (current == Long.MAX_VALUE) {
+					return;
+				}
+
+				long next = current + n;
+
+				if (next < 0) {
+					next = Long.MAX_VALUE;
+				}
+
+				if (requested.compareAndSet(current, next)) {
+					return;
+				}
+			}
+		}
+	}
+}
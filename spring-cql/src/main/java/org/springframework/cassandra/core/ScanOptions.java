@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.TokenRange;
+
+/**
+ * Options for full-table scans that split the token ring into ranges and scan these ranges in parallel. Each range is
+ * read with a {@code token(…) > ? AND token(…) <= ?} query so no single query has to scan the whole table.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see CqlOperations#scan(org.springframework.cassandra.core.cql.CqlIdentifier, ScanOptions)
+ */
+public class ScanOptions {
+
+	/**
+	 * Default number of concurrently scanned token ranges.
+	 */
+	public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+	private static final ScanOptions DEFAULTS = builder().build();
+
+	private final int maxConcurrency;
+	private final int splitsPerRange;
+	private final int fetchSize;
+	private final Set<TokenRange> completedRanges;
+	private final TokenRangeListener listener;
+
+	private ScanOptions(int maxConcurrency, int splitsPerRange, int fetchSize, Set<TokenRange> completedRanges,
+			TokenRangeListener listener) {
+
+		this.maxConcurrency = maxConcurrency;
+		this.splitsPerRange = splitsPerRange;
+		this.fetchSize = fetchSize;
+		this.completedRanges = completedRanges;
+		this.listener = listener;
+	}
+
+	/**
+	 * Creates a new {@link ScanOptionsBuilder}.
+	 *
+	 * @return a new {@link ScanOptionsBuilder}.
+	 */
+	public static ScanOptionsBuilder builder() {
+		return new ScanOptionsBuilder();
+	}
+
+	/**
+	 * @return {@link ScanOptions} scanning {@link #DEFAULT_MAX_CONCURRENCY} ranges concurrently without splitting token
+	 *         ranges.
+	 */
+	public static ScanOptions defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * @return the maximum number of concurrently scanned token ranges.
+	 */
+	public int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	/**
+	 * @return the number of sub-ranges each token range of the cluster is split into.
+	 */
+	public int getSplitsPerRange() {
+		return splitsPerRange;
+	}
+
+	/**
+	 * @return the fetch size of range queries or zero to use the driver default.
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * @return token ranges to skip because they were scanned by a previous scan.
+	 */
+	public Set<TokenRange> getCompletedRanges() {
+		return completedRanges;
+	}
+
+	/**
+	 * @return the {@link TokenRangeListener} notified about completed ranges, may be {@literal null}.
+	 */
+	public TokenRangeListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Builder for {@link ScanOptions}.
+	 *
+	 * @author Mark Paluch
+	 * @since 1.6
+	 */
+	public static class ScanOptionsBuilder {
+
+		private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+		private int splitsPerRange = 1;
+		private int fetchSize;
+		private Set<TokenRange> completedRanges = Collections.emptySet();
+		private TokenRangeListener listener;
+
+		private ScanOptionsBuilder() {}
+
+		/**
+		 * Sets the maximum number of concurrently scanned token ranges.
+		 *
+		 * @param maxConcurrency must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder maxConcurrency(int maxConcurrency) {
+
+			Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than zero");
+
+			this.maxConcurrency = maxConcurrency;
+			return this;
+		}
+
+		/**
+		 * Sets the number of sub-ranges each token range of the cluster is split into. Smaller ranges reduce the work per
+		 * query and the amount of work repeated when resuming a scan.
+		 *
+		 * @param splitsPerRange must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder splitsPerRange(int splitsPerRange) {
+
+			Assert.isTrue(splitsPerRange > 0, "Splits per range must be greater than zero");
+
+			this.splitsPerRange = splitsPerRange;
+			return this;
+		}
+
+		/**
+		 * Sets the fetch size of range queries.
+		 *
+		 * @param fetchSize must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder fetchSize(int fetchSize) {
+
+			Assert.isTrue(fetchSize > 0, "Fetch size must be greater than zero");
+
+			this.fetchSize = fetchSize;
+			return this;
+		}
+
+		/**
+		 * Sets token ranges to skip, typically the ranges reported to a {@link TokenRangeListener} by a previous scan that
+		 * did not complete. Ranges must be computed with the same {@link #splitsPerRange(int)} and ring topology.
+		 *
+		 * @param completedRanges must not be {@literal null}.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder completedRanges(Collection<TokenRange> completedRanges) {
+
+			Assert.notNull(completedRanges, "Completed ranges must not be null");
+
+			this.completedRanges = Collections.unmodifiableSet(new HashSet<TokenRange>(completedRanges));
+			return this;
+		}
+
+		/**
+		 * Sets the {@link TokenRangeListener} notified about each completed token range.
+		 *
+		 * @param listener may be {@literal null}.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder listener(TokenRangeListener listener) {
+
+			this.listener = listener;
+			return this;
+		}
+
+		/**
+		 * Builds new {@link ScanOptions} with the configured values.
+		 *
+		 * @return new {@link ScanOptions} with the configured values
+		 */
+		public ScanOptions build() {
+			return new ScanOptions(maxConcurrency, splitsPerRange, fetchSize, completedRanges, listener);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import com.datastax.driver.core.TokenRange;
+
+/**
+ * Listener notified about token ranges completed by a parallel table scan. Completed ranges can be recorded to resume
+ * an interrupted scan using {@link ScanOptions.ScanOptionsBuilder#completedRanges(java.util.Collection)}.
+ * Listeners are called on the thread consuming the scan.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see ScanOptions
+ */
+public interface TokenRangeListener {
+
+	/**
+	 * Called after all rows of the given {@link TokenRange} were processed.
+	 *
+	 * @param range the completed {@link TokenRange}.
+	 * @param rows number of rows in the range.
+	 */
+	void onRangeCompleted(TokenRange range, long rows);
+}
@@ -0,0 +1,524 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.TokenRange;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Scans a table by splitting the token ring into {@link TokenRange}s and querying these ranges in parallel using
+ * {@code token(partition key) > ? AND token(partition key) <= ?} restrictions. Range queries are executed
+ * asynchronously with at most {@link ScanOptions#getMaxConcurrency()} queries in flight. Rows of completed ranges are
+ * consumed on the calling thread in completion order, so no threads are created per scan. Completed ranges are
+ * reported to the {@link TokenRangeListener} configured in {@link ScanOptions}.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class TokenRangeScanner {
+
+	private final Session session;
+	private final PreparedStatementCache preparedStatementCache;
+	private final CqlIdentifier tableName;
+	private final ScanOptions options;
+	private final int prefetchThreshold;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+
+	/**
+	 * Creates a new {@link TokenRangeScanner}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param preparedStatementCache must not be {@literal null}.
+	 * @param tableName must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param prefetchThreshold number of remaining rows of a page that triggers fetching the next page, zero to fetch
+	 *          pages on demand.
+	 * @param exceptionTranslator must not be {@literal null}.
+	 */
+	TokenRangeScanner(Session session, PreparedStatementCache preparedStatementCache, CqlIdentifier tableName,
+			ScanOptions options, int prefetchThreshold, PersistenceExceptionTranslator exceptionTranslator) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(preparedStatementCache, "PreparedStatementCache must not be null");
+		Assert.notNull(tableName, "Table name must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+		Assert.notNull(exceptionTranslator, "PersistenceExceptionTranslator must not be null");
+
+		this.session = session;
+		this.preparedStatementCache = preparedStatementCache;
+		this.tableName = tableName;
+		this.options = options;
+		this.prefetchThreshold = prefetchThreshold;
+		this.exceptionTranslator = exceptionTranslator;
+	}
+
+	/**
+	 * Scan all rows and pass these to the {@link RowCallbackHandler}. Blocks until all ranges are scanned.
+	 *
+	 * @param rowCallbackHandler must not be {@literal null}.
+	 * @return the number of processed rows.
+	 */
+	long scan(final RowCallbackHandler rowCallbackHandler) {
+
+		Assert.notNull(rowCallbackHandler, "RowCallbackHandler must not be null");
+
+		return execute("*", new RangeCallback() {
+
+			@Override
+			public long doWithRange(ResultSet resultSet) {
+
+				long rows = 0;
+
+				for (Iterator<Row> iterator = rows(resultSet); iterator.hasNext();) {
+					rowCallbackHandler.processRow(iterator.next());
+					rows++;
+				}
+
+				return rows;
+			}
+		});
+	}
+
+	/**
+	 * Count all rows by summing up per-range counts. Blocks until all ranges are counted.
+	 *
+	 * @return the number of rows.
+	 */
+	long count() {
+
+		return execute("count(*)", new RangeCallback() {
+
+			@Override
+			public long doWithRange(ResultSet resultSet) {
+
+				Row row = resultSet.one();
+				return (row != null ? row.getLong(0) : 0);
+			}
+		});
+	}
+
+	/**
+	 * Return a {@link CloseableIterator} over the merged rows of all ranges. Range queries are executed ahead of
+	 * consumption; the rows of a range are fetched page by page while iterating. Closing the iterator cancels the
+	 * remaining range queries.
+	 *
+	 * @return a {@link CloseableIterator} over the scanned rows.
+	 */
+	CloseableIterator<Row> iterator() {
+
+		Map<TokenRange, Boolean> ranges = getTokenRanges();
+
+		if (ranges.isEmpty()) {
+			return new RangeRowIterator(new RangeQueries(session, Collections.<RangeStatement> emptyList().iterator(), 1));
+		}
+
+		return new RangeRowIterator(newRangeQueries("*", ranges));
+	}
+
+	/**
+	 * Compute the {@link TokenRange}s to scan by splitting the token ranges of the cluster according to
+	 * {@link ScanOptions#getSplitsPerRange()} and unwrapping ranges that wrap around the end of the ring. Ranges listed
+	 * in {@link ScanOptions#getCompletedRanges()} are skipped.
+	 *
+	 * @return the ranges to scan mapped to {@literal true} if the range extends to the end of the ring.
+	 */
+	Map<TokenRange, Boolean> getTokenRanges() {
+
+		Map<TokenRange, Boolean> ranges = new LinkedHashMap<TokenRange, Boolean>();
+
+		for (TokenRange range : session.getCluster().getMetadata().getTokenRanges()) {
+
+			List<TokenRange> splits = (options.getSplitsPerRange() > 1 ? range.splitEvenly(options.getSplitsPerRange())
+					: Collections.singletonList(range));
+
+			for (TokenRange split : splits) {
+				for (TokenRange part : split.unwrap()) {
+
+					if (!part.isEmpty() && !options.getCompletedRanges().contains(part)) {
+
+						// unwrapped ranges ending before their start end at the minimum token, i.e. the end of the ring
+						ranges.put(part, part.getEnd().compareTo(part.getStart()) <= 0);
+					}
+				}
+			}
+		}
+
+		return ranges;
+	}
+
+	private long execute(String selection, RangeCallback callback) {
+
+		Map<TokenRange, Boolean> ranges = getTokenRanges();
+
+		if (ranges.isEmpty()) {
+			return 0;
+		}
+
+		RangeQueries queries = newRangeQueries(selection, ranges);
+
+		try {
+
+			long total = 0;
+			RangeQuery query;
+
+			while ((query = queries.next()) != null) {
+
+				long rows = callback.doWithRange(query.getResultSet());
+
+				onRangeCompleted(query.getRange(), rows);
+				total += rows;
+			}
+
+			return total;
+		} catch (RuntimeException e) {
+			throw translate(e);
+		} finally {
+			queries.close();
+		}
+	}
+
+	private RangeQueries newRangeQueries(String selection, Map<TokenRange, Boolean> ranges) {
+
+		PreparedStatement boundedQuery;
+		PreparedStatement openEndedQuery;
+
+		try {
+			String partitionKey = getPartitionKey();
+
+			boundedQuery = preparedStatementCache.getPreparedStatement(session,
+					String.format("SELECT %s FROM %s WHERE token(%s) > ? AND token(%s) <= ?", selection, tableName.toCql(),
+							partitionKey, partitionKey));
+			openEndedQuery = preparedStatementCache.getPreparedStatement(session,
+					String.format("SELECT %s FROM %s WHERE token(%s) > ?", selection, tableName.toCql(), partitionKey));
+		} catch (RuntimeException e) {
+			throw translate(e);
+		}
+
+		List<RangeStatement> statements = new ArrayList<RangeStatement>(ranges.size());
+
+		for (Entry<TokenRange, Boolean> entry : ranges.entrySet()) {
+
+			TokenRange range = entry.getKey();
+			Statement statement = (entry.getValue() ? openEndedQuery.bind().setToken(0, range.getStart())
+					: boundedQuery.bind().setToken(0, range.getStart()).setToken(1, range.getEnd()));
+
+			if (options.getFetchSize() > 0) {
+				statement.setFetchSize(options.getFetchSize());
+			}
+
+			statements.add(new RangeStatement(range, statement));
+		}
+
+		return new RangeQueries(session, statements.iterator(), options.getMaxConcurrency());
+	}
+
+	private Iterator<Row> rows(ResultSet resultSet) {
+		return (prefetchThreshold > 0 ? new CqlTemplate.PrefetchingRowIterator(resultSet, prefetchThreshold)
+				: resultSet.iterator());
+	}
+
+	private void onRangeCompleted(TokenRange range, long rows) {
+
+		if (options.getListener() != null) {
+			options.getListener().onRangeCompleted(range, rows);
+		}
+	}
+
+	private String getPartitionKey() {
+
+		String keyspace = session.getLoggedKeyspace();
+
+		if (!StringUtils.hasText(keyspace)) {
+			throw new InvalidDataAccessApiUsageException("Session is not bound to a keyspace");
+		}
+
+		KeyspaceMetadata keyspaceMetadata = session.getCluster().getMetadata().getKeyspace(keyspace);
+		TableMetadata table = (keyspaceMetadata != null ? keyspaceMetadata.getTable(tableName.toCql()) : null);
+
+		if (table == null) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Table [%s] not found in keyspace [%s]", tableName.toCql(), keyspace));
+		}
+
+		List<String> columns = new ArrayList<String>();
+
+		for (ColumnMetadata column : table.getPartitionKey()) {
+			columns.add(Metadata.quoteIfNecessary(column.getName()));
+		}
+
+		return StringUtils.collectionToCommaDelimitedString(columns);
+	}
+
+	private RuntimeException translate(RuntimeException e) {
+
+		DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(e);
+
+		return (translated != null ? translated : e);
+	}
+
+	/**
+	 * Callback to process the {@link ResultSet} of a single range query.
+	 */
+	private interface RangeCallback {
+
+		/**
+		 * @param resultSet the {@link ResultSet} of the range query.
+		 * @return the number of rows in the range.
+		 */
+		long doWithRange(ResultSet resultSet);
+	}
+
+	/**
+	 * Value object associating a {@link TokenRange} with the {@link Statement} querying it.
+	 */
+	static class RangeStatement {
+
+		private final TokenRange range;
+		private final Statement statement;
+
+		RangeStatement(TokenRange range, Statement statement) {
+
+			this.range = range;
+			this.statement = statement;
+		}
+	}
+
+	/**
+	 * A range query in flight.
+	 */
+	static class RangeQuery {
+
+		private final TokenRange range;
+		private final ResultSetFuture future;
+
+		RangeQuery(TokenRange range, ResultSetFuture future) {
+
+			this.range = range;
+			this.future = future;
+		}
+
+		TokenRange getRange() {
+			return range;
+		}
+
+		ResultSet getResultSet() {
+			return future.getUninterruptibly();
+		}
+	}
+
+	/**
+	 * Executes range queries asynchronously keeping at most {@code maxConcurrency} queries in flight. Completed queries
+	 * are handed out in completion order; the next query is started as soon as a completed one is handed out. Not
+	 * thread-safe, intended to be driven by a single consuming thread.
+	 */
+	static class RangeQueries {
+
+		private final Session session;
+		private final Iterator<RangeStatement> statements;
+		private final int maxConcurrency;
+		private final BlockingQueue<RangeQuery> completed = new LinkedBlockingQueue<RangeQuery>();
+		private final List<RangeQuery> started = new ArrayList<RangeQuery>();
+
+		private int inFlight;
+		private boolean closed;
+
+		RangeQueries(Session session, Iterator<RangeStatement> statements, int maxConcurrency) {
+
+			this.session = session;
+			this.statements = statements;
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		/**
+		 * @return the next completed {@link RangeQuery} or {@literal null} if all queries were handed out.
+		 */
+		RangeQuery next() {
+
+			if (closed) {
+				return null;
+			}
+
+			submit();
+
+			if (inFlight == 0) {
+				return null;
+			}
+
+			RangeQuery query = Uninterruptibles.takeUninterruptibly(completed);
+
+			inFlight--;
+			started.remove(query);
+
+			// keep the window full while the caller consumes the completed range
+			submit();
+
+			return query;
+		}
+
+		/**
+		 * Cancel all queries in flight and stop submitting queries.
+		 */
+		void close() {
+
+			closed = true;
+
+			for (RangeQuery query : started) {
+				query.future.cancel(true);
+			}
+
+			started.clear();
+		}
+
+		private void submit() {
+
+			while (!closed && inFlight < maxConcurrency && statements.hasNext()) {
+
+				RangeStatement statement = statements.next();
+				final RangeQuery query = new RangeQuery(statement.range, session.executeAsync(statement.statement));
+
+				started.add(query);
+				inFlight++;
+
+				query.future.addListener(new Runnable() {
+
+					@Override
+					public void run() {
+						completed.add(query);
+					}
+				}, CqlTemplate.RUN_RUNNABLE_EXECUTOR);
+			}
+		}
+	}
+
+	/**
+	 * {@link CloseableIterator} over the rows of completed range queries.
+	 */
+	class RangeRowIterator implements CloseableIterator<Row> {
+
+		private final RangeQueries queries;
+
+		private RangeQuery query;
+
+		private Iterator<Row> rows = Collections.<Row> emptyList().iterator();
+
+		private long rowsInRange;
+
+		private boolean closed;
+
+		RangeRowIterator(RangeQueries queries) {
+			this.queries = queries;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+
+			if (closed) {
+				return false;
+			}
+
+			try {
+				while (!rows.hasNext()) {
+
+					if (query != null) {
+						onRangeCompleted(query.getRange(), rowsInRange);
+						query = null;
+					}
+
+					query = queries.next();
+
+					if (query == null) {
+						close();
+						return false;
+					}
+
+					rows = rows(query.getResultSet());
+					rowsInRange = 0;
+				}
+
+				return true;
+			} catch (RuntimeException e) {
+
+				close();
+				throw translate(e);
+			}
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Row next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more rows");
+			}
+
+			rowsInRange++;
+
+			return rows.next();
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("Remove is not supported");
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.util.CloseableIterator#close()
+		 */
+		@Override
+		public void close() {
+
+			closed = true;
+			queries.close();
+		}
+	}
+}
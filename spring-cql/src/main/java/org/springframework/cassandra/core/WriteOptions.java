@@ -17,6 +17,8 @@ package org.springframework.cassandra.core;
 
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.util.ObjectUtils;
+
 /**
  * Cassandra Write Options are an extension to {@link QueryOptions} for write operations. {@link WriteOptions}allow
  * tuning of various query options on a per-request level. Only options that are set are applied to queries.
@@ -82,6 +84,22 @@ public class WriteOptions extends QueryOptions {
 		this.ttl = ttl;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.QueryOptions#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		return super.equals(obj) && ObjectUtils.nullSafeEquals(ttl, ((WriteOptions) obj).ttl);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.QueryOptions#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + ObjectUtils.nullSafeHashCode(ttl);
+	}
+
 	/**
 	 * Builder for {@link QueryOptions}.
 	 *
@@ -166,6 +184,15 @@ public class WriteOptions extends QueryOptions {
 			return (WriteOptionsBuilder) super.withTracing();
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.cassandra.core.QueryOptions.QueryOptionsBuilder#idempotent(boolean)
+		 */
+		@Override
+		public WriteOptionsBuilder idempotent(boolean idempotent) {
+			return (WriteOptionsBuilder) super.idempotent(idempotent);
+		}
+
 		/**
 		 * Sets the time to live for write operations.
 		 *
@@ -15,18 +15,16 @@
  */
 package org.springframework.cassandra.core.converter;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.cassandra.core.support.RowMap;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.ReadingConverter;
 
-import com.datastax.driver.core.ColumnDefinitions;
-import com.datastax.driver.core.ColumnDefinitions.Definition;
 import com.datastax.driver.core.Row;
 
 /**
- * Converter to convert {@link Row}s to a {@link Map} of {@link String}/{@link Object} representation.
+ * Converter to convert {@link Row}s to a read-only {@link Map} of {@link String}/{@link Object} representation.
  *
  * @author Matthew T. Adams
  * @author David Webb
@@ -45,16 +43,6 @@ public class RowToMapConverter implements Converter<Row, Map<String, Object>> {
 			return null;
 		}
 
-		ColumnDefinitions cols = row.getColumnDefinitions();
-		Map<String, Object> map = new HashMap<String, Object>(cols.size());
-
-		for (Definition def : cols.asList()) {
-
-			String name = def.getName();
-
-			map.put(name, row.isNull(name) ? null : row.getObject(name));
-		}
-
-		return map;
+		return RowMap.nullSafe(row);
 	}
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core.support;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnDefinitions.Definition;
+
+/**
+ * Column name to column index table for a {@link ColumnDefinitions} instance. All rows of a result set share the same
+ * {@link ColumnDefinitions}, as do result sets of a prepared statement whose result metadata is not re-sent, so the
+ * table is computed once per {@link ColumnDefinitions} instance and shared. {@link ColumnDefinitions} instances are
+ * held weakly. Tables are immutable and can be used concurrently without synchronization.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+public class ColumnIndex {
+
+	private static final Map<ColumnDefinitions, ColumnIndex> INDEXES = new ConcurrentReferenceHashMap<ColumnDefinitions, ColumnIndex>(
+			16, ReferenceType.WEAK);
+
+	private final String[] columnNames;
+	private final Map<String, Integer> caseInsensitivePositions;
+
+	final String[] names;
+	final int[] indexes;
+	final Map<String, Integer> positions;
+
+	private ColumnIndex(ColumnDefinitions columnDefinitions) {
+
+		List<Definition> definitions = columnDefinitions.asList();
+		Map<String, Integer> positions = new LinkedHashMap<String, Integer>(definitions.size());
+		Map<String, Integer> caseInsensitivePositions = new HashMap<String, Integer>(definitions.size());
+
+		this.columnNames = new String[definitions.size()];
+
+		for (int i = 0; i < definitions.size(); i++) {
+
+			String name = definitions.get(i).getName();
+			String lowerCaseName = name.toLowerCase(Locale.ROOT);
+
+			columnNames[i] = name;
+			positions.put(name, i);
+
+			if (!caseInsensitivePositions.containsKey(lowerCaseName)) {
+				caseInsensitivePositions.put(lowerCaseName, i);
+			}
+		}
+
+		this.names = new String[positions.size()];
+		this.indexes = new int[positions.size()];
+		this.positions = positions;
+		this.caseInsensitivePositions = caseInsensitivePositions;
+
+		int i = 0;
+
+		for (Entry<String, Integer> entry : positions.entrySet()) {
+			names[i] = entry.getKey();
+			indexes[i] = entry.getValue();
+			i++;
+		}
+	}
+
+	/**
+	 * Returns the {@link ColumnIndex} for the given {@link ColumnDefinitions}. The table is computed on first access
+	 * and shared for subsequent calls with the same {@link ColumnDefinitions} instance.
+	 *
+	 * @param columnDefinitions must not be {@literal null}.
+	 * @return the {@link ColumnIndex} for {@link ColumnDefinitions}.
+	 */
+	public static ColumnIndex of(ColumnDefinitions columnDefinitions) {
+
+		Assert.notNull(columnDefinitions, "ColumnDefinitions must not be null");
+
+		ColumnIndex index = INDEXES.get(columnDefinitions);
+
+		if (index == null) {
+			index = new ColumnIndex(columnDefinitions);
+			INDEXES.put(columnDefinitions, index);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Returns the index of the first column matching the CQL column {@code name}. Names are matched case-insensitively
+	 * unless enclosed in double quotes, as by {@link ColumnDefinitions#getIndexOf(String)}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return the column index or {@literal -1} if the column is not part of the {@link ColumnDefinitions}.
+	 */
+	public int indexOf(String name) {
+
+		Assert.notNull(name, "Name must not be null");
+
+		if (name.length() >= 2 && name.charAt(0) == '"' && name.charAt(name.length() - 1) == '"') {
+
+			String caseSensitiveName = name.substring(1, name.length() - 1);
+
+			for (int i = 0; i < columnNames.length; i++) {
+				if (columnNames[i].equals(caseSensitiveName)) {
+					return i;
+				}
+			}
+
+			return -1;
+		}
+
+		Integer index = caseInsensitivePositions.get(name.toLowerCase(Locale.ROOT));
+
+		return (index != null ? index : -1);
+	}
+
+	/**
+	 * @return the number of columns.
+	 */
+	public int size() {
+		return columnNames.length;
+	}
+}
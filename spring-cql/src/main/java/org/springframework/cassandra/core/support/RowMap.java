@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core.support;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+/**
+ * Read-only {@link Map} view of a {@link Row} keyed by column name. The column name to index table is the
+ * {@link ColumnIndex} of the {@link ColumnDefinitions} and shared by all rows of a result. Column values are decoded on access, so a
+ * {@link RowMap} does not copy the {@link Row}.
+ * <p>
+ * Duplicate column names resolve to the last column with that name.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+public class RowMap extends AbstractMap<String, Object> {
+
+	private final Row row;
+	private final ColumnIndex index;
+	private final boolean nullColumnsAsNull;
+
+	private RowMap(Row row, boolean nullColumnsAsNull) {
+
+		Assert.notNull(row, "Row must not be null");
+
+		this.row = row;
+		this.index = ColumnIndex.of(row.getColumnDefinitions());
+		this.nullColumnsAsNull = nullColumnsAsNull;
+	}
+
+	/**
+	 * Create a {@link RowMap} for the given {@link Row} that returns column values as {@link Row#getObject(int)} does.
+	 * {@literal null} collection columns are represented as empty collections.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @return the {@link RowMap} for {@link Row}.
+	 */
+	public static RowMap of(Row row) {
+		return new RowMap(row, false);
+	}
+
+	/**
+	 * Create a {@link RowMap} for the given {@link Row} that returns {@literal null} for all {@literal null} columns
+	 * including collection columns.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @return the {@link RowMap} for {@link Row}.
+	 */
+	public static RowMap nullSafe(Row row) {
+		return new RowMap(row, true);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#get(java.lang.Object)
+	 */
+	@Override
+	public Object get(Object key) {
+
+		Integer position = index.positions.get(key);
+
+		return (position != null ? getValue(position) : null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return index.positions.containsKey(key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#size()
+	 */
+	@Override
+	public int size() {
+		return index.names.length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#entrySet()
+	 */
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+
+		return new AbstractSet<Entry<String, Object>>() {
+
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+
+				return new Iterator<Entry<String, Object>>() {
+
+					private int cursor;
+
+					@Override
+					public boolean hasNext() {
+						return cursor < index.names.length;
+					}
+
+					@Override
+					public Entry<String, Object> next() {
+
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+
+						Entry<String, Object> entry = new SimpleImmutableEntry<String, Object>(index.names[cursor],
+								getValue(index.indexes[cursor]));
+
+						cursor++;
+
+						return entry;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return index.names.length;
+			}
+		};
+	}
+
+	private Object getValue(int position) {
+		return (nullColumnsAsNull && row.isNull(position) ? null : row.getObject(position));
+	}
+}
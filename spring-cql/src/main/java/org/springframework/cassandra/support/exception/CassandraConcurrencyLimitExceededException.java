@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.support.exception;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Spring data access exception for a Cassandra statement that was rejected because the concurrency limit was reached.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+public class CassandraConcurrencyLimitExceededException extends TransientDataAccessResourceException {
+
+	private static final long serialVersionUID = -3917823580364128462L;
+
+	private final int limit;
+
+	public CassandraConcurrencyLimitExceededException(int limit, String message) {
+		super(message);
+		this.limit = limit;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.cassandra.support.CassandraExceptionTranslator;
+import org.springframework.cassandra.support.exception.CassandraConcurrencyLimitExceededException;
+import org.springframework.cassandra.support.exception.CassandraReadTimeoutException;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+
+/**
+ * Unit tests for {@link AdaptiveConcurrencyLimiter} and {@link ConcurrencyLimitingSession}.
+ *
+ * @author Mark Paluch
+ */
+public class AdaptiveConcurrencyLimiterUnitTests {
+
+	AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().initialLimit(2).maxLimit(3)
+			.latencyThreshold(1, TimeUnit.SECONDS).build();
+
+	@Test
+	public void shouldRejectExecutionsExceedingLimit() {
+
+		limiter.acquire();
+		limiter.acquire();
+
+		try {
+			limiter.acquire();
+			fail("Missing CassandraConcurrencyLimitExceededException");
+		} catch (CassandraConcurrencyLimitExceededException e) {
+			assertThat(e.getLimit()).isEqualTo(2);
+		}
+
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+		assertThat(limiter.getRejectedCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldIncreaseLimitWhileUtilized() {
+
+		limiter.acquire();
+		limiter.release(TimeUnit.MILLISECONDS.toNanos(1), null);
+
+		assertThat(limiter.getLimit()).isEqualTo(3);
+
+		limiter.acquire();
+		limiter.acquire();
+		limiter.release(TimeUnit.MILLISECONDS.toNanos(1), null);
+
+		assertThat(limiter.getLimit()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldDecreaseLimitOnSlowExecution() {
+
+		limiter.acquire();
+		limiter.release(TimeUnit.SECONDS.toNanos(2), null);
+
+		assertThat(limiter.getLimit()).isEqualTo(1);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	public void shouldDecreaseLimitOnOverload() {
+
+		limiter.acquire();
+		limiter.release(0, new ReadTimeoutException(ConsistencyLevel.ONE, 0, 1, false));
+
+		assertThat(limiter.getLimit()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldDecreaseLimitOncePerBurst() {
+
+		AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().initialLimit(10).maxLimit(20)
+				.latencyThreshold(1, TimeUnit.SECONDS).build();
+
+		for (int i = 0; i < 3; i++) {
+			limiter.acquire();
+		}
+
+		for (int i = 0; i < 3; i++) {
+			limiter.release(0, new ReadTimeoutException(ConsistencyLevel.ONE, 0, 1, false));
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(9);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	public void shouldWaitForPermit() throws Exception {
+
+		final AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().initialLimit(1).maxLimit(1)
+				.maxWait(5, TimeUnit.SECONDS).build();
+
+		limiter.acquire();
+
+		Thread thread = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				limiter.release(0, null);
+			}
+		});
+
+		thread.start();
+		limiter.acquire();
+		thread.join();
+
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+		assertThat(limiter.getRejectedCount()).isZero();
+	}
+
+	@Test
+	public void templateShouldReleasePermitAfterExecution() {
+
+		Session session = mock(Session.class);
+		when(session.execute(any(Statement.class))).thenReturn(mock(ResultSet.class));
+
+		CqlTemplate template = new CqlTemplate(session);
+		template.setConcurrencyLimiter(limiter);
+
+		template.execute("SELECT * FROM person");
+
+		assertThat(limiter.getInFlight()).isZero();
+		assertThat(limiter.getLimit()).isEqualTo(3);
+	}
+
+	@Test
+	public void templateShouldReleasePermitAfterFailure() {
+
+		Session session = mock(Session.class);
+		when(session.execute(any(Statement.class))).thenThrow(new ReadTimeoutException(ConsistencyLevel.ONE, 0, 1, false));
+
+		CqlTemplate template = new CqlTemplate(session);
+		template.setExceptionTranslator(new CassandraExceptionTranslator());
+		template.setConcurrencyLimiter(limiter);
+
+		try {
+			template.execute("SELECT * FROM person");
+			fail("Missing CassandraReadTimeoutException");
+		} catch (CassandraReadTimeoutException e) {
+			assertThat(limiter.getInFlight()).isZero();
+			assertThat(limiter.getLimit()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	public void templateShouldReuseLimitingSessionForPreparedStatementCache() {
+
+		Session session = mock(Session.class);
+		when(session.prepare("SELECT * FROM person")).thenReturn(mock(PreparedStatement.class));
+
+		CqlTemplate template = new CqlTemplate(session);
+		template.setConcurrencyLimiter(limiter);
+
+		final PreparedStatementCache cache = new DefaultPreparedStatementCache();
+		SessionCallback<PreparedStatement> prepare = new SessionCallback<PreparedStatement>() {
+
+			@Override
+			public PreparedStatement doInSession(Session session) {
+				return cache.getPreparedStatement(session, "SELECT * FROM person");
+			}
+		};
+
+		template.execute(prepare);
+		template.execute(prepare);
+
+		verify(session, times(1)).prepare("SELECT * FROM person");
+	}
+}
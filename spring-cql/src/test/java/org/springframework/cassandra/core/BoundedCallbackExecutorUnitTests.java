@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BoundedCallbackExecutor}.
+ *
+ * @author Mark Paluch
+ */
+public class BoundedCallbackExecutorUnitTests {
+
+	BoundedCallbackExecutor executor = new BoundedCallbackExecutor(1, 1);
+
+	@After
+	public void tearDown() {
+		executor.destroy();
+	}
+
+	@Test
+	public void shouldRunCallbackOnCallbackThread() throws Exception {
+
+		final AtomicBoolean callbackThread = new AtomicBoolean();
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		executor.execute(new Runnable() {
+
+			@Override
+			public void run() {
+				callbackThread.set(BoundedCallbackExecutor.isCallbackThread());
+				latch.countDown();
+			}
+		});
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(callbackThread.get()).isTrue();
+		assertThat(BoundedCallbackExecutor.isCallbackThread()).isFalse();
+	}
+
+	@Test
+	public void shouldQueueOverflowingCallbacks() throws Exception {
+
+		CountDownLatch release = blockCallbackThread(executor);
+
+		final Thread caller = Thread.currentThread();
+		final AtomicBoolean ranOnCaller = new AtomicBoolean();
+		final CountDownLatch completed = new CountDownLatch(2);
+
+		for (int i = 0; i < 2; i++) {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+
+					if (Thread.currentThread() == caller) {
+						ranOnCaller.set(true);
+					}
+
+					completed.countDown();
+				}
+			});
+		}
+
+		assertThat(executor.getQueueDepth()).isEqualTo(2);
+		assertThat(executor.getOverflowCount()).isEqualTo(1);
+
+		release.countDown();
+
+		assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(ranOnCaller.get()).isFalse();
+	}
+
+	@Test
+	public void shouldHandOverflowingCallbacksToOverflowExecutor() throws Exception {
+
+		final List<Runnable> overflowing = new ArrayList<Runnable>();
+
+		BoundedCallbackExecutor executor = new BoundedCallbackExecutor(1, 1, new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				overflowing.add(command);
+			}
+		});
+
+		try {
+
+			CountDownLatch release = blockCallbackThread(executor);
+
+			Runnable queued = mock(Runnable.class);
+			Runnable overflow = mock(Runnable.class);
+
+			executor.execute(queued);
+			executor.execute(overflow);
+
+			assertThat(executor.getQueueDepth()).isEqualTo(1);
+			assertThat(executor.getOverflowCount()).isEqualTo(1);
+			assertThat(overflowing).containsExactly(overflow);
+
+			release.countDown();
+		} finally {
+			executor.destroy();
+		}
+	}
+
+	@Test(expected = RejectedExecutionException.class)
+	public void shouldRejectCallbacksAfterShutdown() {
+
+		executor.destroy();
+
+		executor.execute(mock(Runnable.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositivePoolSize() {
+		new BoundedCallbackExecutor(0, 1);
+	}
+
+	private static CountDownLatch blockCallbackThread(BoundedCallbackExecutor executor) throws InterruptedException {
+
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch started = new CountDownLatch(1);
+
+		executor.execute(new Runnable() {
+
+			@Override
+			public void run() {
+
+				started.countDown();
+
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		return release;
+	}
+}
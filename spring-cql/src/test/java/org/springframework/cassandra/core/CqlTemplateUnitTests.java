@@ -18,7 +18,12 @@ package org.springframework.cassandra.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
@@ -39,6 +44,7 @@ import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
@@ -452,6 +458,7 @@ public class CqlTemplateUnitTests {
 				.fetchSize(10) //
 				.readTimeout(1, TimeUnit.MINUTES) //
 				.withTracing() //
+				.idempotent(true) //
 				.build();
 
 		template.addQueryOptions(mockStatement, queryOptions);
@@ -459,6 +466,7 @@ public class CqlTemplateUnitTests {
 		verify(mockStatement).setReadTimeoutMillis(60 * 1000);
 		verify(mockStatement).setFetchSize(10);
 		verify(mockStatement).enableTracing();
+		verify(mockStatement).setIdempotent(true);
 	}
 
 	@Test // DATACASS-202
@@ -495,4 +503,129 @@ public class CqlTemplateUnitTests {
 		verify(mockUpdate).using(Mockito.any(Using.class));
 		verify(mockUpdate).disableTracing();
 	}
+
+	@Test
+	public void processShouldConsumeRowsIncrementally() {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		Row row = mock(Row.class);
+		when(resultSet.iterator()).thenReturn(Arrays.asList(row, row).iterator());
+
+		final List<Row> rows = new ArrayList<Row>();
+
+		template.process(resultSet, new RowCallbackHandler() {
+
+			@Override
+			public void processRow(Row row) {
+				rows.add(row);
+			}
+		});
+
+		assertThat(rows).hasSize(2);
+		verify(resultSet, never()).all();
+	}
+
+	@Test
+	public void processShouldPrefetchNextPage() {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		Row row = mock(Row.class);
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(2, 2, 1, 0);
+		when(resultSet.isFullyFetched()).thenReturn(false);
+		when(resultSet.isExhausted()).thenReturn(false, false, true);
+		when(resultSet.one()).thenReturn(row);
+
+		template.setPrefetchThreshold(1);
+
+		List<Row> rows = template.process(resultSet, new RowMapper<Row>() {
+
+			@Override
+			public Row mapRow(Row row, int rowNum) {
+				return row;
+			}
+		});
+
+		assertThat(rows).hasSize(2);
+		verify(resultSet, atLeastOnce()).fetchMoreResults();
+		verify(resultSet, never()).all();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNegativePrefetchThreshold() {
+		template.setPrefetchThreshold(-1);
+	}
+
+	@Test
+	public void asynchronousCallbacksShouldRunOnCallbackExecutor() {
+
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		Executor executor = mock(Executor.class);
+
+		when(mockSession.executeAsync(mockStatement)).thenReturn(future);
+
+		template.setCallbackExecutor(executor);
+		template.executeAsynchronously(mockStatement, mock(Runnable.class));
+
+		verify(future).addListener(any(Runnable.class), eq(executor));
+	}
+
+	@Test
+	public void shouldUseBoundedCallbackExecutorByDefault() {
+		assertThat(template.getCallbackExecutor()).isInstanceOf(BoundedCallbackExecutor.class);
+	}
+
+	@Test(expected = RejectedExecutionException.class)
+	public void destroyShouldShutDownDefaultCallbackExecutor() {
+
+		Executor executor = template.getCallbackExecutor();
+
+		template.destroy();
+
+		executor.execute(mock(Runnable.class));
+	}
+
+	@Test
+	public void destroyShouldNotShutDownProvidedCallbackExecutor() {
+
+		BoundedCallbackExecutor executor = new BoundedCallbackExecutor(1, 1);
+
+		try {
+
+			template.setCallbackExecutor(executor);
+			template.destroy();
+
+			executor.execute(mock(Runnable.class));
+		} finally {
+			executor.destroy();
+		}
+	}
+
+	@Test
+	public void shouldDetectDriverIoThreads() {
+
+		assertThat(template.isDriverIoThread(new Thread("cluster1-nio-worker-2"))).isTrue();
+		assertThat(template.isDriverIoThread(new Thread("cassandra-callback-1-1"))).isFalse();
+		assertThat(template.isDriverIoThread(new Thread("pool-1-thread-1"))).isFalse();
+	}
+
+	@Test
+	public void monitorCallbackShouldRunCallback() {
+
+		Runnable callback = mock(Runnable.class);
+
+		template.monitorCallback(callback).run();
+
+		verify(callback).run();
+	}
+
+	@Test
+	public void monitorCallbackShouldNotDecorateIfDisabled() {
+
+		Runnable callback = mock(Runnable.class);
+
+		template.setBlockingCallbackThresholdMillis(0);
+
+		assertThat(template.monitorCallback(callback)).isSameAs(callback);
+	}
 }
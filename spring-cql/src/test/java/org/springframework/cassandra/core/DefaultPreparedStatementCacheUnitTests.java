@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.DefaultPreparedStatementCache.EvictionPolicy;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.SyntaxError;
+
+/**
+ * Unit tests for {@link DefaultPreparedStatementCache}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultPreparedStatementCacheUnitTests {
+
+	@Mock Session session;
+	@Mock PreparedStatement first;
+	@Mock PreparedStatement second;
+	@Mock PreparedStatement third;
+
+	@Before
+	public void before() {
+
+		when(session.prepare("first")).thenReturn(first);
+		when(session.prepare("second")).thenReturn(second);
+		when(session.prepare("third")).thenReturn(third);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveMaximumSize() {
+		new DefaultPreparedStatementCache(0, EvictionPolicy.LRU);
+	}
+
+	@Test
+	public void shouldCachePreparedStatement() {
+
+		DefaultPreparedStatementCache cache = new DefaultPreparedStatementCache();
+
+		assertThat(cache.getPreparedStatement(session, "first")).isSameAs(first);
+		assertThat(cache.getPreparedStatement(session, "first")).isSameAs(first);
+
+		verify(session, times(1)).prepare("first");
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.size(session)).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldCachePerKeyspace() {
+
+		DefaultPreparedStatementCache cache = new DefaultPreparedStatementCache();
+
+		when(session.getLoggedKeyspace()).thenReturn("ks1");
+		cache.getPreparedStatement(session, "first");
+
+		when(session.getLoggedKeyspace()).thenReturn("ks2");
+		cache.getPreparedStatement(session, "first");
+		cache.getPreparedStatement(session, "first");
+
+		verify(session, times(2)).prepare("first");
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.size(session)).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsedStatement() {
+
+		DefaultPreparedStatementCache cache = new DefaultPreparedStatementCache(2, EvictionPolicy.LRU);
+
+		cache.getPreparedStatement(session, "first");
+		cache.getPreparedStatement(session, "second");
+		cache.getPreparedStatement(session, "first");
+		cache.getPreparedStatement(session, "third");
+
+		assertThat(cache.size(session)).isEqualTo(2);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+		cache.getPreparedStatement(session, "first");
+		cache.getPreparedStatement(session, "second");
+
+		verify(session, times(1)).prepare("first");
+		verify(session, times(2)).prepare("second");
+	}
+
+	@Test
+	public void shouldEvictLeastFrequentlyUsedStatement() {
+
+		DefaultPreparedStatementCache cache = new DefaultPreparedStatementCache(2, EvictionPolicy.LFU);
+
+		cache.getPreparedStatement(session, "first");
+		cache.getPreparedStatement(session, "first");
+		cache.getPreparedStatement(session, "second");
+		cache.getPreparedStatement(session, "second");
+		cache.getPreparedStatement(session, "second");
+		cache.getPreparedStatement(session, "third");
+
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+		cache.getPreparedStatement(session, "second");
+		cache.getPreparedStatement(session, "third");
+		cache.getPreparedStatement(session, "first");
+
+		verify(session, times(1)).prepare("second");
+		verify(session, times(1)).prepare("third");
+		verify(session, times(2)).prepare("first");
+	}
+
+	@Test
+	public void shouldNotCacheFailedPreparation() {
+
+		DefaultPreparedStatementCache cache = new DefaultPreparedStatementCache();
+		SyntaxError error = new SyntaxError(null, "line 1:0 no viable alternative");
+
+		when(session.prepare("broken")).thenThrow(error).thenReturn(first);
+
+		try {
+			cache.getPreparedStatement(session, "broken");
+			fail("Missing SyntaxError");
+		} catch (SyntaxError e) {
+			assertThat(e).isSameAs(error);
+		}
+
+		assertThat(cache.getPreparedStatement(session, "broken")).isSameAs(first);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+		assertThat(cache.size(session)).isEqualTo(1);
+	}
+
+	@Test
+	public void invalidateShouldRemoveSessionStatements() {
+
+		DefaultPreparedStatementCache cache = new DefaultPreparedStatementCache();
+
+		cache.getPreparedStatement(session, "first");
+		cache.invalidate(session);
+		cache.getPreparedStatement(session, "first");
+
+		verify(session, times(2)).prepare("first");
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.CqlExecution.StatementKind;
+import org.springframework.cassandra.support.CassandraExceptionTranslator;
+import org.springframework.cassandra.support.exception.CassandraReadTimeoutException;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+
+/**
+ * Unit tests for {@link ExecutionListeningSession} and {@link CqlExecutionMetrics}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ExecutionListeningSessionUnitTests {
+
+	@Mock Session session;
+	@Mock ResultSet resultSet;
+	@Mock ExecutionInfo executionInfo;
+
+	CqlExecutionMetrics metrics = new CqlExecutionMetrics();
+
+	CqlTemplate template;
+
+	@Before
+	public void setUp() {
+
+		template = new CqlTemplate(session);
+		template.setExceptionTranslator(new CassandraExceptionTranslator());
+		template.setExecutionListener(metrics);
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(2);
+		when(resultSet.getAllExecutionInfo()).thenReturn(Collections.singletonList(executionInfo));
+	}
+
+	@Test
+	public void shouldRecordSuccessfulExecution() {
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+
+		template.query("SELECT * FROM person WHERE id = 1",
+				QueryOptions.builder().consistencyLevel(ConsistencyLevel.QUORUM).build());
+
+		CqlExecutionStatistics statistics = metrics.getStatistics(StatementKind.SELECT, "person");
+
+		assertThat(statistics.getExecutionCount()).isEqualTo(1);
+		assertThat(statistics.getRowCount()).isEqualTo(2);
+		assertThat(statistics.getPageCount()).isEqualTo(1);
+		assertThat(statistics.getErrorCount()).isZero();
+	}
+
+	@Test
+	public void shouldRecordTranslatedException() {
+
+		when(session.execute(any(Statement.class))).thenThrow(new ReadTimeoutException(ConsistencyLevel.ONE, 0, 1, false));
+
+		try {
+			template.query("SELECT * FROM person");
+			fail("Missing CassandraReadTimeoutException");
+		} catch (CassandraReadTimeoutException e) {}
+
+		CqlExecutionStatistics statistics = metrics.getStatistics(StatementKind.SELECT, "person");
+
+		assertThat(statistics.getExecutionCount()).isEqualTo(1);
+		assertThat(statistics.getErrorRate()).isEqualTo(1.0);
+		assertThat(statistics.getErrorCounts()).containsEntry(CassandraReadTimeoutException.class.getName(), 1L);
+	}
+
+	@Test
+	public void shouldNotifyListener() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+
+		template.setExecutionListener(listener);
+		when(session.execute("TRUNCATE person")).thenReturn(resultSet);
+
+		template.execute(new SessionCallback<ResultSet>() {
+
+			@Override
+			public ResultSet doInSession(Session session) {
+				return session.execute("TRUNCATE person");
+			}
+		});
+
+		ArgumentCaptor<CqlExecution> captor = ArgumentCaptor.forClass(CqlExecution.class);
+		verify(listener).onExecution(captor.capture());
+
+		CqlExecution execution = captor.getValue();
+
+		assertThat(execution.getKind()).isEqualTo(StatementKind.TRUNCATE);
+		assertThat(execution.getTableName()).isEqualTo("person");
+		assertThat(execution.isAsync()).isFalse();
+		assertThat(execution.isFailed()).isFalse();
+		assertThat(execution.getDuration(TimeUnit.NANOSECONDS)).isGreaterThanOrEqualTo(0);
+	}
+
+	@Test
+	public void shouldDetermineStatementKind() {
+
+		assertThat(ExecutionListeningSession.getKind("select * from person")).isEqualTo(StatementKind.SELECT);
+		assertThat(ExecutionListeningSession.getKind(" INSERT INTO person (id) VALUES (1)"))
+				.isEqualTo(StatementKind.INSERT);
+		assertThat(ExecutionListeningSession.getKind("BEGIN BATCH APPLY BATCH")).isEqualTo(StatementKind.BATCH);
+		assertThat(ExecutionListeningSession.getKind("CREATE TABLE person (id int PRIMARY KEY)"))
+				.isEqualTo(StatementKind.SCHEMA);
+		assertThat(ExecutionListeningSession.getKind("USE ks")).isEqualTo(StatementKind.OTHER);
+		assertThat(ExecutionListeningSession.getKind(null)).isEqualTo(StatementKind.OTHER);
+	}
+
+	@Test
+	public void shouldDetermineTableName() {
+
+		assertThat(ExecutionListeningSession.getTableName("SELECT id, name FROM ks.person WHERE id = ?"))
+				.isEqualTo("ks.person");
+		assertThat(ExecutionListeningSession.getTableName("INSERT INTO \"Person\" (id) VALUES (?)"))
+				.isEqualTo("\"Person\"");
+		assertThat(ExecutionListeningSession.getTableName("UPDATE person SET name = ? WHERE id = ?")).isEqualTo("person");
+		assertThat(ExecutionListeningSession.getTableName("DELETE name FROM person WHERE id = ?")).isEqualTo("person");
+		assertThat(ExecutionListeningSession.getTableName("TRUNCATE TABLE person")).isEqualTo("person");
+		assertThat(ExecutionListeningSession.getTableName("USE ks")).isNull();
+	}
+
+	@Test
+	public void shouldReuseSessionProxyForPreparedStatementCache() {
+
+		final PreparedStatementCache cache = new DefaultPreparedStatementCache();
+		SessionCallback<PreparedStatement> prepare = new SessionCallback<PreparedStatement>() {
+
+			@Override
+			public PreparedStatement doInSession(Session session) {
+				return cache.getPreparedStatement(session, "SELECT * FROM person WHERE id = ?");
+			}
+		};
+
+		when(session.prepare("SELECT * FROM person WHERE id = ?")).thenReturn(mock(PreparedStatement.class));
+
+		template.execute(prepare);
+		template.execute(prepare);
+
+		verify(session, times(1)).prepare("SELECT * FROM person WHERE id = ?");
+	}
+
+	@Test
+	public void sessionProxyShouldBeEqualToItself() {
+
+		Session proxy = template.getExecutionSession();
+
+		assertThat(proxy).isEqualTo(proxy).isNotEqualTo(session).isSameAs(template.getExecutionSession());
+		assertThat(proxy.hashCode()).isEqualTo(System.identityHashCode(proxy));
+	}
+}
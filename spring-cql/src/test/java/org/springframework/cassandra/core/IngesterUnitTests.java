@@ -0,0 +1,237 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.support.CassandraExceptionTranslator;
+import org.springframework.cassandra.support.exception.CassandraWriteTimeoutException;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.WriteType;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+
+/**
+ * Unit tests for {@link Ingester}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class IngesterUnitTests {
+
+	@Mock Session session;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
+	@Mock ResultSetFuture success;
+	@Mock ResultSetFuture failure;
+	@Mock ResultSetFuture invalid;
+
+	@Before
+	public void before() {
+
+		when(preparedStatement.bind(anyVararg())).thenReturn(boundStatement);
+
+		Answer<Void> runListener = new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+
+				Runnable listener = (Runnable) invocation.getArguments()[0];
+				((Executor) invocation.getArguments()[1]).execute(listener);
+				return null;
+			}
+		};
+
+		doAnswer(runListener).when(success).addListener(any(Runnable.class), any(Executor.class));
+		doAnswer(runListener).when(failure).addListener(any(Runnable.class), any(Executor.class));
+		doAnswer(runListener).when(invalid).addListener(any(Runnable.class), any(Executor.class));
+		when(failure.getUninterruptibly())
+				.thenThrow(new WriteTimeoutException(ConsistencyLevel.ONE, WriteType.SIMPLE, 0, 1));
+		when(invalid.getUninterruptibly()).thenThrow(new InvalidQueryException("Undefined column name"));
+	}
+
+	@Test
+	public void shouldIngestAllRows() throws Exception {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(success);
+
+		IngestResult result = newIngester(IngestOptions.defaults(), null).ingest(rows(3)).get();
+
+		assertThat(result.getSucceeded()).isEqualTo(3);
+		assertThat(result.getFailed()).isZero();
+		assertThat(result.getRetries()).isZero();
+		verify(session, times(3)).executeAsync(boundStatement);
+	}
+
+	@Test
+	public void shouldApplyWriteOptionsToBoundStatements() throws Exception {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(success);
+
+		WriteOptions writeOptions = WriteOptions.builder().consistencyLevel(ConsistencyLevel.QUORUM).build();
+
+		newIngester(IngestOptions.defaults(), writeOptions).ingest(rows(1)).get();
+
+		verify(boundStatement).setConsistencyLevel(ConsistencyLevel.QUORUM);
+		verify(preparedStatement, never()).setConsistencyLevel(any(ConsistencyLevel.class));
+	}
+
+	@Test
+	public void shouldRetryFailedRows() throws Exception {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(failure, success);
+
+		IngestResult result = newIngester(retries(1), null).ingest(rows(1)).get();
+
+		assertThat(result.getSucceeded()).isEqualTo(1);
+		assertThat(result.getFailed()).isZero();
+		assertThat(result.getRetries()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldNotRetryNonTransientFailures() throws Exception {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(invalid, success);
+
+		IngestResult result = newIngester(retries(1), null).ingest(rows(1)).get();
+
+		assertThat(result.getSucceeded()).isZero();
+		assertThat(result.getFailed()).isEqualTo(1);
+		assertThat(result.getRetries()).isZero();
+		verify(session).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	public void shouldRetryAfterBackoff() throws Exception {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(failure, success);
+
+		IngestOptions ingestOptions = IngestOptions.builder().maxRetries(1).retryBackoff(10, TimeUnit.MILLISECONDS)
+				.build();
+
+		IngestResult result = newIngester(ingestOptions, null).ingest(rows(1)).get(5, TimeUnit.SECONDS);
+
+		assertThat(result.getSucceeded()).isEqualTo(1);
+		assertThat(result.getRetries()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldHandleFailuresOnCallbackExecutor() throws Exception {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(failure);
+
+		final AtomicInteger callbacks = new AtomicInteger();
+		Executor callbackExecutor = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+
+				callbacks.incrementAndGet();
+				command.run();
+			}
+		};
+
+		IngestResult result = new Ingester(session, preparedStatement, null, retries(1),
+				new CassandraExceptionTranslator(), callbackExecutor).ingest(rows(1)).get();
+
+		assertThat(result.getFailed()).isEqualTo(1);
+		assertThat(callbacks.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldReportFailedRowsToCallback() throws Exception {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(failure);
+
+		final List<Throwable> failures = new ArrayList<Throwable>();
+
+		IngestOptions ingestOptions = IngestOptions.builder().maxRetries(2).retryBackoff(0, TimeUnit.MILLISECONDS)
+				.failureCallback(new IngestFailureCallback() {
+
+			@Override
+			public void onFailure(Object[] row, Throwable cause) {
+				failures.add(cause);
+			}
+		}).build();
+
+		IngestResult result = newIngester(ingestOptions, null).ingest(rows(2)).get();
+
+		assertThat(result.getSucceeded()).isZero();
+		assertThat(result.getFailed()).isEqualTo(2);
+		assertThat(result.getRetries()).isEqualTo(4);
+		assertThat(failures).hasSize(2);
+		assertThat(failures.get(0)).isInstanceOf(CassandraWriteTimeoutException.class);
+	}
+
+	@Test
+	public void shouldReportBindFailures() throws Exception {
+
+		when(preparedStatement.bind(anyVararg())).thenThrow(new IllegalArgumentException("Invalid row"));
+
+		IngestResult result = newIngester(IngestOptions.builder().maxInFlight(1).build(), null).ingest(rows(3)).get();
+
+		assertThat(result.getFailed()).isEqualTo(3);
+		verify(session, never()).executeAsync(any(Statement.class));
+	}
+
+	private Ingester newIngester(IngestOptions ingestOptions, WriteOptions writeOptions) {
+		return new Ingester(session, preparedStatement, writeOptions, ingestOptions, new CassandraExceptionTranslator(),
+				CqlTemplate.RUN_RUNNABLE_EXECUTOR);
+	}
+
+	private static IngestOptions retries(int maxRetries) {
+		return IngestOptions.builder().maxRetries(maxRetries).retryBackoff(0, TimeUnit.MILLISECONDS).build();
+	}
+
+	private static RowIterator rows(final int count) {
+
+		return new RowIterator() {
+
+			int index;
+
+			@Override
+			public Object[] next() {
+				return new Object[] { index++ };
+			}
+
+			@Override
+			public boolean hasNext() {
+				return index < count;
+			}
+		};
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ *
+ * @author Mark Paluch
+ */
+public class LatencyHistogramUnitTests {
+
+	@Test
+	public void bucketsShouldContainTheirValues() {
+
+		for (long micros : new long[] { 0, 1, 3, 4, 5, 7, 8, 100, 1000, 123456789, Long.MAX_VALUE }) {
+
+			long upperBound = LatencyHistogram.getUpperBound(LatencyHistogram.getBucket(micros));
+
+			assertThat(upperBound).isGreaterThanOrEqualTo(micros);
+			assertThat(upperBound - micros).isLessThanOrEqualTo(micros / 4);
+		}
+	}
+
+	@Test
+	public void shouldReportPercentiles() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i, TimeUnit.MILLISECONDS);
+		}
+
+		long[] counts = histogram.getCounts();
+
+		assertThat(LatencyHistogram.getPercentile(counts, 50)).isBetween(50000L, 62500L);
+		assertThat(LatencyHistogram.getPercentile(counts, 99)).isBetween(99000L, 123750L);
+		assertThat(histogram.getMax()).isEqualTo(100000);
+		assertThat(histogram.getSum()).isEqualTo(5050000);
+	}
+
+	@Test
+	public void emptyHistogramShouldReportZero() {
+		assertThat(LatencyHistogram.getPercentile(new LatencyHistogram().getCounts(), 99)).isZero();
+	}
+}
@@ -42,6 +42,7 @@ public class QueryOptionsUnitTests {
 				.readTimeout(1, TimeUnit.SECONDS)//
 				.fetchSize(10)//
 				.tracing(true)//
+				.idempotent(true)//
 				.build(); //
 
 		assertThat(queryOptions.getClass()).isEqualTo(QueryOptions.class);
@@ -51,6 +52,7 @@ public class QueryOptionsUnitTests {
 		assertThat(queryOptions.getReadTimeout()).isEqualTo(1000);
 		assertThat(queryOptions.getFetchSize()).isEqualTo(10);
 		assertThat(queryOptions.getTracing()).isTrue();
+		assertThat(queryOptions.getIdempotent()).isTrue();
 	}
 
 	@Test // DATACASS-202
@@ -116,4 +118,16 @@ public class QueryOptionsUnitTests {
 		queryOptions.setConsistencyLevel(ConsistencyLevel.ANY);
 		queryOptions.setConsistencyLevel(org.springframework.cassandra.core.ConsistencyLevel.ANY);
 	}
+
+	@Test
+	public void equalOptionsShouldBeEqual() {
+
+		QueryOptions first = QueryOptions.builder().consistencyLevel(ConsistencyLevel.ONE).fetchSize(10).build();
+		QueryOptions second = QueryOptions.builder().consistencyLevel(ConsistencyLevel.ONE).fetchSize(10).build();
+		QueryOptions other = QueryOptions.builder().consistencyLevel(ConsistencyLevel.QUORUM).fetchSize(10).build();
+
+		assertThat(first).isEqualTo(second).isNotEqualTo(other);
+		assertThat(first.hashCode()).isEqualTo(second.hashCode());
+		assertThat(first).isNotEqualTo(WriteOptions.builder().consistencyLevel(ConsistencyLevel.ONE).fetchSize(10).build());
+	}
 }
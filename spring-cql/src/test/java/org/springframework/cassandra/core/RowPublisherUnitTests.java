@@ -0,0 +1,262 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.cassandra.support.CassandraExceptionTranslator;
+import org.springframework.cassandra.support.exception.CassandraUncategorizedException;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.google.common.util.concurrent.Futures;
+
+/**
+ * Unit tests for {@link RowPublisher}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RowPublisherUnitTests {
+
+	@Mock Session session;
+	@Mock ResultSetFuture future;
+	@Mock ResultSet resultSet;
+	@Mock Row row;
+
+	int available = 2;
+	boolean fullyFetched;
+
+	RowMapper<Integer> rowMapper = new RowMapper<Integer>() {
+
+		@Override
+		public Integer mapRow(Row row, int rowNum) {
+			return rowNum;
+		}
+	};
+
+	@Before
+	public void before() throws Exception {
+
+		when(session.executeAsync(any(SimpleStatement.class))).thenReturn(future);
+		when(future.get()).thenReturn(resultSet);
+
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+
+				((Executor) invocation.getArguments()[1]).execute((Runnable) invocation.getArguments()[0]);
+				return null;
+			}
+		}).when(future).addListener(any(Runnable.class), any(Executor.class));
+
+		when(resultSet.getAvailableWithoutFetching()).thenAnswer(new Answer<Integer>() {
+
+			@Override
+			public Integer answer(InvocationOnMock invocation) throws Throwable {
+				return available;
+			}
+		});
+
+		when(resultSet.isFullyFetched()).thenAnswer(new Answer<Boolean>() {
+
+			@Override
+			public Boolean answer(InvocationOnMock invocation) throws Throwable {
+				return fullyFetched;
+			}
+		});
+
+		when(resultSet.one()).thenAnswer(new Answer<Row>() {
+
+			@Override
+			public Row answer(InvocationOnMock invocation) throws Throwable {
+
+				assertThat(available).describedAs("Must not block on fetching").isGreaterThan(0);
+
+				available--;
+				return row;
+			}
+		});
+
+		when(resultSet.fetchMoreResults()).thenAnswer(new Answer<Object>() {
+
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+
+				available = 2;
+				fullyFetched = true;
+				return Futures.immediateFuture(resultSet);
+			}
+		});
+	}
+
+	@Test
+	public void shouldEmitRowsOnDemand() {
+
+		RecordingSubscriber subscriber = subscribe();
+
+		verifyZeroInteractions(session);
+
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.values).containsExactly(0);
+		verify(resultSet, never()).fetchMoreResults();
+
+		subscriber.subscription.request(2);
+
+		assertThat(subscriber.values).containsExactly(0, 1, 2);
+		assertThat(subscriber.completed).isFalse();
+		verify(resultSet, times(1)).fetchMoreResults();
+
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.values).containsExactly(0, 1, 2, 3);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	public void shouldEmitFetchedRowsOnCallbackExecutor() {
+
+		final AtomicInteger callbacks = new AtomicInteger();
+
+		RecordingSubscriber subscriber = subscribe(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+
+				callbacks.incrementAndGet();
+				command.run();
+			}
+		});
+
+		subscriber.subscription.request(3);
+
+		assertThat(subscriber.values).containsExactly(0, 1, 2);
+		assertThat(callbacks.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldNotFetchNextPageWithoutDemand() {
+
+		RecordingSubscriber subscriber = subscribe();
+
+		subscriber.subscription.request(2);
+
+		assertThat(subscriber.values).containsExactly(0, 1);
+		verify(resultSet, never()).fetchMoreResults();
+	}
+
+	@Test
+	public void shouldStopEmittingAfterCancel() {
+
+		RecordingSubscriber subscriber = subscribe();
+
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.values).containsExactly(0);
+		assertThat(subscriber.completed).isFalse();
+	}
+
+	@Test
+	public void shouldTranslateExceptions() throws Exception {
+
+		when(future.get()).thenThrow(new ExecutionException(new DriverException("boom")));
+
+		RecordingSubscriber subscriber = subscribe();
+
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.values).isEmpty();
+		assertThat(subscriber.error).isInstanceOf(CassandraUncategorizedException.class);
+	}
+
+	@Test
+	public void shouldRejectNonPositiveDemand() {
+
+		RecordingSubscriber subscriber = subscribe();
+
+		subscriber.subscription.request(0);
+
+		assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private RecordingSubscriber subscribe() {
+		return subscribe(CqlTemplate.RUN_RUNNABLE_EXECUTOR);
+	}
+
+	private RecordingSubscriber subscribe(Executor callbackExecutor) {
+
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		new RowPublisher<Integer>(session, new SimpleStatement("SELECT * FROM users"), rowMapper,
+				new CassandraExceptionTranslator(), callbackExecutor).subscribe(subscriber);
+
+		return subscriber;
+	}
+
+	static class RecordingSubscriber implements Subscriber<Integer> {
+
+		final List<Integer> values = new ArrayList<Integer>();
+
+		Subscription subscription;
+		Throwable error;
+		boolean completed;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(Integer value) {
+			values.add(value);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+import org.mockito.Matchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.core.TokenRangeScanner.RangeQueries;
+import org.springframework.cassandra.core.TokenRangeScanner.RangeQuery;
+import org.springframework.cassandra.core.TokenRangeScanner.RangeStatement;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link TokenRangeScanner}.
+ *
+ * @author Mark Paluch
+ */
+public class TokenRangeScannerUnitTests {
+
+	Session session = mock(Session.class);
+
+	@Test
+	public void rangeQueriesShouldLimitQueriesInFlight() {
+
+		List<RangeStatement> statements = new ArrayList<RangeStatement>();
+		List<ResultSet> resultSets = new ArrayList<ResultSet>();
+
+		for (int i = 0; i < 5; i++) {
+
+			Statement statement = mock(Statement.class);
+			ResultSet resultSet = mock(ResultSet.class);
+
+			when(session.executeAsync(statement)).thenReturn(completedFuture(resultSet));
+
+			statements.add(new RangeStatement(null, statement));
+			resultSets.add(resultSet);
+		}
+
+		RangeQueries queries = new RangeQueries(session, statements.iterator(), 2);
+
+		assertThat(queries.next().getResultSet()).isSameAs(resultSets.get(0));
+		verify(session, times(3)).executeAsync(Matchers.any(Statement.class));
+
+		List<ResultSet> consumed = new ArrayList<ResultSet>();
+		RangeQuery query;
+
+		while ((query = queries.next()) != null) {
+			consumed.add(query.getResultSet());
+		}
+
+		assertThat(consumed).containsExactlyElementsOf(resultSets.subList(1, 5));
+		verify(session, times(5)).executeAsync(Matchers.any(Statement.class));
+	}
+
+	@Test
+	public void closeShouldCancelQueriesInFlight() {
+
+		Statement completedStatement = mock(Statement.class);
+		Statement pendingStatement = mock(Statement.class);
+
+		ResultSetFuture completed = completedFuture(mock(ResultSet.class));
+		ResultSetFuture pending = mock(ResultSetFuture.class);
+
+		when(session.executeAsync(completedStatement)).thenReturn(completed);
+		when(session.executeAsync(pendingStatement)).thenReturn(pending);
+
+		List<RangeStatement> statements = new ArrayList<RangeStatement>();
+		statements.add(new RangeStatement(null, completedStatement));
+		statements.add(new RangeStatement(null, pendingStatement));
+
+		RangeQueries queries = new RangeQueries(session, statements.iterator(), 2);
+
+		assertThat(queries.next()).isNotNull();
+
+		queries.close();
+
+		verify(pending).cancel(true);
+		verify(completed, never()).cancel(Matchers.anyBoolean());
+		assertThat(queries.next()).isNull();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveConcurrency() {
+		ScanOptions.builder().maxConcurrency(0);
+	}
+
+	private static ResultSetFuture completedFuture(ResultSet resultSet) {
+
+		ResultSetFuture future = mock(ResultSetFuture.class);
+
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+
+				((Runnable) invocation.getArguments()[0]).run();
+				return null;
+			}
+		}).when(future).addListener(Matchers.any(Runnable.class), Matchers.any(Executor.class));
+
+		return future;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnDefinitions.Definition;
+
+/**
+ * Unit tests for {@link ColumnIndex}.
+ *
+ * @author Mark Paluch
+ */
+public class ColumnIndexUnitTests {
+
+	ColumnDefinitions columnDefinitions = mock(ColumnDefinitions.class);
+
+	@Before
+	public void setUp() {
+
+		Definition id = mock(Definition.class);
+		Definition upperCaseName = mock(Definition.class);
+		Definition name = mock(Definition.class);
+
+		when(id.getName()).thenReturn("id");
+		when(upperCaseName.getName()).thenReturn("Name");
+		when(name.getName()).thenReturn("name");
+
+		when(columnDefinitions.asList()).thenReturn(Arrays.asList(id, upperCaseName, name));
+	}
+
+	@Test
+	public void shouldResolveUnquotedNamesCaseInsensitively() {
+
+		ColumnIndex index = ColumnIndex.of(columnDefinitions);
+
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.indexOf("id")).isEqualTo(0);
+		assertThat(index.indexOf("ID")).isEqualTo(0);
+		assertThat(index.indexOf("name")).isEqualTo(1);
+		assertThat(index.indexOf("unknown")).isEqualTo(-1);
+	}
+
+	@Test
+	public void shouldResolveQuotedNamesCaseSensitively() {
+
+		ColumnIndex index = ColumnIndex.of(columnDefinitions);
+
+		assertThat(index.indexOf("\"Name\"")).isEqualTo(1);
+		assertThat(index.indexOf("\"name\"")).isEqualTo(2);
+		assertThat(index.indexOf("\"ID\"")).isEqualTo(-1);
+	}
+
+	@Test
+	public void shouldShareIndexForColumnDefinitions() {
+
+		assertThat(ColumnIndex.of(columnDefinitions)).isSameAs(ColumnIndex.of(columnDefinitions));
+
+		verify(columnDefinitions, times(1)).asList();
+	}
+}
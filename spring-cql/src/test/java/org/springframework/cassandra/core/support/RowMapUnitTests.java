@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnDefinitions.Definition;
+import com.datastax.driver.core.Row;
+
+/**
+ * Unit tests for {@link RowMap}.
+ *
+ * @author Mark Paluch
+ */
+public class RowMapUnitTests {
+
+	ColumnDefinitions columnDefinitions = mock(ColumnDefinitions.class);
+	Row row = mock(Row.class);
+
+	@Before
+	public void setUp() {
+
+		Definition id = mock(Definition.class);
+		Definition tags = mock(Definition.class);
+
+		when(id.getName()).thenReturn("id");
+		when(tags.getName()).thenReturn("tags");
+
+		when(columnDefinitions.asList()).thenReturn(Arrays.asList(id, tags));
+		when(row.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(row.getObject(0)).thenReturn("1");
+		when(row.getObject(1)).thenReturn(Collections.emptyList());
+		when(row.isNull(1)).thenReturn(true);
+	}
+
+	@Test
+	public void shouldExposeColumnsAsMap() {
+
+		Map<String, Object> map = RowMap.of(row);
+
+		assertThat(map).hasSize(2).containsEntry("id", "1").containsEntry("tags", Collections.emptyList());
+		assertThat(map.get("unknown")).isNull();
+		assertThat(map.containsKey("unknown")).isFalse();
+	}
+
+	@Test
+	public void nullSafeShouldReturnNullForNullColumns() {
+
+		Map<String, Object> map = RowMap.nullSafe(row);
+
+		assertThat(map).containsEntry("id", "1").containsEntry("tags", null);
+	}
+
+	@Test
+	public void shouldDecodeValuesOnAccess() {
+
+		Map<String, Object> map = RowMap.of(row);
+
+		verify(row, never()).getObject(anyInt());
+
+		map.get("id");
+
+		verify(row).getObject(0);
+		verify(row, never()).getObject(1);
+	}
+
+	@Test
+	public void shouldShareColumnIndexForColumnDefinitions() {
+
+		RowMap.of(row);
+		RowMap.of(row);
+
+		verify(columnDefinitions, times(1)).asList();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void shouldBeReadOnly() {
+		RowMap.of(row).put("id", "2");
+	}
+}
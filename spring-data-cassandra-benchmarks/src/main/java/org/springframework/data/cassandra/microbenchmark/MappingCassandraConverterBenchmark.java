@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.microbenchmark;
+
+import static org.springframework.data.cassandra.microbenchmark.Rows.*;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Update;
+
+/**
+ * Benchmarks for reading entities from {@link Row}s and writing entities into {@link Insert} and {@link Update}
+ * statements using {@link MappingCassandraConverter}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MappingCassandraConverterBenchmark {
+
+	@Param({ "false", "true" }) boolean compiledEntityReaders;
+
+	MappingCassandraConverter converter;
+	Row row;
+	Person person;
+
+	@Setup
+	public void setUp() {
+
+		BasicCassandraMappingContext mappingContext = new BasicCassandraMappingContext();
+
+		converter = new MappingCassandraConverter(mappingContext);
+		converter.setUseCompiledEntityReaders(compiledEntityReaders);
+		converter.afterPropertiesSet();
+
+		Set<String> emails = new LinkedHashSet<String>();
+		emails.add("heisenberg@example.com");
+		emails.add("walter@example.com");
+
+		Date birthDate = new Date(-360892800000L);
+
+		row = newRow("person", column("id", "heisenberg", DataType.varchar()),
+				column("firstname", "Walter", DataType.varchar()), column("lastname", "White", DataType.varchar()),
+				column("age", 50, DataType.cint()), column("birthdate", birthDate, DataType.timestamp()),
+				column("emails", emails, DataType.set(DataType.varchar())));
+
+		person = new Person();
+		person.setId("heisenberg");
+		person.setFirstname("Walter");
+		person.setLastname("White");
+		person.setAge(50);
+		person.setBirthDate(birthDate);
+		person.setEmails(Collections.unmodifiableSet(emails));
+
+		// resolve the persistent entity before measuring
+		converter.read(Person.class, row);
+	}
+
+	@Benchmark
+	public Person readRow() {
+		return converter.read(Person.class, row);
+	}
+
+	@Benchmark
+	public Insert writeInsert() {
+
+		Insert insert = QueryBuilder.insertInto("person");
+		converter.write(person, insert);
+
+		return insert;
+	}
+
+	@Benchmark
+	public Update writeUpdate() {
+
+		Update update = QueryBuilder.update("person");
+		converter.write(person, update);
+
+		return update;
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.microbenchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cassandra.core.DefaultPreparedStatementCache;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+
+/**
+ * Benchmarks for {@link PreparedStatement} lookups hitting {@link DefaultPreparedStatementCache}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PreparedStatementCacheBenchmark {
+
+	static final String CQL = "SELECT * FROM person WHERE id = ?";
+
+	DefaultPreparedStatementCache cache;
+	Session session;
+
+	@Setup
+	public void setUp() {
+
+		cache = new DefaultPreparedStatementCache();
+		session = Sessions.newSession("benchmark", null, Sessions.newPreparedStatement());
+
+		cache.getPreparedStatement(session, CQL);
+	}
+
+	@Benchmark
+	public PreparedStatement cacheHit() {
+		return cache.getPreparedStatement(session, CQL);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public PreparedStatement concurrentCacheHit() {
+		return cache.getPreparedStatement(session, CQL);
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.microbenchmark;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnDefinitions.Definition;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TypeCodec;
+
+/**
+ * Creates driver {@link Row}s from column values without a cluster. Values are serialized with the default
+ * {@link CodecRegistry} so benchmarks deserialize them like rows received from Cassandra, unlike mocked rows whose
+ * stubbing overhead would dominate the measurements.
+ *
+ * @author Mark Paluch
+ */
+public abstract class Rows {
+
+	private static final ProtocolVersion PROTOCOL_VERSION = ProtocolVersion.V4;
+
+	private static final Constructor<Definition> DEFINITION;
+	private static final Constructor<ColumnDefinitions> COLUMN_DEFINITIONS;
+	private static final Method FROM_DATA;
+
+	static {
+
+		try {
+
+			ClassLoader classLoader = Rows.class.getClassLoader();
+
+			DEFINITION = Definition.class.getDeclaredConstructor(String.class, String.class, String.class, DataType.class);
+			COLUMN_DEFINITIONS = ColumnDefinitions.class.getDeclaredConstructor(Definition[].class, CodecRegistry.class);
+			FROM_DATA = ClassUtils.forName("com.datastax.driver.core.ArrayBackedRow", classLoader).getDeclaredMethod(
+					"fromData", ColumnDefinitions.class, ClassUtils.forName("com.datastax.driver.core.Token$Factory", classLoader),
+					ProtocolVersion.class, List.class);
+
+			ReflectionUtils.makeAccessible(DEFINITION);
+			ReflectionUtils.makeAccessible(COLUMN_DEFINITIONS);
+			ReflectionUtils.makeAccessible(FROM_DATA);
+		} catch (Exception e) {
+			throw new IllegalStateException("Cannot create driver rows with this driver version", e);
+		}
+	}
+
+	private Rows() {}
+
+	/**
+	 * Create a {@link Row} of {@code table} with the given {@code columns}.
+	 *
+	 * @param table must not be empty.
+	 * @param columns must not be {@literal null}.
+	 * @return the {@link Row}.
+	 */
+	public static Row newRow(String table, Column... columns) {
+
+		Assert.hasText(table, "Table must not be empty");
+		Assert.notNull(columns, "Columns must not be null");
+
+		try {
+
+			Definition[] definitions = new Definition[columns.length];
+			List<ByteBuffer> values = new ArrayList<ByteBuffer>(columns.length);
+
+			for (int i = 0; i < columns.length; i++) {
+
+				definitions[i] = DEFINITION.newInstance("benchmark", table, columns[i].name, columns[i].type);
+				values.add(serialize(columns[i]));
+			}
+
+			ColumnDefinitions metadata = COLUMN_DEFINITIONS.newInstance(definitions, CodecRegistry.DEFAULT_INSTANCE);
+
+			return (Row) FROM_DATA.invoke(null, metadata, null, PROTOCOL_VERSION, values);
+		} catch (Exception e) {
+			throw new IllegalStateException("Cannot create row", e);
+		}
+	}
+
+	/**
+	 * Creates a new {@link Column} to be used with {@link #newRow(String, Column...)}.
+	 *
+	 * @param name must not be empty.
+	 * @param value can be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the {@link Column}.
+	 */
+	public static Column column(String name, Object value, DataType type) {
+
+		Assert.hasText(name, "Name must not be empty");
+		Assert.notNull(type, "DataType must not be null");
+
+		return new Column(name, value, type);
+	}
+
+	private static ByteBuffer serialize(Column column) {
+
+		if (column.value == null) {
+			return null;
+		}
+
+		TypeCodec<Object> codec = CodecRegistry.DEFAULT_INSTANCE.codecFor(column.type);
+
+		return codec.serialize(column.value, PROTOCOL_VERSION);
+	}
+
+	public static class Column {
+
+		private final String name;
+		private final Object value;
+		private final DataType type;
+
+		Column(String name, Object value, DataType type) {
+
+			this.name = name;
+			this.value = value;
+			this.type = type;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.microbenchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+
+/**
+ * Creates {@link Session} stubs that do not require a running Cassandra instance.
+ *
+ * @author Mark Paluch
+ */
+public abstract class Sessions {
+
+	private Sessions() {}
+
+	/**
+	 * Create a {@link Session} stub logged into {@code keyspace} that returns {@code cluster} and prepares each statement
+	 * to {@code preparedStatement}. Other methods return {@literal null}.
+	 *
+	 * @param keyspace the logged keyspace.
+	 * @param cluster the {@link Cluster} to return from {@link Session#getCluster()}, may be {@literal null}.
+	 * @param preparedStatement the {@link PreparedStatement} to return from {@link Session#prepare(String)}, may be
+	 *          {@literal null}.
+	 * @return the {@link Session} stub.
+	 */
+	public static Session newSession(final String keyspace, final Cluster cluster,
+			final PreparedStatement preparedStatement) {
+
+		return (Session) Proxy.newProxyInstance(Sessions.class.getClassLoader(), new Class<?>[] { Session.class },
+				new InvocationHandler() {
+
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) {
+
+						if (method.getName().equals("getLoggedKeyspace")) {
+							return keyspace;
+						}
+
+						if (method.getName().equals("getCluster")) {
+							return cluster;
+						}
+
+						if (method.getName().equals("prepare")) {
+							return preparedStatement;
+						}
+
+						if (method.getName().equals("hashCode")) {
+							return System.identityHashCode(proxy);
+						}
+
+						if (method.getName().equals("equals")) {
+							return proxy == args[0];
+						}
+
+						return null;
+					}
+				});
+	}
+
+	/**
+	 * Create a {@link PreparedStatement} stub. All methods return {@literal null}.
+	 *
+	 * @return the {@link PreparedStatement} stub.
+	 */
+	public static PreparedStatement newPreparedStatement() {
+
+		return (PreparedStatement) Proxy.newProxyInstance(Sessions.class.getClassLoader(),
+				new Class<?>[] { PreparedStatement.class }, new InvocationHandler() {
+
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) {
+
+						if (method.getName().equals("hashCode")) {
+							return System.identityHashCode(proxy);
+						}
+
+						if (method.getName().equals("equals")) {
+							return proxy == args[0];
+						}
+
+						return null;
+					}
+				});
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
+import org.springframework.data.cassandra.microbenchmark.Person;
+import org.springframework.data.cassandra.microbenchmark.Sessions;
+import org.springframework.data.cassandra.repository.Query;
+import org.springframework.data.cassandra.repository.TypedIdCassandraRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.ExtensionAwareEvaluationContextProvider;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import com.datastax.driver.core.Cluster;
+
+/**
+ * Benchmarks for repository query creation and parameter binding of derived and string-based queries. Located in the
+ * repository query package to access {@link ConvertingParameterAccessor}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RepositoryQueryBenchmark {
+
+	Cluster cluster;
+	MappingCassandraConverter converter;
+
+	CassandraQueryMethod derivedQueryMethod;
+	PartTreeCassandraQuery derivedQuery;
+
+	CassandraQueryMethod stringQueryMethod;
+	StringBasedCassandraQuery stringQuery;
+
+	@Setup
+	public void setUp() throws Exception {
+
+		// not connected, provides the codec registry only
+		cluster = Cluster.builder().addContactPoint("127.0.0.1").build();
+
+		BasicCassandraMappingContext mappingContext = new BasicCassandraMappingContext();
+
+		converter = new MappingCassandraConverter(mappingContext);
+		converter.afterPropertiesSet();
+
+		CassandraTemplate template = new CassandraTemplate(Sessions.newSession("benchmark", cluster, null), converter);
+
+		derivedQueryMethod = getQueryMethod("findByLastnameAndFirstname", mappingContext);
+		derivedQuery = new PartTreeCassandraQuery(derivedQueryMethod, template);
+
+		stringQueryMethod = getQueryMethod("findByDeclaredQuery", mappingContext);
+		stringQuery = new StringBasedCassandraQuery(stringQueryMethod, template, new SpelExpressionParser(),
+				new ExtensionAwareEvaluationContextProvider());
+	}
+
+	@TearDown
+	public void tearDown() {
+		cluster.close();
+	}
+
+	@Benchmark
+	public String derivedQuery() {
+		return derivedQuery.createQuery(new ConvertingParameterAccessor(converter,
+				new CassandraParametersParameterAccessor(derivedQueryMethod, "White", "Walter")));
+	}
+
+	@Benchmark
+	public String stringBasedQuery() {
+		return stringQuery.createQuery(new ConvertingParameterAccessor(converter,
+				new CassandraParametersParameterAccessor(stringQueryMethod, "White", "Walter")));
+	}
+
+	private static CassandraQueryMethod getQueryMethod(String name, BasicCassandraMappingContext mappingContext)
+			throws Exception {
+
+		Method method = PersonRepository.class.getMethod(name, String.class, String.class);
+
+		return new CassandraQueryMethod(method, new DefaultRepositoryMetadata(PersonRepository.class),
+				new SpelAwareProxyProjectionFactory(), mappingContext);
+	}
+
+	interface PersonRepository extends TypedIdCassandraRepository<Person, String> {
+
+		Person findByLastnameAndFirstname(String lastname, String firstname);
+
+		@Query("SELECT * FROM person WHERE lastname = ?0 AND firstname = ?1")
+		Person findByDeclaredQuery(String lastname, String firstname);
+	}
+}
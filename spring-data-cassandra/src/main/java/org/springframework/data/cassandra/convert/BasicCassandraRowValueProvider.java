@@ -15,6 +15,7 @@
  */
 package org.springframework.data.cassandra.convert;
 
+import org.springframework.data.cassandra.convert.ColumnIndexCache.PropertyIndexes;
 import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
 import org.springframework.data.mapping.model.DefaultSpELExpressionEvaluator;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
@@ -34,6 +35,8 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 
 	private final ColumnReader reader;
 	private final SpELExpressionEvaluator evaluator;
+	private final PropertyIndexes propertyIndexes;
+	private final int[] indexes;
 
 	/**
 	 * Creates a new {@link BasicCassandraRowValueProvider} with the given {@link Row} and
@@ -43,12 +46,51 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 	 * @param evaluator must not be {@literal null}.
 	 */
 	public BasicCassandraRowValueProvider(Row source, DefaultSpELExpressionEvaluator evaluator) {
+		this(source, evaluator, null);
+	}
+
+	/**
+	 * Creates a new {@link BasicCassandraRowValueProvider} with the given {@link Row},
+	 * {@link DefaultSpELExpressionEvaluator} and {@link ColumnIndexCache}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param evaluator must not be {@literal null}.
+	 * @param columnIndexCache may be {@literal null}.
+	 * @since 1.6
+	 */
+	public BasicCassandraRowValueProvider(Row source, DefaultSpELExpressionEvaluator evaluator,
+			ColumnIndexCache columnIndexCache) {
 
 		Assert.notNull(source, "Source Row must not be null");
 		Assert.notNull(evaluator, "DefaultSpELExpressionEvaluator must not be null");
 
+		this.reader = new ColumnReader(source, columnIndexCache);
+		this.evaluator = evaluator;
+		this.propertyIndexes = null;
+		this.indexes = null;
+	}
+
+	/**
+	 * Creates a new {@link BasicCassandraRowValueProvider} with the given {@link Row},
+	 * {@link DefaultSpELExpressionEvaluator} and {@link PropertyIndexes}. Columns of properties covered by
+	 * {@link PropertyIndexes} are read by their resolved index, other properties are resolved by column name.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param evaluator must not be {@literal null}.
+	 * @param propertyIndexes must not be {@literal null}.
+	 * @since 1.6
+	 */
+	BasicCassandraRowValueProvider(Row source, DefaultSpELExpressionEvaluator evaluator,
+			PropertyIndexes propertyIndexes) {
+
+		Assert.notNull(source, "Source Row must not be null");
+		Assert.notNull(evaluator, "DefaultSpELExpressionEvaluator must not be null");
+		Assert.notNull(propertyIndexes, "PropertyIndexes must not be null");
+
 		this.reader = new ColumnReader(source);
 		this.evaluator = evaluator;
+		this.propertyIndexes = propertyIndexes;
+		this.indexes = propertyIndexes.getIndexes(source.getColumnDefinitions());
 	}
 
 	/* (non-Javadoc)
@@ -63,7 +105,18 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 			return evaluator.evaluate(expression);
 		}
 
-		return reader.get(property.getColumnName());
+		int ordinal = ordinalOf(property);
+
+		if (ordinal == -1) {
+			return reader.get(property.getColumnName());
+		}
+
+		if (indexes[ordinal] == -1) {
+			throw new IllegalArgumentException(
+					"Column does not exist in Cassandra table: " + property.getColumnName().toCql());
+		}
+
+		return reader.get(indexes[ordinal]);
 	}
 
 	/* (non-Javadoc)
@@ -82,6 +135,12 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 
 		Assert.notNull(property, "CassandraPersistentProperty must not be null");
 
-		return getRow().getColumnDefinitions().contains(property.getColumnName().toCql());
+		int ordinal = ordinalOf(property);
+
+		return (ordinal != -1 ? indexes[ordinal] != -1 : reader.contains(property.getColumnName().toCql()));
+	}
+
+	private int ordinalOf(CassandraPersistentProperty property) {
+		return (propertyIndexes != null ? propertyIndexes.ordinalOf(property) : -1);
 	}
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cassandra.core.support.ColumnIndex;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+import com.datastax.driver.core.ColumnDefinitions;
+
+/**
+ * Cache for column indexes resolved against a {@link ColumnDefinitions} instance. All rows of a result set share the
+ * same {@link ColumnDefinitions}, as do result sets of a prepared statement whose result metadata is not re-sent, so
+ * column names are resolved once per {@link ColumnDefinitions} instance through the shared {@link ColumnIndex}.
+ * {@link PropertyIndexes} resolve the column indexes of a fixed set of properties into an {@code int[]} table once per
+ * {@link ColumnDefinitions} instance so reading a row requires a single table lookup. Hits and misses are counted once
+ * per table lookup. {@link ColumnDefinitions} instances are held weakly.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+public class ColumnIndexCache {
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Returns the index of the column {@code name} in the given {@link ColumnDefinitions}.
+	 *
+	 * @param columnDefinitions must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @return the column index or {@literal -1} if the column is not part of the {@link ColumnDefinitions}.
+	 * @see ColumnDefinitions#getIndexOf(String)
+	 */
+	public int getIndexOf(ColumnDefinitions columnDefinitions, String name) {
+		return getColumnIndex(columnDefinitions).indexOf(name);
+	}
+
+	/**
+	 * Returns the {@link ColumnIndex} for the given {@link ColumnDefinitions}.
+	 *
+	 * @param columnDefinitions must not be {@literal null}.
+	 * @return the {@link ColumnIndex}.
+	 */
+	ColumnIndex getColumnIndex(ColumnDefinitions columnDefinitions) {
+		return ColumnIndex.of(columnDefinitions);
+	}
+
+	/**
+	 * Creates {@link PropertyIndexes} for the given {@code properties}.
+	 *
+	 * @param properties must not be {@literal null}.
+	 * @return the {@link PropertyIndexes}.
+	 */
+	PropertyIndexes createPropertyIndexes(List<CassandraPersistentProperty> properties) {
+
+		Assert.notNull(properties, "Properties must not be null");
+
+		return new PropertyIndexes(properties);
+	}
+
+	/**
+	 * @return the number of table lookups served from the cache.
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of tables resolved against {@link ColumnDefinitions}.
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * @return the ratio of table lookups served from the cache, {@code 0} if no lookup was performed.
+	 */
+	public double getHitRate() {
+
+		long hits = getHitCount();
+		long total = hits + getMissCount();
+
+		return (total == 0 ? 0 : (double) hits / total);
+	}
+
+	/**
+	 * Column indexes of a fixed set of properties. Each property is assigned an ordinal into the {@code int[]} table
+	 * resolved per {@link ColumnDefinitions} instance.
+	 */
+	class PropertyIndexes {
+
+		private final Map<CassandraPersistentProperty, Integer> ordinals;
+		private final String[] columnNames;
+		private final Map<ColumnDefinitions, int[]> tables = new ConcurrentReferenceHashMap<ColumnDefinitions, int[]>(16,
+				ReferenceType.WEAK);
+
+		private volatile Table last;
+
+		PropertyIndexes(List<CassandraPersistentProperty> properties) {
+
+			this.ordinals = new IdentityHashMap<CassandraPersistentProperty, Integer>(properties.size());
+			this.columnNames = new String[properties.size()];
+
+			for (int i = 0; i < properties.size(); i++) {
+				ordinals.put(properties.get(i), i);
+				columnNames[i] = properties.get(i).getColumnName().toCql();
+			}
+		}
+
+		/**
+		 * @param property must not be {@literal null}.
+		 * @return the ordinal of {@code property} or {@literal -1} if the property is not part of this table.
+		 */
+		int ordinalOf(CassandraPersistentProperty property) {
+
+			Integer ordinal = ordinals.get(property);
+
+			return (ordinal != null ? ordinal : -1);
+		}
+
+		/**
+		 * Returns the column index table for the given {@link ColumnDefinitions}, indexed by property ordinal. Columns
+		 * that are not part of {@link ColumnDefinitions} are represented by {@literal -1}.
+		 *
+		 * @param columnDefinitions must not be {@literal null}.
+		 * @return the column index table.
+		 */
+		int[] getIndexes(ColumnDefinitions columnDefinitions) {
+
+			Table last = this.last;
+
+			if (last != null && last.columnDefinitions == columnDefinitions) {
+				hits.incrementAndGet();
+				return last.indexes;
+			}
+
+			int[] indexes = tables.get(columnDefinitions);
+
+			if (indexes != null) {
+				hits.incrementAndGet();
+			} else {
+
+				misses.incrementAndGet();
+
+				ColumnIndex columnIndex = getColumnIndex(columnDefinitions);
+				indexes = new int[columnNames.length];
+
+				for (int i = 0; i < columnNames.length; i++) {
+					indexes[i] = columnIndex.indexOf(columnNames[i]);
+				}
+
+				tables.put(columnDefinitions, indexes);
+			}
+
+			this.last = new Table(columnDefinitions, indexes);
+
+			return indexes;
+		}
+	}
+
+	/**
+	 * Resolved column index table for a particular {@link ColumnDefinitions} instance.
+	 */
+	private static class Table {
+
+		private final ColumnDefinitions columnDefinitions;
+		private final int[] indexes;
+
+		Table(ColumnDefinitions columnDefinitions, int[] indexes) {
+			this.columnDefinitions = columnDefinitions;
+			this.indexes = indexes;
+		}
+	}
+}
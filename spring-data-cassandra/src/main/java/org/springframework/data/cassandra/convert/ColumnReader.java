@@ -18,6 +18,7 @@ package org.springframework.data.cassandra.convert;
 import java.util.List;
 
 import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.cassandra.core.support.ColumnIndex;
 
 import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.ColumnDefinitions;
@@ -38,11 +39,24 @@ public class ColumnReader {
 	protected Row row;
 	protected ColumnDefinitions columns;
 	private final CodecRegistry codecRegistry;
+	private final ColumnIndex columnIndex;
 
 	public ColumnReader(Row row) {
+		this(row, null);
+	}
+
+	/**
+	 * Creates a new {@link ColumnReader} resolving column indexes through the given {@link ColumnIndexCache}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param columnIndexCache may be {@literal null}.
+	 * @since 1.6
+	 */
+	public ColumnReader(Row row, ColumnIndexCache columnIndexCache) {
 		this.row = row;
 		this.columns = row.getColumnDefinitions();
 		this.codecRegistry = CodecRegistry.DEFAULT_INSTANCE;
+		this.columnIndex = (columnIndexCache != null ? columnIndexCache.getColumnIndex(columns) : null);
 	}
 
 	/**
@@ -141,7 +155,7 @@ public class ColumnReader {
 	 * @throws ClassCastException if the value cannot be converted to the requested type.
 	 */
 	public <T> T get(String name, Class<T> requestedType) {
-		return get(columns.getIndexOf(name), requestedType);
+		return get(indexOf(name), requestedType);
 	}
 
 	/**
@@ -161,13 +175,28 @@ public class ColumnReader {
 		return (T) o;
 	}
 
+	/**
+	 * Returns whether the row contains the column {@code name}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return {@literal true} if the row contains the column.
+	 * @since 1.6
+	 */
+	public boolean contains(String name) {
+		return (columnIndex != null ? columnIndex.indexOf(name) != -1 : columns.contains(name));
+	}
+
 	private int getColumnIndex(String name) {
 
-		int indexOf = columns.getIndexOf(name);
+		int indexOf = indexOf(name);
 		if (indexOf == -1) {
 			throw new IllegalArgumentException("Column does not exist in Cassandra table: " + name);
 		}
 		return indexOf;
 	}
 
+	private int indexOf(String name) {
+		return (columnIndex != null ? columnIndex.indexOf(name) : columns.getIndexOf(name));
+	}
+
 }
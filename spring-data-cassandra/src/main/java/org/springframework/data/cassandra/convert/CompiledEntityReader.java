@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.cassandra.convert.ColumnIndexCache.PropertyIndexes;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+/**
+ * Per-entity reader that precomputes the properties to read and resolves their column indexes once per
+ * {@link ColumnDefinitions} instance through {@link ColumnIndexCache}. All rows of a result set share the same {@link ColumnDefinitions} so column
+ * names are looked up once per result set instead of once per property and row. Instances are created through the
+ * entity's instantiator and properties are set through the entity's (class-generating, if possible)
+ * {@link org.springframework.data.mapping.PersistentPropertyAccessor}.
+ * <p>
+ * Entities using a composite primary key or SpEL expressions are not supported, see {@link #isSupported}.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class CompiledEntityReader<T> {
+
+	private final MappingCassandraConverter converter;
+	private final CassandraPersistentEntity<T> entity;
+
+	private final CassandraPersistentProperty[] properties;
+	private final PropertyIndexes propertyIndexes;
+
+	/**
+	 * Creates a new {@link CompiledEntityReader}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 */
+	CompiledEntityReader(MappingCassandraConverter converter, CassandraPersistentEntity<T> entity) {
+
+		Assert.notNull(converter, "MappingCassandraConverter must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.isTrue(isSupported(entity), String.format("Entity [%s] is not supported", entity.getName()));
+
+		final List<CassandraPersistentProperty> allProperties = new ArrayList<CassandraPersistentProperty>();
+		final List<CassandraPersistentProperty> properties = new ArrayList<CassandraPersistentProperty>();
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				allProperties.add(property);
+
+				if (!entity.isConstructorArgument(property)) {
+					properties.add(property);
+				}
+			}
+		});
+
+		this.converter = converter;
+		this.entity = entity;
+		this.propertyIndexes = converter.getColumnIndexCache().createPropertyIndexes(allProperties);
+		this.properties = properties.toArray(new CassandraPersistentProperty[properties.size()]);
+	}
+
+	/**
+	 * Returns whether the given {@link CassandraPersistentEntity} can be read by a {@link CompiledEntityReader}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if the entity declares neither a composite primary key nor SpEL expressions.
+	 */
+	static boolean isSupported(CassandraPersistentEntity<?> entity) {
+
+		final boolean[] supported = { !entity.isCompositePrimaryKey() };
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (property.isCompositePrimaryKey() || property.getSpelExpression() != null) {
+					supported[0] = false;
+				}
+			}
+		});
+
+		return supported[0];
+	}
+
+	/**
+	 * Read a new entity instance from the given {@link Row}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @return the entity instance.
+	 */
+	T read(Row row) {
+
+		IndexedRowValueProvider valueProvider = new IndexedRowValueProvider(row, propertyIndexes,
+				propertyIndexes.getIndexes(row.getColumnDefinitions()));
+
+		T instance = converter.instantiators.getInstantiatorFor(entity).createInstance(entity,
+				new CassandraPersistentEntityParameterValueProvider(entity,
+						converter.new MappingAndConvertingValueProvider(valueProvider), null));
+
+		ConvertingPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance),
+				converter.getConversionService());
+
+		for (CassandraPersistentProperty property : properties) {
+			if (valueProvider.hasProperty(property)) {
+				accessor.setProperty(property, converter.getReadValue(valueProvider, property));
+			}
+		}
+
+		return instance;
+	}
+
+	/**
+	 * {@link CassandraRowValueProvider} reading column values by their resolved index.
+	 */
+	static class IndexedRowValueProvider extends ColumnReader implements CassandraRowValueProvider {
+
+		private final PropertyIndexes propertyIndexes;
+		private final int[] indexes;
+
+		IndexedRowValueProvider(Row row, PropertyIndexes propertyIndexes, int[] indexes) {
+
+			super(row);
+			this.propertyIndexes = propertyIndexes;
+			this.indexes = indexes;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.convert.CassandraValueProvider#hasProperty(org.springframework.data.cassandra.mapping.CassandraPersistentProperty)
+		 */
+		@Override
+		public boolean hasProperty(CassandraPersistentProperty property) {
+			return indexOf(property) != -1;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.mapping.model.PropertyValueProvider#getPropertyValue(org.springframework.data.mapping.PersistentProperty)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object getPropertyValue(CassandraPersistentProperty property) {
+
+			int index = indexOf(property);
+
+			if (index == -1) {
+				throw new IllegalArgumentException(
+						"Column does not exist in Cassandra table: " + property.getColumnName().toCql());
+			}
+
+			return get(index);
+		}
+
+		private int indexOf(CassandraPersistentProperty property) {
+
+			int ordinal = propertyIndexes.ordinalOf(property);
+
+			return (ordinal != -1 ? indexes[ordinal] : getRow().getColumnDefinitions().getIndexOf(
+					property.getColumnName().toCql()));
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stores snapshots of entity instances. Entities are compared by identity and referenced weakly, so a snapshot is
+ * discarded once its entity is no longer reachable. Entities may implement {@code equals} and {@code hashCode} based on
+ * mutable state, which is why a {@link java.util.WeakHashMap} is not used here. Snapshots are held in a
+ * {@link ConcurrentMap} so that reads on different threads do not contend.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class EntitySnapshots {
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+
+	private final ConcurrentMap<IdentityReference, Object[]> snapshots = new ConcurrentHashMap<IdentityReference, Object[]>();
+
+	/**
+	 * Store the snapshot for the given entity replacing any previous snapshot.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param snapshot must not be {@literal null}.
+	 */
+	void put(Object entity, Object[] snapshot) {
+
+		expungeStaleEntries();
+		snapshots.put(new IdentityReference(entity, queue), snapshot);
+	}
+
+	/**
+	 * @param entity must not be {@literal null}.
+	 * @return the snapshot of the given entity or {@literal null} if the entity is not tracked.
+	 */
+	Object[] get(Object entity) {
+		return snapshots.get(new IdentityReference(entity, null));
+	}
+
+	/**
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if a snapshot of the given entity was removed.
+	 */
+	boolean remove(Object entity) {
+
+		expungeStaleEntries();
+		return snapshots.remove(new IdentityReference(entity, null)) != null;
+	}
+
+	/**
+	 * @return the number of tracked entities.
+	 */
+	int size() {
+
+		expungeStaleEntries();
+		return snapshots.size();
+	}
+
+	private void expungeStaleEntries() {
+
+		Reference<?> reference;
+
+		while ((reference = queue.poll()) != null) {
+			snapshots.remove(reference);
+		}
+	}
+
+	/**
+	 * {@link WeakReference} using identity semantics of its referent for {@link #equals(Object)} and
+	 * {@link #hashCode()}. Cleared references are equal only to themselves.
+	 */
+	static class IdentityReference extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		IdentityReference(Object referent, ReferenceQueue<Object> queue) {
+
+			super(referent, queue);
+			this.hashCode = System.identityHashCode(referent);
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof IdentityReference)) {
+				return false;
+			}
+
+			Object referent = get();
+
+			return referent != null && referent == ((IdentityReference) obj).get();
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+
+/**
+ * {@link InvocationHandler} for collection and map proxies of {@link org.springframework.data.cassandra.mapping.Lazy}
+ * properties. The proxy keeps the {@link PropertyValueProvider} and reads and converts the property value on first
+ * access. Subsequent invocations are delegated to the converted value.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class LazyLoadingCollection implements InvocationHandler {
+
+	private final MappingCassandraConverter converter;
+	private final PropertyValueProvider<CassandraPersistentProperty> valueProvider;
+	private final CassandraPersistentProperty property;
+
+	private volatile Object target;
+
+	private volatile Object snapshot;
+
+	private LazyLoadingCollection(MappingCassandraConverter converter,
+			PropertyValueProvider<CassandraPersistentProperty> valueProvider, CassandraPersistentProperty property) {
+
+		this.converter = converter;
+		this.valueProvider = valueProvider;
+		this.property = property;
+	}
+
+	/**
+	 * @param property the {@link CassandraPersistentProperty}.
+	 * @return {@literal true} if values of {@code property} can be loaded lazily.
+	 */
+	static boolean isSupported(CassandraPersistentProperty property) {
+		return (property.isCollectionLike() || property.isMap()) && property.getType().isInterface();
+	}
+
+	/**
+	 * Create a lazy-loading proxy for the value of {@code property}.
+	 *
+	 * @param converter the converter to read the property value with.
+	 * @param valueProvider the source of the property value.
+	 * @param property the property, must be {@link #isSupported(CassandraPersistentProperty) supported}.
+	 * @return the proxy.
+	 */
+	static Object create(MappingCassandraConverter converter,
+			PropertyValueProvider<CassandraPersistentProperty> valueProvider, CassandraPersistentProperty property) {
+
+		return Proxy.newProxyInstance(property.getType().getClassLoader(), new Class<?>[] { property.getType() },
+				new LazyLoadingCollection(converter, valueProvider, property));
+	}
+
+	/**
+	 * @param object the object to inspect.
+	 * @return {@literal true} if {@code object} is a lazy-loading proxy whose value was not read yet.
+	 */
+	static boolean isUnresolved(Object object) {
+
+		LazyLoadingCollection handler = getHandler(object);
+
+		return handler != null && handler.target == null;
+	}
+
+	/**
+	 * @param object the object to inspect.
+	 * @return {@literal true} if {@code object} is a lazy-loading proxy.
+	 */
+	static boolean isLazy(Object object) {
+		return getHandler(object) != null;
+	}
+
+	/**
+	 * Returns the change tracking snapshot of the value the proxy resolved to. The snapshot is taken on resolution if
+	 * change tracking is enabled.
+	 *
+	 * @param object the lazy-loading proxy.
+	 * @return the snapshot or {@literal null} if the proxy is unresolved or was resolved without change tracking.
+	 * @see MappingCassandraConverter#getSnapshotValue(CassandraPersistentProperty, Object)
+	 */
+	static Object getSnapshot(Object object) {
+
+		LazyLoadingCollection handler = getHandler(object);
+
+		return (handler != null ? handler.snapshot : null);
+	}
+
+	private static LazyLoadingCollection getHandler(Object object) {
+
+		if (object == null || !Proxy.isProxyClass(object.getClass())) {
+			return null;
+		}
+
+		InvocationHandler handler = Proxy.getInvocationHandler(object);
+
+		return (handler instanceof LazyLoadingCollection ? (LazyLoadingCollection) handler : null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		if (method.getName().equals("equals") && args != null && args.length == 1 && args[0] == proxy) {
+			return true;
+		}
+
+		try {
+			return method.invoke(resolve(), args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private Object resolve() {
+
+		Object target = this.target;
+
+		if (target == null) {
+
+			synchronized (this) {
+
+				target = this.target;
+
+				if (target == null) {
+
+					target = read();
+
+					if (converter.isUseChangeTracking()) {
+						snapshot = converter.getSnapshotValue(property, target);
+					}
+
+					this.target = target;
+				}
+			}
+		}
+
+		return target;
+	}
+
+	private Object read() {
+
+		Class<?> type = property.getType();
+		Object value = converter.doGetReadValue(valueProvider, property);
+
+		if (value == null) {
+			return property.isMap() ? CollectionFactory.createMap(type, 0) : CollectionFactory.createCollection(type, 0);
+		}
+
+		return type.isInstance(value) ? value : converter.getConversionService().convert(value, type);
+	}
+}
@@ -20,10 +20,29 @@ import static org.springframework.data.cassandra.repository.support.BasicMapId.*
 import lombok.AllArgsConstructor;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,13 +51,17 @@ import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.CollectionFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.convert.ColumnIndexCache.PropertyIndexes;
 import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.mapping.CassandraType;
+import org.springframework.data.cassandra.mapping.NullValueHandling;
+import org.springframework.data.cassandra.mapping.Table;
 import org.springframework.data.cassandra.repository.MapId;
 import org.springframework.data.cassandra.repository.MapIdentifiable;
 import org.springframework.data.convert.EntityInstantiator;
@@ -58,10 +81,12 @@ import org.springframework.util.ObjectUtils;
 
 import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.LocalDate;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
+import com.datastax.driver.core.querybuilder.Assignment;
 import com.datastax.driver.core.querybuilder.Clause;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Insert;
@@ -89,11 +114,44 @@ import com.datastax.driver.core.querybuilder.Update;
 public class MappingCassandraConverter extends AbstractCassandraConverter
 		implements CassandraConverter, ApplicationContextAware, BeanClassLoaderAware {
 
+	private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>> asList(String.class,
+			Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+			BigInteger.class, BigDecimal.class, UUID.class, Inet4Address.class, Inet6Address.class, LocalDate.class));
+
 	protected ApplicationContext applicationContext;
 	protected final CassandraMappingContext mappingContext;
 	protected ClassLoader beanClassLoader;
 	protected SpELContext spELContext;
 
+	private final Map<CassandraPersistentEntity<?>, CompiledEntityReader<?>> compiledReaders =
+			new ConcurrentHashMap<CassandraPersistentEntity<?>, CompiledEntityReader<?>>();
+
+	private final Set<CassandraPersistentEntity<?>> unsupportedCompiledReaders = Collections
+			.newSetFromMap(new ConcurrentHashMap<CassandraPersistentEntity<?>, Boolean>());
+
+	private boolean useCompiledEntityReaders;
+
+	private final ColumnIndexCache columnIndexCache = new ColumnIndexCache();
+
+	private final Map<CassandraPersistentEntity<?>, PropertyIndexes> propertyIndexes =
+			new ConcurrentHashMap<CassandraPersistentEntity<?>, PropertyIndexes>();
+
+	private boolean skipNullValues;
+
+	private final Map<Class<?>, NullValueHandling> nullValueHandling = new ConcurrentHashMap<Class<?>, NullValueHandling>();
+
+	private final Map<CassandraPersistentEntity<?>, Set<String>> primaryKeyColumns =
+			new ConcurrentHashMap<CassandraPersistentEntity<?>, Set<String>>();
+
+	private final ConcurrentMap<Class<?>, AtomicLong> skippedNullValues = new ConcurrentHashMap<Class<?>, AtomicLong>();
+
+	private boolean useChangeTracking;
+
+	private final EntitySnapshots snapshots = new EntitySnapshots();
+
+	private final Map<CassandraPersistentEntity<?>, List<CassandraPersistentProperty>> snapshotProperties =
+			new ConcurrentHashMap<CassandraPersistentEntity<?>, List<CassandraPersistentProperty>>();
+
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
 	/**
@@ -146,7 +204,13 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			throw new MappingException(String.format("No mapping metadata found for %s", rawType.getName()));
 		}
 
-		return readEntityFromRow(persistentEntity, row);
+		R instance = readEntityFromRow(persistentEntity, row);
+
+		if (useChangeTracking) {
+			snapshot(instance, persistentEntity);
+		}
+
+		return instance;
 	}
 
 	/* (non-Javadoc)
@@ -158,10 +222,570 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		this.spELContext = new SpELContext(this.spELContext, applicationContext);
 	}
 
+	/**
+	 * Enable or disable compiled entity readers for reading entities from {@link Row}s. A compiled reader is created
+	 * once per entity, resolves column indexes once per result set and sets properties without evaluating SpEL or
+	 * walking the entity metadata for each row. Entities with a composite primary key or SpEL expressions are read
+	 * using the default path. Compiled readers bypass {@link #readPropertiesFromRow} and {@link #readProperty} so
+	 * subclasses customizing these methods should not enable compiled readers. Disabled by default.
+	 *
+	 * @param useCompiledEntityReaders {@literal true} to use compiled entity readers.
+	 * @since 1.6
+	 */
+	public void setUseCompiledEntityReaders(boolean useCompiledEntityReaders) {
+		this.useCompiledEntityReaders = useCompiledEntityReaders;
+	}
+
+	/**
+	 * @return {@literal true} if compiled entity readers are used to read entities from {@link Row}s.
+	 * @since 1.6
+	 */
+	public boolean isUseCompiledEntityReaders() {
+		return useCompiledEntityReaders;
+	}
+
+	/**
+	 * Returns the {@link ColumnIndexCache} used to resolve column indexes when reading entities from {@link Row}s. The
+	 * hit and miss counters can be used to verify how often column names are resolved.
+	 *
+	 * @return the {@link ColumnIndexCache}.
+	 * @since 1.6
+	 */
+	public ColumnIndexCache getColumnIndexCache() {
+		return columnIndexCache;
+	}
+
+	/**
+	 * Enable or disable skipping of {@literal null} values when writing inserts and updates. Writing a {@literal null}
+	 * value creates a tombstone, so skipping {@literal null} values of sparse entities reduces tombstones that slow down
+	 * reads and compaction. Skipped columns retain their current value on updates. Prepared statements leave bind
+	 * variables of skipped columns unset on native protocol v4 and newer. Entities can override this setting with
+	 * {@link Table#nullValues()}. Disabled by default.
+	 *
+	 * @param skipNullValues {@literal true} to skip {@literal null} values.
+	 * @since 1.6
+	 */
+	public void setSkipNullValues(boolean skipNullValues) {
+		this.skipNullValues = skipNullValues;
+	}
+
+	/**
+	 * @return {@literal true} if {@literal null} values are skipped by default.
+	 * @since 1.6
+	 */
+	public boolean isSkipNullValues() {
+		return skipNullValues;
+	}
+
+	/**
+	 * Returns whether {@literal null} values of the given {@link CassandraPersistentEntity} are skipped when writing
+	 * inserts and updates, considering {@link Table#nullValues()}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if {@literal null} values are skipped.
+	 * @since 1.6
+	 */
+	public boolean isSkipNullValues(CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		NullValueHandling handling = nullValueHandling.get(entity.getType());
+
+		if (handling == null) {
+
+			Table table = AnnotatedElementUtils.findMergedAnnotation(entity.getType(), Table.class);
+
+			handling = (table != null ? table.nullValues() : NullValueHandling.DEFAULT);
+			nullValueHandling.put(entity.getType(), handling);
+		}
+
+		return (handling == NullValueHandling.DEFAULT ? skipNullValues : handling == NullValueHandling.SKIP);
+	}
+
+	/**
+	 * Removes {@literal null} values of non-primary key columns from {@code columnValues} if {@literal null} values of the
+	 * {@link CassandraPersistentEntity} are skipped. Used by statement factories that write column values into a
+	 * {@link Map}.
+	 *
+	 * @param columnValues column values keyed by CQL column name, must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the names of the removed columns, empty if {@literal null} values are written.
+	 * @see #write(Object, Object, CassandraPersistentEntity)
+	 * @since 1.6
+	 */
+	public Set<String> removeSkippedNullValues(Map<String, Object> columnValues, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(columnValues, "Column values must not be null");
+
+		if (!isSkipNullValues(entity)) {
+			return Collections.emptySet();
+		}
+
+		Set<String> keyColumns = getPrimaryKeyColumns(entity);
+		Set<String> removed = new LinkedHashSet<String>();
+
+		for (Iterator<Entry<String, Object>> iterator = columnValues.entrySet().iterator(); iterator.hasNext();) {
+
+			Entry<String, Object> entry = iterator.next();
+
+			if (entry.getValue() == null && !keyColumns.contains(entry.getKey())) {
+				removed.add(entry.getKey());
+				iterator.remove();
+			}
+		}
+
+		countSkippedNullValues(entity, removed.size());
+
+		return removed;
+	}
+
+	/**
+	 * Returns whether an update of {@code source} would not assign any column because {@literal null} values of the
+	 * {@link CassandraPersistentEntity} are skipped and all non-primary key properties are {@literal null}. Such an
+	 * update would render as {@code UPDATE … WHERE …} without a {@code SET} clause, which is not valid CQL.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if the update has no assignment.
+	 * @since 1.6
+	 */
+	public boolean isUpdateWithoutAssignments(Object source, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		if (!isSkipNullValues(entity)) {
+			return false;
+		}
+
+		final PersistentPropertyAccessor accessor = entity.getPropertyAccessor(source);
+		final boolean[] assignments = { false };
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (!isPrimaryKeyPart(property) && accessor.getProperty(property) != null) {
+					assignments[0] = true;
+				}
+			}
+		});
+
+		if (!assignments[0] && log.isDebugEnabled()) {
+			log.debug("All non-primary key properties of [{}] are null and skipped, update has no assignments",
+					entity.getType().getName());
+		}
+
+		return !assignments[0];
+	}
+
+	/**
+	 * Returns the number of {@literal null} values skipped when writing entities of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the number of skipped {@literal null} values.
+	 * @since 1.6
+	 */
+	public long getSkippedNullValueCount(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		AtomicLong counter = skippedNullValues.get(type);
+
+		return (counter != null ? counter.get() : 0);
+	}
+
+	/**
+	 * @return the number of {@literal null} values skipped per entity type.
+	 * @since 1.6
+	 */
+	public Map<Class<?>, Long> getSkippedNullValueCounts() {
+
+		Map<Class<?>, Long> counts = new HashMap<Class<?>, Long>(skippedNullValues.size());
+
+		for (Entry<Class<?>, AtomicLong> entry : skippedNullValues.entrySet()) {
+			counts.put(entry.getKey(), entry.getValue().get());
+		}
+
+		return Collections.unmodifiableMap(counts);
+	}
+
+	/**
+	 * Enable or disable change tracking. Entities read through {@link #readRow(Class, Row)} keep a snapshot of their
+	 * column values so {@link #writeChanges(Object, Update, CassandraPersistentEntity)} can write only changed columns.
+	 * Collection changes are written as element additions or removals where possible instead of replacing the whole
+	 * collection. Snapshots are held until the entity is garbage collected. They keep immutable values by reference and
+	 * copies of collections, maps, dates and blobs. Columns of other mutable values, such as user-defined types and
+	 * tuples, are written on every update. Unresolved
+	 * {@link org.springframework.data.cassandra.mapping.Lazy} properties are not read for the snapshot, they are
+	 * snapshotted when resolved. Disabled by default.
+	 *
+	 * @param useChangeTracking {@literal true} to track changes of read entities.
+	 * @since 1.6
+	 */
+	public void setUseChangeTracking(boolean useChangeTracking) {
+		this.useChangeTracking = useChangeTracking;
+	}
+
+	/**
+	 * @return {@literal true} if changes of read entities are tracked.
+	 * @since 1.6
+	 */
+	public boolean isUseChangeTracking() {
+		return useChangeTracking;
+	}
+
+	/**
+	 * Record the current column values of the given entity as its persisted state. Subsequent calls to
+	 * {@link #writeChanges(Object, Update, CassandraPersistentEntity)} write only columns that differ from this snapshot.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @since 1.6
+	 */
+	public void snapshot(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext()
+				.getPersistentEntity(transformClassToBeanClassLoaderClass(entity.getClass()));
+
+		if (persistentEntity == null) {
+			throw new MappingException("No mapping metadata found for " + entity.getClass());
+		}
+
+		snapshot(entity, persistentEntity);
+	}
+
+	/**
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if a snapshot of the given entity exists.
+	 * @since 1.6
+	 */
+	public boolean isTracked(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return snapshots.get(entity) != null;
+	}
+
+	/**
+	 * Write the columns of {@code source} that changed since its last snapshot to the given {@link Update}. Primary key
+	 * columns are written as {@code WHERE} clauses. Changed lists are appended or prepended to, changed sets get
+	 * elements added or removed and changed maps get entries put if the change can be expressed that way, otherwise the
+	 * column is replaced. Entities without a snapshot or with a changed primary key are written completely, as with
+	 * {@link #write(Object, Object, CassandraPersistentEntity)}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if at least one assignment was written, {@literal false} if the entity is unchanged.
+	 * @see #snapshot(Object)
+	 * @since 1.6
+	 */
+	public boolean writeChanges(Object source, Update update, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(update, "Update must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		Object[] snapshot = snapshots.get(source);
+		ConvertingPropertyAccessor accessor = getConvertingAccessor(source, entity);
+		List<CassandraPersistentProperty> properties = getSnapshotProperties(entity);
+
+		if (snapshot == null || !isSameRow(snapshot, accessor, properties)) {
+			writeUpdateFromWrapper(accessor, update, entity);
+			return true;
+		}
+
+		boolean skipNullValues = isSkipNullValues(entity);
+		int changes = 0;
+
+		for (int index = 0; index < properties.size(); index++) {
+
+			CassandraPersistentProperty property = properties.get(index);
+
+			if (property.isCompositePrimaryKey()) {
+
+				CassandraPersistentEntity<?> keyEntity = property.getCompositePrimaryKeyEntity();
+				writeUpdateFromWrapper(getConvertingAccessor(accessor.getProperty(property), keyEntity), update, keyEntity);
+				continue;
+			}
+
+			String column = property.getColumnName().toCql();
+
+			if (isPrimaryKeyPart(property)) {
+				update.where(QueryBuilder.eq(column, getWriteValue(property, accessor)));
+				continue;
+			}
+
+			Object value = accessor.getProperty(property);
+			Object previous = snapshot[index];
+
+			if (LazyLoadingCollection.isLazy(previous)) {
+
+				if (value == previous && LazyLoadingCollection.isUnresolved(value)) {
+					continue;
+				}
+
+				previous = LazyLoadingCollection.getSnapshot(previous);
+			}
+
+			Object current = getSnapshotValue(property, value);
+
+			if (ObjectUtils.nullSafeEquals(previous, current)) {
+				continue;
+			}
+
+			if (value == null && skipNullValues) {
+				countSkippedNullValues(entity, 1);
+				continue;
+			}
+
+			Object writeValue = (value instanceof Collection || value instanceof Map ? current
+					: getWriteValue(property, accessor));
+
+			update.with(getChangeAssignment(column, previous, writeValue));
+			changes++;
+		}
+
+		return changes > 0;
+	}
+
+	private void snapshot(Object source, CassandraPersistentEntity<?> entity) {
+		snapshots.put(source, getSnapshot(source, entity));
+	}
+
+	/**
+	 * Create a compact snapshot of the property values of {@code source} in the order of
+	 * {@link #getSnapshotProperties(CassandraPersistentEntity)}.
+	 */
+	private Object[] getSnapshot(Object source, CassandraPersistentEntity<?> entity) {
+
+		List<CassandraPersistentProperty> properties = getSnapshotProperties(entity);
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(source);
+		Object[] snapshot = new Object[properties.size()];
+
+		for (int index = 0; index < snapshot.length; index++) {
+
+			CassandraPersistentProperty property = properties.get(index);
+			snapshot[index] = getSnapshotValue(property, accessor.getProperty(property));
+		}
+
+		return snapshot;
+	}
+
+	/**
+	 * Returns the snapshot representation of a property value. Unresolved {@link org.springframework.data.cassandra.mapping.Lazy}
+	 * proxies are kept as they are and not read. Collections and maps are kept as converted copies to write changes as
+	 * element deltas. Immutable values are kept by reference and converted {@link Date}s and {@link ByteBuffer}s are
+	 * copied. Any other value is snapshotted as an {@link UntrackedValue} that differs from every other snapshot, so its
+	 * column is always written.
+	 *
+	 * @param property the property.
+	 * @param value the property value, may be {@literal null}.
+	 * @return the snapshot representation of {@code value}, may be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	Object getSnapshotValue(CassandraPersistentProperty property, Object value) {
+
+		if (value == null || LazyLoadingCollection.isUnresolved(value)) {
+			return value;
+		}
+
+		if (property.isCompositePrimaryKey()) {
+			return getSnapshot(value, property.getCompositePrimaryKeyEntity());
+		}
+
+		if (value instanceof Collection || value instanceof Map) {
+
+			Object converted = getWriteValue(value, property.getTypeInformation());
+
+			return (converted == value && value instanceof Map
+					? new LinkedHashMap<Object, Object>((Map<Object, Object>) value) : converted);
+		}
+
+		if (isImmutable(value)) {
+			return value;
+		}
+
+		Object converted = getWriteValue(value, property.getTypeInformation());
+
+		if (converted == null || isImmutable(converted)) {
+			return converted;
+		}
+
+		if (converted.getClass() == Date.class) {
+			return new Date(((Date) converted).getTime());
+		}
+
+		if (converted instanceof ByteBuffer) {
+
+			ByteBuffer copy = ByteBuffer.allocate(((ByteBuffer) converted).remaining());
+			copy.put(((ByteBuffer) converted).duplicate());
+			copy.flip();
+
+			return copy;
+		}
+
+		return new UntrackedValue();
+	}
+
+	private static boolean isImmutable(Object value) {
+		return value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass());
+	}
+
+	private List<CassandraPersistentProperty> getSnapshotProperties(CassandraPersistentEntity<?> entity) {
+
+		List<CassandraPersistentProperty> properties = snapshotProperties.get(entity);
+
+		if (properties == null) {
+
+			final List<CassandraPersistentProperty> list = new ArrayList<CassandraPersistentProperty>();
+
+			entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+				@Override
+				public void doWithPersistentProperty(CassandraPersistentProperty property) {
+					list.add(property);
+				}
+			});
+
+			properties = Collections.unmodifiableList(list);
+			snapshotProperties.put(entity, properties);
+		}
+
+		return properties;
+	}
+
+	private boolean isSameRow(Object[] snapshot, PersistentPropertyAccessor accessor,
+			List<CassandraPersistentProperty> properties) {
+
+		for (int index = 0; index < properties.size(); index++) {
+
+			CassandraPersistentProperty property = properties.get(index);
+
+			if (isPrimaryKeyPart(property) && !ObjectUtils.nullSafeEquals(snapshot[index],
+					getSnapshotValue(property, accessor.getProperty(property)))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static Assignment getChangeAssignment(String column, Object previous, Object value) {
+
+		if (previous instanceof List && value instanceof List) {
+
+			List<?> previousList = (List<?>) previous;
+			List<?> list = (List<?>) value;
+			int added = list.size() - previousList.size();
+
+			if (added > 0 && list.subList(0, previousList.size()).equals(previousList)) {
+				return QueryBuilder.appendAll(column, new ArrayList<Object>(list.subList(previousList.size(), list.size())));
+			}
+
+			if (added > 0 && list.subList(added, list.size()).equals(previousList)) {
+				return QueryBuilder.prependAll(column, new ArrayList<Object>(list.subList(0, added)));
+			}
+		}
+
+		if (previous instanceof Set && value instanceof Set) {
+
+			Set<Object> added = new LinkedHashSet<Object>((Set<?>) value);
+			added.removeAll((Set<?>) previous);
+
+			Set<Object> removed = new LinkedHashSet<Object>((Set<?>) previous);
+			removed.removeAll((Set<?>) value);
+
+			if (removed.isEmpty()) {
+				return QueryBuilder.addAll(column, added);
+			}
+
+			if (added.isEmpty()) {
+				return QueryBuilder.removeAll(column, removed);
+			}
+		}
+
+		if (previous instanceof Map && value instanceof Map
+				&& ((Map<?, ?>) value).keySet().containsAll(((Map<?, ?>) previous).keySet())) {
+
+			Map<Object, Object> changed = new LinkedHashMap<Object, Object>();
+
+			for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				if (!ObjectUtils.nullSafeEquals(((Map<?, ?>) previous).get(entry.getKey()), entry.getValue())) {
+					changed.put(entry.getKey(), entry.getValue());
+				}
+			}
+
+			return QueryBuilder.putAll(column, changed);
+		}
+
+		return QueryBuilder.set(column, value);
+	}
+
+	private void countSkippedNullValues(CassandraPersistentEntity<?> entity, int count) {
+
+		if (count == 0) {
+			return;
+		}
+
+		AtomicLong counter = skippedNullValues.get(entity.getType());
+
+		if (counter == null) {
+
+			AtomicLong newCounter = new AtomicLong();
+
+			counter = skippedNullValues.putIfAbsent(entity.getType(), newCounter);
+			counter = (counter != null ? counter : newCounter);
+		}
+
+		counter.addAndGet(count);
+	}
+
+	private Set<String> getPrimaryKeyColumns(CassandraPersistentEntity<?> entity) {
+
+		Set<String> columns = primaryKeyColumns.get(entity);
+
+		if (columns == null) {
+
+			final Set<String> keyColumns = new HashSet<String>();
+
+			entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+				@Override
+				public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+					if (property.isCompositePrimaryKey()) {
+						keyColumns.addAll(getPrimaryKeyColumns(property.getCompositePrimaryKeyEntity()));
+					} else if (isPrimaryKeyPart(property)) {
+						keyColumns.add(property.getColumnName().toCql());
+					}
+				}
+			});
+
+			columns = Collections.unmodifiableSet(keyColumns);
+			primaryKeyColumns.put(entity, columns);
+		}
+
+		return columns;
+	}
+
 	protected <S> S readEntityFromRow(final CassandraPersistentEntity<S> entity, final Row row) {
 
+		if (useCompiledEntityReaders) {
+
+			CompiledEntityReader<S> reader = getCompiledReader(entity);
+
+			if (reader != null) {
+				return reader.read(row);
+			}
+		}
+
 		DefaultSpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(row, spELContext);
-		BasicCassandraRowValueProvider rowValueProvider = new BasicCassandraRowValueProvider(row, expressionEvaluator);
+		BasicCassandraRowValueProvider rowValueProvider = new BasicCassandraRowValueProvider(row, expressionEvaluator,
+				getPropertyIndexes(entity));
 
 		CassandraPersistentEntityParameterValueProvider parameterProvider = new CassandraPersistentEntityParameterValueProvider(
 				entity, new MappingAndConvertingValueProvider(rowValueProvider), null);
@@ -174,6 +798,61 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return instance;
 	}
 
+	/**
+	 * Returns the {@link PropertyIndexes} of all properties read from a {@link Row} for {@code entity}, including the
+	 * properties of its composite primary key.
+	 */
+	private PropertyIndexes getPropertyIndexes(CassandraPersistentEntity<?> entity) {
+
+		PropertyIndexes indexes = propertyIndexes.get(entity);
+
+		if (indexes == null) {
+
+			List<CassandraPersistentProperty> properties = new ArrayList<CassandraPersistentProperty>();
+			collectRowProperties(entity, properties);
+
+			indexes = columnIndexCache.createPropertyIndexes(properties);
+			propertyIndexes.put(entity, indexes);
+		}
+
+		return indexes;
+	}
+
+	private static void collectRowProperties(CassandraPersistentEntity<?> entity,
+			final List<CassandraPersistentProperty> properties) {
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (property.isCompositePrimaryKey()) {
+					collectRowProperties(property.getCompositePrimaryKeyEntity(), properties);
+				} else {
+					properties.add(property);
+				}
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private <S> CompiledEntityReader<S> getCompiledReader(CassandraPersistentEntity<S> entity) {
+
+		CompiledEntityReader<?> reader = compiledReaders.get(entity);
+
+		if (reader == null && !unsupportedCompiledReaders.contains(entity)) {
+
+			if (CompiledEntityReader.isSupported(entity)) {
+				reader = new CompiledEntityReader<S>(this, entity);
+				compiledReaders.put(entity, reader);
+			} else {
+				unsupportedCompiledReaders.add(entity);
+			}
+		}
+
+		return (CompiledEntityReader<S>) reader;
+	}
+
 	protected <S> S readEntityFromUdt(CassandraPersistentEntity<S> entity, UDTValue udtValue) {
 
 		DefaultSpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(udtValue, spELContext);
@@ -303,6 +982,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public void write(Object source, Object sink, CassandraPersistentEntity<?> entity) {
 
 		if (source == null) {
@@ -323,6 +1003,8 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			writeDeleteWhereFromObject(source, (Delete.Where) sink, entity);
 		} else if (sink instanceof UDTValue) {
 			writeUDTValueWhereFromObject(getConvertingAccessor(source, entity), (UDTValue) sink, entity);
+		} else if (sink instanceof Map) {
+			writeMapFromWrapper(getConvertingAccessor(source, entity), (Map<String, Object>) sink, entity);
 		} else {
 			throw new MappingException("Unknown write target " + sink.getClass().getName());
 		}
@@ -333,7 +1015,9 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	}
 
 	protected void writeInsertFromWrapper(final ConvertingPropertyAccessor accessor, final Insert insert,
-			CassandraPersistentEntity<?> entity) {
+			final CassandraPersistentEntity<?> entity) {
+
+		final boolean skipNullValues = isSkipNullValues(entity);
 
 		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
 
@@ -358,6 +1042,11 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 					return;
 				}
 
+				if (value == null && skipNullValues && !isPrimaryKeyPart(property)) {
+					countSkippedNullValues(entity, 1);
+					return;
+				}
+
 				if (log.isDebugEnabled()) {
 					log.debug("Adding insert.value [{}] - [{}]", property.getColumnName().toCql(), value);
 				}
@@ -374,6 +1063,8 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	protected void writeUpdateFromWrapper(final ConvertingPropertyAccessor accessor, final Update update,
 			final CassandraPersistentEntity<?> entity) {
 
+		final boolean skipNullValues = isSkipNullValues(entity);
+
 		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
 
 			@Override
@@ -389,6 +1080,8 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 				if (isPrimaryKeyPart(property)) {
 					update.where(QueryBuilder.eq(property.getColumnName().toCql(), value));
+				} else if (value == null && skipNullValues) {
+					countSkippedNullValues(entity, 1);
 				} else {
 					update.with(QueryBuilder.set(property.getColumnName().toCql(), value));
 				}
@@ -396,6 +1089,39 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		});
 	}
 
+	/**
+	 * Write the column values of the given entity into a {@link Map} keyed by CQL column name. Properties of a composite
+	 * primary key are flattened into the {@link Map}. Iteration order of the {@link Map} follows the property order of
+	 * the entity if the given {@link Map} retains insertion order.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param sink must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @since 1.6
+	 */
+	protected void writeMapFromWrapper(final ConvertingPropertyAccessor accessor, final Map<String, Object> sink,
+			CassandraPersistentEntity<?> entity) {
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				Object value = getWriteValue(property, accessor);
+
+				if (property.isCompositePrimaryKey()) {
+
+					CassandraPersistentEntity<?> keyEntity = property.getCompositePrimaryKeyEntity();
+					writeMapFromWrapper(getConvertingAccessor(value, keyEntity), sink, keyEntity);
+
+					return;
+				}
+
+				sink.put(property.getColumnName().toCql(), value);
+			}
+		});
+	}
+
 	protected void writeSelectWhereFromObject(final Object object, final Select.Where where,
 			CassandraPersistentEntity<?> entity) {
 
@@ -779,13 +1505,39 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	/**
 	 * Retrieve the value to read for the given {@link CassandraPersistentProperty} from
 	 * {@link BasicCassandraRowValueProvider} and perform optionally a conversion of collection element types.
+	 * {@link org.springframework.data.cassandra.mapping.Lazy} collection and map properties read from a {@link Row} are
+	 * returned as proxies that read the value on first access. {@literal null} columns are returned as {@literal null}
+	 * without creating a proxy, just like on the eager path.
 	 *
 	 * @param row the row.
 	 * @param property the property.
 	 * @return the return value, may be {@literal null}.
 	 */
+	Object getReadValue(PropertyValueProvider<CassandraPersistentProperty> row,
+			CassandraPersistentProperty property) {
+
+		if (property.isLazy() && LazyLoadingCollection.isSupported(property) && row instanceof CassandraRowValueProvider) {
+
+			if (((CassandraRowValueProvider) row).getRow().isNull(property.getColumnName().toCql())) {
+				return null;
+			}
+
+			return LazyLoadingCollection.create(this, row, property);
+		}
+
+		return doGetReadValue(row, property);
+	}
+
+	/**
+	 * Read and convert the value for the given {@link CassandraPersistentProperty} eagerly.
+	 *
+	 * @param row the row.
+	 * @param property the property.
+	 * @return the return value, may be {@literal null}.
+	 * @since 1.6
+	 */
 	@SuppressWarnings("unchecked")
-	private Object getReadValue(PropertyValueProvider<CassandraPersistentProperty> row,
+	Object doGetReadValue(PropertyValueProvider<CassandraPersistentProperty> row,
 			CassandraPersistentProperty property) {
 
 		Object obj = row.getPropertyValue(property);
@@ -837,6 +1589,12 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return CodecRegistry.DEFAULT_INSTANCE.codecFor(mappingContext.getDataType(property));
 	}
 
+	/**
+	 * Snapshot representation of a mutable value that cannot be copied. Instances are only equal to themselves, so a
+	 * column snapshotted as {@link UntrackedValue} is always considered changed.
+	 */
+	private static class UntrackedValue {}
+
 	/**
 	 * {@link CassandraRowValueProvider} that delegates reads to {@link CassandraValueProvider} applying mapping and
 	 * custom conversion from {@link MappingCassandraConverter}.
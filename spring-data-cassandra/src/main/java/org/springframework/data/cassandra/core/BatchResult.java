@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.util.Assert;
+
+/**
+ * Aggregate outcome of a {@link PartitionedBatchOperations} execution. Each partition is written with one or more
+ * unlogged batches; a failure of one batch does not affect batches targeting other partitions.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+public class BatchResult {
+
+	private final int batchCount;
+	private final int statementCount;
+	private final List<DataAccessException> failures;
+
+	/**
+	 * Creates a new {@link BatchResult}.
+	 *
+	 * @param batchCount number of executed batches.
+	 * @param statementCount number of statements across all batches.
+	 * @param failures exceptions of failed batches, must not be {@literal null}.
+	 */
+	public BatchResult(int batchCount, int statementCount, List<DataAccessException> failures) {
+
+		Assert.notNull(failures, "Failures must not be null");
+
+		this.batchCount = batchCount;
+		this.statementCount = statementCount;
+		this.failures = Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * @return the number of executed batches.
+	 */
+	public int getBatchCount() {
+		return batchCount;
+	}
+
+	/**
+	 * @return the number of statements across all batches.
+	 */
+	public int getStatementCount() {
+		return statementCount;
+	}
+
+	/**
+	 * @return the exceptions of failed batches, never {@literal null}.
+	 */
+	public List<DataAccessException> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * @return {@literal true} if all batches were executed successfully.
+	 */
+	public boolean wasSuccessful() {
+		return failures.isEmpty();
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("BatchResult [batches=%d, statements=%d, failures=%d]", batchCount, statementCount,
+				failures.size());
+	}
+}
@@ -0,0 +1,468 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cassandra.core.Cancellable;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+
+/**
+ * {@link CassandraTemplate} with a bounded per-entity near-cache for reads by id. {@link #selectOneById(Class, Object)}
+ * and {@link #selectBySimpleIds(Class, Iterable)} serve rows from the cache and populate it on a miss. Inserts, updates
+ * and deletes of entities through this template invalidate the cached rows of the written entities.
+ * <p>
+ * The cache holds rows, not entities: each read returns its own entity instance so callers cannot observe modifications
+ * of other callers. Reads applying {@link QueryOptions} bypass the cache as they may request a stronger consistency
+ * level. Writes issued through CQL, {@link #batchOps()} or other clients are not visible to the cache, their staleness
+ * is bounded by the configured {@link NearCacheOptions#getTimeToLive() time to live}.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see NearCacheOptions
+ * @see NearCacheStatistics
+ */
+public class CachingCassandraTemplate extends CassandraTemplate {
+
+	private final ConcurrentMap<Class<?>, NearCache> nearCaches = new ConcurrentHashMap<Class<?>, NearCache>();
+
+	private final Map<Class<?>, NearCacheOptions> entityOptions = new ConcurrentHashMap<Class<?>, NearCacheOptions>();
+
+	private NearCacheOptions nearCacheOptions = NearCacheOptions.defaults();
+
+	/**
+	 * Default constructor used to wire in the required components later.
+	 */
+	public CachingCassandraTemplate() {}
+
+	/**
+	 * Creates a new {@link CachingCassandraTemplate} for the given {@link Session}.
+	 *
+	 * @param session Cassandra {@link Session} connected to the Cassandra cluster instance; must not be {@literal null}.
+	 */
+	public CachingCassandraTemplate(Session session) {
+		super(session);
+	}
+
+	/**
+	 * Creates a new {@link CachingCassandraTemplate} for the given {@link Session} and {@link CassandraConverter}.
+	 *
+	 * @param session {@link Session} used to interact with Cassandra; must not be {@literal null}.
+	 * @param converter {@link CassandraConverter} used to convert between Java and Cassandra types; must not be
+	 *          {@literal null}.
+	 */
+	public CachingCassandraTemplate(Session session, CassandraConverter converter) {
+		super(session, converter);
+	}
+
+	/**
+	 * Set the {@link NearCacheOptions} for entity types without {@link #setNearCacheOptions(Class, NearCacheOptions)
+	 * specific options}. Applies to caches created after calling this method.
+	 *
+	 * @param nearCacheOptions must not be {@literal null}.
+	 */
+	public void setNearCacheOptions(NearCacheOptions nearCacheOptions) {
+
+		Assert.notNull(nearCacheOptions, "NearCacheOptions must not be null");
+
+		this.nearCacheOptions = nearCacheOptions;
+	}
+
+	/**
+	 * @return the {@link NearCacheOptions} for entity types without specific options.
+	 */
+	public NearCacheOptions getNearCacheOptions() {
+		return nearCacheOptions;
+	}
+
+	/**
+	 * Set the {@link NearCacheOptions} for {@code entityClass}. Must be configured before the first read of the entity
+	 * type.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @param nearCacheOptions must not be {@literal null}.
+	 */
+	public void setNearCacheOptions(Class<?> entityClass, NearCacheOptions nearCacheOptions) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(nearCacheOptions, "NearCacheOptions must not be null");
+
+		entityOptions.put(entityClass, nearCacheOptions);
+	}
+
+	/**
+	 * Return hit, miss and eviction statistics of the near-cache for {@code entityClass}.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @return the {@link NearCacheStatistics}.
+	 */
+	public NearCacheStatistics getNearCacheStatistics(Class<?> entityClass) {
+		return getNearCache(entityClass).getStatistics();
+	}
+
+	/**
+	 * Remove all cached rows of {@code entityClass}, e.g. after modifying the table outside of this template.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 */
+	public void invalidateNearCache(Class<?> entityClass) {
+		getNearCache(entityClass).invalidateAll();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraTemplate#selectOneById(java.lang.Class, java.lang.Object, org.springframework.cassandra.core.QueryOptions)
+	 */
+	@Override
+	public <T> T selectOneById(Class<T> entityClass, Object id, QueryOptions options) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		if (options != null) {
+			return super.selectOneById(entityClass, id, options);
+		}
+
+		CassandraConverterRowCallback<T> rowCallback = new CassandraConverterRowCallback<T>(cassandraConverter,
+				entityClass);
+		NearCache nearCache = getNearCache(entityClass);
+		Row row = nearCache.get(id);
+
+		if (row != null) {
+			return rowCallback.doWith(row);
+		}
+
+		long generation = nearCache.getGeneration();
+		row = selectOneRowById(entityClass, id, null);
+
+		if (row == null) {
+			return null;
+		}
+
+		T result = rowCallback.doWith(row);
+
+		// cache only if writes of the entity resolve the same key
+		if (id.equals(getId(result))) {
+			nearCache.put(id, row, generation);
+		}
+
+		return result;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraTemplate#selectBySimpleIds(java.lang.Class, java.lang.Iterable)
+	 */
+	@Override
+	public <T> List<T> selectBySimpleIds(Class<T> entityClass, Iterable<?> ids) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(ids, "Ids must not be null");
+
+		CassandraConverterRowCallback<T> rowCallback = new CassandraConverterRowCallback<T>(cassandraConverter,
+				entityClass);
+		NearCache nearCache = getNearCache(entityClass);
+
+		Set<Object> distinctIds = new LinkedHashSet<Object>();
+
+		for (Object id : ids) {
+			distinctIds.add(id);
+		}
+
+		Map<Object, T> resultsById = new HashMap<Object, T>(distinctIds.size());
+		List<Object> missingIds = new ArrayList<Object>();
+
+		for (Object id : distinctIds) {
+
+			Row row = nearCache.get(id);
+
+			if (row != null) {
+				resultsById.put(id, rowCallback.doWith(row));
+			} else {
+				missingIds.add(id);
+			}
+		}
+
+		List<T> unmatched = new ArrayList<T>();
+
+		if (!missingIds.isEmpty()) {
+
+			long generation = nearCache.getGeneration();
+
+			for (Row row : selectRowsBySimpleIds(entityClass, missingIds)) {
+
+				T result = rowCallback.doWith(row);
+				Object id = getId(result);
+
+				if (distinctIds.contains(id)) {
+					nearCache.put(id, row, generation);
+					resultsById.put(id, result);
+				} else {
+					unmatched.add(result);
+				}
+			}
+		}
+
+		// rebuild results in the order of the requested ids
+		List<T> results = new ArrayList<T>(resultsById.size() + unmatched.size());
+
+		for (Object id : distinctIds) {
+
+			T result = resultsById.get(id);
+
+			if (result != null) {
+				results.add(result);
+			}
+		}
+
+		results.addAll(unmatched);
+
+		return results;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraTemplate#deleteById(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public void deleteById(Class<?> entityClass, Object id) {
+
+		try {
+			super.deleteById(entityClass, id);
+		} finally {
+			getNearCache(entityClass).invalidate(id);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraTemplate#deleteAll(java.lang.Class)
+	 */
+	@Override
+	public <T> void deleteAll(Class<T> entityClass) {
+
+		try {
+			super.deleteAll(entityClass);
+		} finally {
+			getNearCache(entityClass).invalidateAll();
+		}
+	}
+
+	@Override
+	protected <T> T doInsert(T entity, WriteOptions options) {
+
+		try {
+			return super.doInsert(entity, options);
+		} finally {
+			invalidate(entity);
+		}
+	}
+
+	@Override
+	protected <T> Cancellable doInsertAsync(T entity, WriteListener<T> listener, WriteOptions options) {
+		return super.doInsertAsync(entity, new InvalidatingWriteListener<T>(Collections.singleton(entity), listener),
+				options);
+	}
+
+	@Override
+	protected <T> T doUpdate(T entity, WriteOptions options) {
+
+		try {
+			return super.doUpdate(entity, options);
+		} finally {
+			invalidate(entity);
+		}
+	}
+
+	@Override
+	protected <T> Cancellable doUpdateAsync(T entity, WriteListener<T> listener, WriteOptions options) {
+		return super.doUpdateAsync(entity, new InvalidatingWriteListener<T>(Collections.singleton(entity), listener),
+				options);
+	}
+
+	@Override
+	protected <T> List<T> doBatchWrite(List<T> entities, WriteOptions options, boolean insert) {
+
+		try {
+			return super.doBatchWrite(entities, options, insert);
+		} finally {
+			invalidateAll(entities);
+		}
+	}
+
+	@Override
+	protected <T> Cancellable doBatchWriteAsync(List<T> entities, WriteListener<T> listener, WriteOptions options,
+			boolean insert) {
+
+		return super.doBatchWriteAsync(entities, new InvalidatingWriteListener<T>(entities, listener), options,
+				insert);
+	}
+
+	@Override
+	protected <T> void doDelete(T entity, QueryOptions options) {
+
+		try {
+			super.doDelete(entity, options);
+		} finally {
+			invalidate(entity);
+		}
+	}
+
+	@Override
+	protected <T> Cancellable doDeleteAsync(T entity, DeletionListener<T> listener, QueryOptions options) {
+		return super.doDeleteAsync(entity, new InvalidatingDeletionListener<T>(Collections.singleton(entity), listener),
+				options);
+	}
+
+	@Override
+	protected <T> void doBatchDelete(List<T> entities, QueryOptions options) {
+
+		try {
+			super.doBatchDelete(entities, options);
+		} finally {
+			invalidateAll(entities);
+		}
+	}
+
+	@Override
+	protected <T> Cancellable doBatchDeleteAsync(List<T> entities, DeletionListener<T> listener, QueryOptions options) {
+		return super.doBatchDeleteAsync(entities, new InvalidatingDeletionListener<T>(entities, listener), options);
+	}
+
+	NearCache getNearCache(Class<?> entityClass) {
+
+		Class<?> type = getPersistentEntity(entityClass).getType();
+		NearCache nearCache = nearCaches.get(type);
+
+		if (nearCache == null) {
+
+			NearCacheOptions options = entityOptions.get(type);
+			NearCache newNearCache = new NearCache(options != null ? options : nearCacheOptions);
+
+			nearCache = nearCaches.putIfAbsent(type, newNearCache);
+
+			if (nearCache == null) {
+				nearCache = newNearCache;
+			}
+		}
+
+		return nearCache;
+	}
+
+	private Object getId(Object entity) {
+		return cassandraConverter.getId(entity, getPersistentEntity(entity.getClass()));
+	}
+
+	private void invalidate(Object entity) {
+
+		if (entity != null) {
+			getNearCache(entity.getClass()).invalidate(getId(entity));
+		}
+	}
+
+	private void invalidateAll(Collection<?> entities) {
+
+		if (entities == null) {
+			return;
+		}
+
+		for (Object entity : entities) {
+			invalidate(entity);
+		}
+	}
+
+	/**
+	 * {@link WriteListener} invalidating written entities once the write completed, whether successful or not.
+	 */
+	private class InvalidatingWriteListener<T> implements WriteListener<T> {
+
+		private final Collection<?> entities;
+		private final WriteListener<T> delegate;
+
+		InvalidatingWriteListener(Collection<?> entities, WriteListener<T> delegate) {
+
+			this.entities = entities;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void onWriteComplete(Collection<T> entities) {
+
+			invalidateAll(this.entities);
+
+			if (delegate != null) {
+				delegate.onWriteComplete(entities);
+			}
+		}
+
+		@Override
+		public void onException(Exception x) {
+
+			invalidateAll(entities);
+
+			if (delegate != null) {
+				delegate.onException(x);
+			}
+		}
+	}
+
+	/**
+	 * {@link DeletionListener} invalidating deleted entities once the deletion completed, whether successful or not.
+	 */
+	private class InvalidatingDeletionListener<T> implements DeletionListener<T> {
+
+		private final Collection<?> entities;
+		private final DeletionListener<T> delegate;
+
+		InvalidatingDeletionListener(Collection<?> entities, DeletionListener<T> delegate) {
+
+			this.entities = entities;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void onDeletionComplete(Collection<T> entities) {
+
+			invalidateAll(this.entities);
+
+			if (delegate != null) {
+				delegate.onDeletionComplete(entities);
+			}
+		}
+
+		@Override
+		public void onException(Exception x) {
+
+			invalidateAll(entities);
+
+			if (delegate != null) {
+				delegate.onException(x);
+			}
+		}
+	}
+}
@@ -22,10 +22,16 @@ import org.springframework.cassandra.core.Cancellable;
 import org.springframework.cassandra.core.CqlOperations;
 import org.springframework.cassandra.core.QueryForObjectListener;
 import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.ScanOptions;
 import org.springframework.cassandra.core.WriteOptions;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.concurrent.ListenableFuture;
 
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Select;
 
 /**
@@ -67,15 +73,29 @@ public interface CassandraOperations extends CqlOperations {
 	 * Executes the given select {@code query} on the entity table of the specified {@code type} backed by a Cassandra
 	 * {@link com.datastax.driver.core.ResultSet}.
 	 * <p>
-	 * Returns a {@link java.util.Iterator} that wraps the Cassandra {@link com.datastax.driver.core.ResultSet}.
+	 * Returns a {@link CloseableIterator} that wraps the Cassandra {@link com.datastax.driver.core.ResultSet}. Closing it
+	 * stops fetching further pages.
 	 *
 	 * @param <T> element return type.
 	 * @param query query to execute. Must not be empty or {@literal null}.
 	 * @param entityClass Class type of the elements in the {@link Iterator} stream. Must not be {@literal null}.
-	 * @return an {@link Iterator} (stream) over the elements in the query result set.
+	 * @return a {@link CloseableIterator} (stream) over the elements in the query result set.
 	 * @since 1.5
 	 */
-	<T> Iterator<T> stream(String query, Class<T> entityClass);
+	<T> CloseableIterator<T> stream(String query, Class<T> entityClass);
+
+	/**
+	 * Executes the given {@link Statement} backed by a Cassandra {@link com.datastax.driver.core.ResultSet} and returns
+	 * a {@link CloseableIterator} that converts rows into the specified {@code entityClass}. Closing it stops fetching
+	 * further pages.
+	 *
+	 * @param <T> element return type.
+	 * @param statement the {@link Statement} to execute. Must not be {@literal null}.
+	 * @param entityClass Class type of the elements in the {@link Iterator} stream. Must not be {@literal null}.
+	 * @return a {@link CloseableIterator} (stream) over the elements in the query result set.
+	 * @since 1.6
+	 */
+	<T> CloseableIterator<T> stream(Statement statement, Class<T> entityClass);
 
 	/**
 	 * Execute query and convert ResultSet to the list of entities.
@@ -95,6 +115,31 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	<T> List<T> select(Select select, Class<T> entityClass);
 
+	/**
+	 * Execute the {@link Statement} and convert to the list of entities.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted results
+	 * @since 1.6
+	 */
+	<T> List<T> select(Statement statement, Class<T> entityClass);
+
+	/**
+	 * Execute the {@link Statement} and convert the rows of the first result page to a {@link Slice} of entities. Only
+	 * the rows of a single page are read, so memory consumption is bounded by the page size. Use
+	 * {@link Statement#setFetchSize(int)} to control the page size and {@link Statement#setPagingState} to resume from a
+	 * previous {@link Slice}; its {@link Slice#getPageable()} is a {@link CassandraPageRequest} carrying the
+	 * {@link com.datastax.driver.core.PagingState} to fetch the next slice.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted {@link Slice}.
+	 * @since 1.6
+	 * @see CassandraPageRequest
+	 */
+	<T> Slice<T> slice(Statement statement, Class<T> entityClass);
+
 	/**
 	 * Select objects for the given {@code entityClass} and {@code ids}.
 	 *
@@ -104,6 +149,19 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	<T> List<T> selectBySimpleIds(Class<T> entityClass, Iterable<?> ids);
 
+	/**
+	 * Select objects for the given {@code entityClass} and {@code ids} by reading each distinct id with its own
+	 * single-key query. Queries are executed concurrently so token-aware routing can send each query directly to a
+	 * replica instead of a single coordinator collecting all rows of an {@code IN} query.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @return the {@link MultiGetResult} containing the converted results in the order of the given ids and the ids
+	 *         that were not found.
+	 * @since 1.6
+	 */
+	<T> MultiGetResult<T> multiGet(Class<T> entityClass, Iterable<?> ids);
+
 	/**
 	 * @deprecated Calling this method could result in {@link OutOfMemoryError}, as this is a brute force selection.
 	 * @param entityClass The entity type must not be {@literal null}.
@@ -112,6 +170,20 @@ public interface CassandraOperations extends CqlOperations {
 	@Deprecated
 	<T> List<T> selectAll(Class<T> entityClass);
 
+	/**
+	 * Scans the table of the given entity class by querying token ranges in parallel and returns an iterator over the
+	 * converted entities. Entities are not ordered. Unlike {@link #selectAll(Class)}, no single query has to read the
+	 * whole table and entities are read only as fast as they are consumed. The iterator must be closed if it is not
+	 * consumed completely.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param scanOptions must not be {@literal null}.
+	 * @return a {@link CloseableIterator} over all entities of type {@code T}.
+	 * @see #scan(CqlIdentifier, ScanOptions)
+	 * @since 1.6
+	 */
+	<T> CloseableIterator<T> scan(Class<T> entityClass, ScanOptions scanOptions);
+
 	/**
 	 * Execute the Select by {@code id} for the given {@code entityClass}.
 	 *
@@ -121,6 +193,17 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	<T> T selectOneById(Class<T> entityClass, Object id);
 
+	/**
+	 * Select an object for the given {@code entityClass} and {@code id} applying {@link QueryOptions}.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param id The entity id must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return The converted object or {@literal null}.
+	 * @since 1.6
+	 */
+	<T> T selectOneById(Class<T> entityClass, Object id, QueryOptions options);
+
 	/**
 	 * Execute CQL and convert ResultSet to the entity
 	 *
@@ -139,6 +222,49 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	<T> T selectOne(Select select, Class<T> entityClass);
 
+	/**
+	 * Execute the {@link Statement} and convert ResultSet to the entity
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted object or {@literal null}.
+	 * @since 1.6
+	 */
+	<T> T selectOne(Statement statement, Class<T> entityClass);
+
+	/**
+	 * Execute the {@link Statement} asynchronously and convert the rows of all pages to entities once available. Pages
+	 * are fetched without blocking the calling or driver thread.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completed with the converted objects or with a
+	 *         {@link org.springframework.dao.DataAccessException} if the query failed.
+	 * @since 1.6
+	 */
+	<T> ListenableFuture<List<T>> selectAsynchronously(Statement statement, Class<T> entityClass);
+
+	/**
+	 * Execute the {@link Statement} asynchronously and convert the single resulting row to the entity.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completed with the converted object or {@literal null} if the query returned no
+	 *         rows.
+	 * @since 1.6
+	 */
+	<T> ListenableFuture<T> selectOneAsynchronously(Statement statement, Class<T> entityClass);
+
+	/**
+	 * Select the object with the given {@code id} asynchronously.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param id The id of the object to select, must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completed with the converted object or {@literal null} if not found.
+	 * @since 1.6
+	 */
+	<T> ListenableFuture<T> selectOneByIdAsynchronously(Class<T> entityClass, Object id);
+
 	/**
 	 * Executes the {@link Select} query asynchronously.
 	 *
@@ -196,6 +322,17 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	long count(Class<?> entityClass);
 
+	/**
+	 * Returns the number of rows for the given {@code entityClass} by counting token ranges of the table in parallel.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param scanOptions must not be {@literal null}.
+	 * @return number of rows
+	 * @see #count(CqlIdentifier, ScanOptions)
+	 * @since 1.6
+	 */
+	long count(Class<?> entityClass, ScanOptions scanOptions);
+
 	/**
 	 * Insert the given entity.
 	 *
@@ -336,10 +473,12 @@ public interface CassandraOperations extends CqlOperations {
 	<T> Cancellable insertAsynchronously(List<T> entities, WriteListener<T> listener, WriteOptions options);
 
 	/**
-	 * Update the given entity.
+	 * Update the given entity. Entities tracked by a {@link MappingCassandraConverter} with change tracking enabled are
+	 * updated with their changed columns only and not updated at all if unchanged.
 	 *
 	 * @param entity The entity to update
 	 * @return The entity given
+	 * @see MappingCassandraConverter#setUseChangeTracking(boolean)
 	 */
 	<T> T update(T entity);
 
@@ -618,6 +757,26 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	CassandraBatchOperations batchOps();
 
+	/**
+	 * Returns a new {@link PartitionedBatchOperations} grouping statements by partition key into unlogged batches of at
+	 * most 100 statements. Each {@link PartitionedBatchOperations} instance can be executed only once.
+	 *
+	 * @return a new {@link PartitionedBatchOperations}.
+	 * @since 1.6
+	 */
+	PartitionedBatchOperations partitionedBatchOps();
+
+	/**
+	 * Returns a new {@link PartitionedBatchOperations} grouping statements by partition key into unlogged batches of at
+	 * most {@code maxStatementsPerBatch} statements. Each {@link PartitionedBatchOperations} instance can be executed
+	 * only once.
+	 *
+	 * @param maxStatementsPerBatch maximum number of statements per batch, must be greater than zero.
+	 * @return a new {@link PartitionedBatchOperations}.
+	 * @since 1.6
+	 */
+	PartitionedBatchOperations partitionedBatchOps(int maxStatementsPerBatch);
+
 	/**
 	 * Returns the underlying {@link CassandraConverter}.
 	 *
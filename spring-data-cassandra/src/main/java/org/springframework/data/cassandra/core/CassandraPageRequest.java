@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.PagingState;
+
+/**
+ * Cassandra-specific {@link PageRequest} carrying a driver {@link PagingState}. Cassandra cannot skip to an arbitrary
+ * page; instead, a query resumes from the {@link PagingState} returned with the previous page. Requesting
+ * {@link #next()} from a {@link CassandraPageRequest} obtained through
+ * {@link org.springframework.data.domain.Slice#getPageable()} therefore continues right after that slice.
+ * <p>
+ * {@link PagingState} can be serialized with {@link PagingState#toString()} and restored with
+ * {@link PagingState#fromString(String)} to pass it to clients as an opaque cursor. A serialized
+ * {@link CassandraPageRequest} retains its {@link PagingState} in that form.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+public class CassandraPageRequest extends PageRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String serializedPagingState;
+
+	private transient PagingState pagingState;
+
+	private CassandraPageRequest(int page, int size, Sort sort, PagingState pagingState) {
+
+		super(page, size, sort);
+
+		this.serializedPagingState = (pagingState != null ? pagingState.toString() : null);
+		this.pagingState = pagingState;
+	}
+
+	/**
+	 * Creates a {@link CassandraPageRequest} for the first page of the given {@code size}.
+	 *
+	 * @param size the page size, must be greater than {@literal 0}.
+	 * @return a new {@link CassandraPageRequest}.
+	 */
+	public static CassandraPageRequest first(int size) {
+		return first(size, null);
+	}
+
+	/**
+	 * Creates a {@link CassandraPageRequest} for the first page of the given {@code size} and {@link Sort}.
+	 *
+	 * @param size the page size, must be greater than {@literal 0}.
+	 * @param sort may be {@literal null}.
+	 * @return a new {@link CassandraPageRequest}.
+	 */
+	public static CassandraPageRequest first(int size, Sort sort) {
+		return new CassandraPageRequest(0, size, sort, null);
+	}
+
+	/**
+	 * Creates a {@link CassandraPageRequest} resuming after {@code current} from the given {@link PagingState}.
+	 *
+	 * @param current must not be {@literal null}.
+	 * @param pagingState the {@link PagingState} returned with {@code current}, may be {@literal null} if {@code current}
+	 *          is the last page.
+	 * @return a new {@link CassandraPageRequest}.
+	 */
+	public static CassandraPageRequest of(Pageable current, PagingState pagingState) {
+
+		Assert.notNull(current, "Pageable must not be null");
+
+		return new CassandraPageRequest(current.getPageNumber(), current.getPageSize(), current.getSort(), pagingState);
+	}
+
+	/**
+	 * Returns the {@link PagingState} to resume the query after the current page.
+	 *
+	 * @return the {@link PagingState} or {@literal null} if there is no further page.
+	 */
+	public PagingState getPagingState() {
+
+		PagingState pagingState = this.pagingState;
+
+		if (pagingState == null && serializedPagingState != null) {
+			pagingState = PagingState.fromString(serializedPagingState);
+			this.pagingState = pagingState;
+		}
+
+		return pagingState;
+	}
+
+	/**
+	 * @return {@literal true} if a {@link PagingState} is available to resume the query.
+	 */
+	public boolean hasNext() {
+		return (serializedPagingState != null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#next()
+	 */
+	@Override
+	public Pageable next() {
+
+		Assert.state(hasNext(), "Cannot create a next page request without a PagingState");
+
+		return new CassandraPageRequest(getPageNumber() + 1, getPageSize(), getSort(), getPagingState());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#first()
+	 */
+	@Override
+	public Pageable first() {
+		return first(getPageSize(), getSort());
+	}
+
+	/**
+	 * Cassandra cannot resume from a previous page, so this method returns the {@link #first() first page}.
+	 *
+	 * @see org.springframework.data.domain.AbstractPageRequest#previousOrFirst()
+	 */
+	@Override
+	public Pageable previousOrFirst() {
+		return first();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof CassandraPageRequest) || !super.equals(obj)) {
+			return false;
+		}
+
+		CassandraPageRequest that = (CassandraPageRequest) obj;
+
+		return ObjectUtils.nullSafeEquals(serializedPagingState, that.serializedPagingState);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + ObjectUtils.nullSafeHashCode(serializedPagingState);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Cassandra page request [number: %d, size %d, sort: %s, paging state: %s]", getPageNumber(),
+				getPageSize(), getSort(), serializedPagingState);
+	}
+}
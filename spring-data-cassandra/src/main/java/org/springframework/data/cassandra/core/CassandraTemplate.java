@@ -16,10 +16,20 @@
 package org.springframework.data.cassandra.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.cassandra.core.AsynchronousQueryListener;
 import org.springframework.cassandra.core.Cancellable;
@@ -27,6 +37,8 @@ import org.springframework.cassandra.core.CqlTemplate;
 import org.springframework.cassandra.core.QueryForObjectListener;
 import org.springframework.cassandra.core.QueryOptions;
 import org.springframework.cassandra.core.RowCallback;
+import org.springframework.cassandra.core.ScanOptions;
+import org.springframework.cassandra.core.SessionCallback;
 import org.springframework.cassandra.core.WriteOptions;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.cassandra.core.support.EmptyResultSet;
@@ -40,16 +52,28 @@ import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
 import org.springframework.data.convert.EntityWriter;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
 import com.datastax.driver.core.querybuilder.Batch;
+import com.datastax.driver.core.querybuilder.BuiltStatement;
 import com.datastax.driver.core.querybuilder.Clause;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Delete.Where;
@@ -57,6 +81,7 @@ import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Update;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 /**
  * The CassandraTemplate is a convenient API for all Cassandra operations using POJOs with their Spring Data Cassandra
@@ -73,9 +98,29 @@ import com.datastax.driver.core.querybuilder.Update;
  */
 public class CassandraTemplate extends CqlTemplate implements CassandraOperations {
 
+	/**
+	 * Default number of concurrent single-key reads of {@link #multiGet(Class, Iterable)} if
+	 * {@link #setMultiGetMaxInFlight(int)} is not configured.
+	 */
+	public static final int DEFAULT_MULTI_GET_MAX_IN_FLIGHT = 32;
+
 	protected CassandraConverter cassandraConverter;
 	protected CassandraMappingContext mappingContext;
 
+	private PreparedEntityStatementFactory preparedStatementFactory;
+
+	private boolean usePreparedStatements;
+
+	private boolean usePartitionedBatches;
+
+	private int streamPrefetchThreshold;
+
+	private int multiGetMaxInFlight;
+
+	private boolean useSingleFlightReads;
+
+	private final SingleFlight<List<Object>, Row> singleFlightReads = new SingleFlight<List<Object>, Row>();
+
 	/**
 	 * Default constructor used to wire in the required components later.
 	 */
@@ -131,6 +176,130 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		this.cassandraConverter = cassandraConverter;
 		this.mappingContext = cassandraConverter.getMappingContext();
+		this.preparedStatementFactory = new PreparedEntityStatementFactory(cassandraConverter);
+	}
+
+	/**
+	 * Enable or disable prepared statements for entity insert, update and delete operations. Prepared statements are
+	 * derived once per entity and {@link WriteOptions} shape, prepared once per {@link Session} and bound with the
+	 * converted entity values. Disabled by default.
+	 *
+	 * @param usePreparedStatements {@literal true} to use prepared statements for entity writes.
+	 * @since 1.6
+	 */
+	public void setUsePreparedStatements(boolean usePreparedStatements) {
+		this.usePreparedStatements = usePreparedStatements;
+	}
+
+	/**
+	 * @return {@literal true} if entity insert, update and delete operations use prepared statements.
+	 * @since 1.6
+	 */
+	public boolean isUsePreparedStatements() {
+		return usePreparedStatements;
+	}
+
+	/**
+	 * Enable or disable partitioned batches for the {@link List}-accepting insert, update and delete methods. Partitioned
+	 * batches group entities by partition key and execute one or more unlogged batches per partition concurrently
+	 * instead of a single logged batch spanning all partitions. Writes to different partitions are no longer applied
+	 * atomically. Disabled by default.
+	 *
+	 * @param usePartitionedBatches {@literal true} to use partitioned batches.
+	 * @since 1.6
+	 * @see #partitionedBatchOps()
+	 */
+	public void setUsePartitionedBatches(boolean usePartitionedBatches) {
+		this.usePartitionedBatches = usePartitionedBatches;
+	}
+
+	/**
+	 * @return {@literal true} if {@link List}-accepting write methods use partitioned batches.
+	 * @since 1.6
+	 */
+	public boolean isUsePartitionedBatches() {
+		return usePartitionedBatches;
+	}
+
+	/**
+	 * Set the number of remaining rows of the current page at which iterators returned by {@code stream(…)} fetch the
+	 * next page asynchronously. Prefetching lets consumers of large results continue without blocking on a round trip
+	 * at each page boundary. A value of {@literal 0} disables prefetching (default); a reasonable value is a fraction of
+	 * the fetch size.
+	 *
+	 * @param streamPrefetchThreshold must not be negative.
+	 * @since 1.6
+	 */
+	public void setStreamPrefetchThreshold(int streamPrefetchThreshold) {
+
+		Assert.isTrue(streamPrefetchThreshold >= 0, "Stream prefetch threshold must not be negative");
+
+		this.streamPrefetchThreshold = streamPrefetchThreshold;
+	}
+
+	/**
+	 * @return the number of remaining rows at which {@code stream(…)} iterators prefetch the next page, {@literal 0} if
+	 *         prefetching is disabled.
+	 * @since 1.6
+	 */
+	public int getStreamPrefetchThreshold() {
+		return streamPrefetchThreshold;
+	}
+
+	/**
+	 * Set the maximum number of concurrent single-key reads issued by {@link #selectBySimpleIds(Class, Iterable)}. A value
+	 * greater than {@literal 0} makes {@link #selectBySimpleIds(Class, Iterable)} read each id with its own prepared
+	 * query instead of a single {@code IN} query so token-aware routing can send each read directly to a replica and
+	 * no coordinator has to collect all rows. Results are returned in the order of the given ids. A value of
+	 * {@literal 0} keeps the {@code IN} query (default).
+	 *
+	 * @param multiGetMaxInFlight must not be negative.
+	 * @since 1.6
+	 * @see #multiGet(Class, Iterable)
+	 */
+	public void setMultiGetMaxInFlight(int multiGetMaxInFlight) {
+
+		Assert.isTrue(multiGetMaxInFlight >= 0, "Multi-get max in-flight must not be negative");
+
+		this.multiGetMaxInFlight = multiGetMaxInFlight;
+	}
+
+	/**
+	 * @return the maximum number of concurrent single-key reads of {@link #selectBySimpleIds(Class, Iterable)},
+	 *         {@literal 0} if {@code IN} queries are used.
+	 * @since 1.6
+	 */
+	public int getMultiGetMaxInFlight() {
+		return multiGetMaxInFlight;
+	}
+
+	/**
+	 * Enable or disable merging of concurrent identical {@code selectOneById(…)} calls. Calls for the same entity type, id
+	 * and {@link QueryOptions} arriving while such a read is in flight wait for that read instead of sending their own
+	 * query. Each caller receives its own entity instance mapped from the shared {@link Row}. Results are not cached.
+	 * Disabled by default.
+	 *
+	 * @param useSingleFlightReads {@literal true} to merge concurrent identical reads by id.
+	 * @since 1.6
+	 */
+	public void setUseSingleFlightReads(boolean useSingleFlightReads) {
+		this.useSingleFlightReads = useSingleFlightReads;
+	}
+
+	/**
+	 * @return {@literal true} if concurrent identical {@code selectOneById(…)} calls are merged.
+	 * @since 1.6
+	 */
+	public boolean isUseSingleFlightReads() {
+		return useSingleFlightReads;
+	}
+
+	/**
+	 * @return the number of {@code selectOneById(…)} calls that joined an in-flight read instead of sending a query.
+	 * @since 1.6
+	 */
+	public long getCoalescedReadCount() {
+		return singleFlightReads.getCoalescedCount();
 	}
 
 	/* (non-Javadoc)
@@ -191,6 +360,11 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return count(getTableName(type).toCql());
 	}
 
+	@Override
+	public long count(Class<?> type, ScanOptions scanOptions) {
+		return count(getTableName(type), scanOptions);
+	}
+
 	@Override
 	public <T> void delete(List<T> entities) {
 		delete(entities, null);
@@ -367,6 +541,39 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return select(QueryBuilder.select().all().from(getTableName(entityClass).toCql()), entityClass);
 	}
 
+	@Override
+	public <T> CloseableIterator<T> scan(Class<T> entityClass, ScanOptions scanOptions) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		final CloseableIterator<Row> rows = scan(getTableName(entityClass), scanOptions);
+		final CassandraConverterRowCallback<T> rowCallback = new CassandraConverterRowCallback<T>(cassandraConverter,
+				entityClass);
+
+		return new CloseableIterator<T>() {
+
+			@Override
+			public boolean hasNext() {
+				return rows.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return rowCallback.doWith(rows.next());
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException("Remove is not supported");
+			}
+
+			@Override
+			public void close() {
+				rows.close();
+			}
+		};
+	}
+
 	@Override
 	public <T> List<T> select(String cql, Class<T> entityClass) {
 
@@ -385,12 +592,237 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return select(select, new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
 	}
 
+	@Override
+	public <T> List<T> select(Statement statement, Class<T> entityClass) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return processResultSet(doExecute(statement), new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
+	}
+
+	@Override
+	public <T> Slice<T> slice(Statement statement, Class<T> entityClass) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		ResultSet resultSet = doExecute(statement);
+		int pageSize = getEffectiveFetchSize(statement);
+
+		if (resultSet == null) {
+			return new SliceImpl<T>(Collections.<T> emptyList(), CassandraPageRequest.first(pageSize), false);
+		}
+
+		CassandraConverterRowCallback<T> rowCallback = new CassandraConverterRowCallback<T>(cassandraConverter,
+				entityClass);
+
+		// read only the rows of the current page, iterating further would fetch the next page
+		int available = resultSet.getAvailableWithoutFetching();
+		List<T> result = new ArrayList<T>(available);
+
+		for (int i = 0; i < available; i++) {
+			result.add(rowCallback.doWith(resultSet.one()));
+		}
+
+		PagingState pagingState = resultSet.getExecutionInfo().getPagingState();
+
+		return new SliceImpl<T>(result, CassandraPageRequest.of(CassandraPageRequest.first(pageSize), pagingState),
+				pagingState != null);
+	}
+
+	private int getEffectiveFetchSize(Statement statement) {
+
+		if (statement.getFetchSize() > 0) {
+			return statement.getFetchSize();
+		}
+
+		return getSession().getCluster().getConfiguration().getQueryOptions().getFetchSize();
+	}
+
 	@Override
 	public <T> List<T> selectBySimpleIds(Class<T> entityClass, Iterable<?> ids) {
 
 		Assert.notNull(entityClass, "EntityClass must not be null");
 		Assert.notNull(ids, "Ids must not be null");
 
+		CassandraConverterRowCallback<T> rowCallback = new CassandraConverterRowCallback<T>(cassandraConverter,
+				entityClass);
+
+		List<T> results = new ArrayList<T>();
+
+		for (Row row : selectRowsBySimpleIds(entityClass, ids)) {
+			results.add(rowCallback.doWith(row));
+		}
+
+		return results;
+	}
+
+	/**
+	 * Read the rows for the given simple ids, either with a single {@code IN} query or, if configured, with concurrent
+	 * single-key reads.
+	 *
+	 * @see #setMultiGetMaxInFlight(int)
+	 */
+	List<Row> selectRowsBySimpleIds(Class<?> entityClass, Iterable<?> ids) {
+
+		CassandraPersistentEntity<?> entity = getSimpleIdEntity(entityClass);
+
+		if (multiGetMaxInFlight > 0) {
+
+			List<Row> rows = new ArrayList<Row>();
+
+			for (Row row : doMultiGet(entity, getDistinctIds(ids))) {
+				if (row != null) {
+					rows.add(row);
+				}
+			}
+
+			return rows;
+		}
+
+		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+
+		select.where(QueryBuilder.in(entity.getIdProperty().getColumnName().toCql(), CollectionUtils.toArray(ids)));
+
+		return query(select).all();
+	}
+
+	@Override
+	public <T> MultiGetResult<T> multiGet(Class<T> entityClass, Iterable<?> ids) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(ids, "Ids must not be null");
+
+		CassandraPersistentEntity<?> entity = getSimpleIdEntity(entityClass);
+		Set<Object> distinctIds = getDistinctIds(ids);
+
+		if (distinctIds.isEmpty()) {
+			return new MultiGetResult<T>(Collections.<T> emptyList(), Collections.emptyList());
+		}
+
+		Row[] rows = doMultiGet(entity, distinctIds);
+
+		CassandraConverterRowCallback<T> rowCallback = new CassandraConverterRowCallback<T>(cassandraConverter,
+				entityClass);
+
+		List<T> results = new ArrayList<T>(rows.length);
+		List<Object> missingIds = new ArrayList<Object>();
+		int index = 0;
+
+		for (Object id : distinctIds) {
+
+			Row row = rows[index++];
+
+			if (row != null) {
+				results.add(rowCallback.doWith(row));
+			} else {
+				missingIds.add(id);
+			}
+		}
+
+		return new MultiGetResult<T>(results, missingIds);
+	}
+
+	private static Set<Object> getDistinctIds(Iterable<?> ids) {
+
+		Set<Object> distinctIds = new LinkedHashSet<Object>();
+
+		for (Object id : ids) {
+			distinctIds.add(id);
+		}
+
+		return distinctIds;
+	}
+
+	private Row[] doMultiGet(CassandraPersistentEntity<?> entity, Set<Object> distinctIds) {
+
+		if (distinctIds.isEmpty()) {
+			return new Row[0];
+		}
+
+		CassandraPersistentProperty idProperty = entity.getIdProperty();
+
+		String cql = String.format("SELECT * FROM %s WHERE %s = ?", entity.getTableName().toCql(),
+				idProperty.getColumnName().toCql());
+
+		List<Object> keys = new ArrayList<Object>(distinctIds.size());
+
+		for (Object id : distinctIds) {
+			keys.add(cassandraConverter.convertToCassandraColumn(id, idProperty.getTypeInformation()));
+		}
+
+		return doMultiGet(cql, keys, (multiGetMaxInFlight > 0 ? multiGetMaxInFlight : DEFAULT_MULTI_GET_MAX_IN_FLIGHT));
+	}
+
+	/**
+	 * Execute the prepared single-key query for each key concurrently, limiting the number of in-flight queries.
+	 *
+	 * @return the first row per key or {@literal null} if the key was not found, in the order of the keys.
+	 */
+	private Row[] doMultiGet(String cql, List<Object> keys, int maxInFlight) {
+
+		Session session = getExecutionSession();
+		PreparedStatement preparedStatement;
+
+		try {
+			preparedStatement = getPreparedStatementCache().getPreparedStatement(session, logCql(cql));
+		} catch (DriverException e) {
+			throw translateExceptionIfPossible(e);
+		}
+
+		final Row[] rows = new Row[keys.size()];
+		final Semaphore permits = new Semaphore(maxInFlight);
+		final AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+
+		for (int i = 0; i < keys.size() && failure.get() == null; i++) {
+
+			permits.acquireUninterruptibly();
+
+			final int index = i;
+			final ResultSetFuture future;
+
+			try {
+
+				// single-key reads can be executed speculatively
+				BoundStatement statement = preparedStatement.bind(keys.get(i));
+				statement.setIdempotent(true);
+
+				future = session.executeAsync(statement);
+			} catch (RuntimeException e) {
+				failure.compareAndSet(null, e);
+				permits.release();
+				break;
+			}
+
+			future.addListener(new Runnable() {
+
+				@Override
+				public void run() {
+
+					try {
+						rows[index] = future.getUninterruptibly().one();
+					} catch (RuntimeException e) {
+						failure.compareAndSet(null, e);
+					} finally {
+						permits.release();
+					}
+				}
+			}, RUN_RUNNABLE_EXECUTOR);
+		}
+
+		// wait until all in-flight reads completed
+		permits.acquireUninterruptibly(maxInFlight);
+
+		if (failure.get() != null) {
+			throw translateExceptionIfPossible(failure.get());
+		}
+
+		return rows;
+	}
+
+	private CassandraPersistentEntity<?> getSimpleIdEntity(Class<?> entityClass) {
+
 		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
 
 		if (entity.getIdProperty() == null || entity.getIdProperty().isCompositePrimaryKey()) {
@@ -402,25 +834,49 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 					entityClass.getName(), typeName));
 		}
 
-		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
-
-		select.where(QueryBuilder.in(entity.getIdProperty().getColumnName().toCql(), CollectionUtils.toArray(ids)));
-
-		return select(select, entityClass);
+		return entity;
 	}
 
 	@Override
 	public <T> T selectOneById(Class<T> entityClass, Object id) {
+		return selectOneById(entityClass, id, null);
+	}
+
+	@Override
+	public <T> T selectOneById(Class<T> entityClass, Object id, QueryOptions options) {
 
 		Assert.notNull(entityClass, "EntityClass must not be null");
 		Assert.notNull(id, "Id must not be null");
 
+		Row row = selectOneRowById(entityClass, id, options);
+
+		return (row != null ? new CassandraConverterRowCallback<T>(cassandraConverter, entityClass).doWith(row) : null);
+	}
+
+	/**
+	 * Read the row for the given {@code id}, merging concurrent identical reads if configured.
+	 *
+	 * @return the row or {@literal null} if not found.
+	 * @see #setUseSingleFlightReads(boolean)
+	 */
+	Row selectOneRowById(Class<?> entityClass, Object id, QueryOptions options) {
+
 		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
-		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+		final Select select = addQueryOptions(QueryBuilder.select().all().from(entity.getTableName().toCql()), options);
 
 		cassandraConverter.write(id, select.where(), entity);
 
-		return selectOne(select, entityClass);
+		if (!useSingleFlightReads) {
+			return selectOneRow(select);
+		}
+
+		return singleFlightReads.execute(Arrays.<Object> asList(entityClass, id, options), new Callable<Row>() {
+
+			@Override
+			public Row call() {
+				return selectOneRow(select);
+			}
+		});
 	}
 
 	@Deprecated
@@ -517,6 +973,117 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return selectOne(select, new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
 	}
 
+	@Override
+	public <T> T selectOne(Statement statement, Class<T> entityClass) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		Iterator<Row> iterator = doExecute(statement).iterator();
+		T result = null;
+
+		if (iterator.hasNext()) {
+
+			result = new CassandraConverterRowCallback<T>(cassandraConverter, entityClass).doWith(iterator.next());
+
+			if (iterator.hasNext()) {
+				throw new DuplicateKeyException(String.format("found two or more results in query [%s]", statement));
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public <T> ListenableFuture<List<T>> selectAsynchronously(Statement statement, Class<T> entityClass) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		SettableListenableFuture<List<T>> completion = new SettableListenableFuture<List<T>>();
+
+		readPagesAsync(doExecuteAsync(statement), new CassandraConverterRowCallback<T>(cassandraConverter, entityClass),
+				new ArrayList<T>(), completion);
+
+		return completion;
+	}
+
+	@Override
+	public <T> ListenableFuture<T> selectOneAsynchronously(final Statement statement, Class<T> entityClass) {
+
+		final SettableListenableFuture<T> completion = new SettableListenableFuture<T>();
+
+		selectAsynchronously(statement, entityClass).addCallback(new ListenableFutureCallback<List<T>>() {
+
+			@Override
+			public void onSuccess(List<T> results) {
+
+				if (results.size() > 1) {
+					completion.setException(
+							new DuplicateKeyException(String.format("found two or more results in query [%s]", statement)));
+				} else {
+					completion.set(results.isEmpty() ? null : results.get(0));
+				}
+			}
+
+			@Override
+			public void onFailure(Throwable e) {
+				completion.setException(e);
+			}
+		});
+
+		return completion;
+	}
+
+	@Override
+	public <T> ListenableFuture<T> selectOneByIdAsynchronously(Class<T> entityClass, Object id) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+
+		cassandraConverter.write(id, select.where(), entity);
+
+		return selectOneAsynchronously(select, entityClass);
+	}
+
+	/**
+	 * Convert the rows of the page once {@code pageFuture} completes and continue with the next page until the
+	 * {@link ResultSet} is fully fetched. Rows are read only if available without fetching so the listener never blocks.
+	 */
+	private <T> void readPagesAsync(final com.google.common.util.concurrent.ListenableFuture<ResultSet> pageFuture,
+			final CassandraConverterRowCallback<T> rowCallback, final List<T> results,
+			final SettableListenableFuture<List<T>> completion) {
+
+		pageFuture.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+
+					ResultSet resultSet = Uninterruptibles.getUninterruptibly(pageFuture);
+
+					for (int available = resultSet.getAvailableWithoutFetching(); available > 0; available--) {
+						results.add(rowCallback.doWith(resultSet.one()));
+					}
+
+					if (resultSet.isFullyFetched()) {
+						completion.set(results);
+					} else {
+						readPagesAsync(resultSet.fetchMoreResults(), rowCallback, results, completion);
+					}
+				} catch (ExecutionException e) {
+					completion.setException(translateExceptionIfPossible(e.getCause()));
+				} catch (RuntimeException e) {
+					completion.setException(translateExceptionIfPossible(e));
+				}
+			}
+		}, getCallbackExecutor());
+	}
+
 	@Override
 	public <T> List<T> update(List<T> entities) {
 		return update(entities, null);
@@ -601,7 +1168,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 	private <T> List<T> processResultSet(ResultSet resultSet, RowCallback<T> rowCallback) {
 		List<T> result = new ArrayList<T>();
 
-		for (Row row : EmptyResultSet.nullSafeResultSet(resultSet)) {
+		for (Row row : rows(EmptyResultSet.nullSafeResultSet(resultSet))) {
 			result.add(rowCallback.doWith(row));
 		}
 
@@ -612,25 +1179,36 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#stream(java.lang.String, java.lang.Class)
 	 */
-	public <T> Iterator<T> stream(String query, Class<T> entityClass) {
+	@Override
+	public <T> CloseableIterator<T> stream(String query, Class<T> entityClass) {
 
 		Assert.hasText(query, "Query must not be empty");
 		Assert.notNull(entityClass, "EntityClass must not be null");
 
-		ResultSet resultSet = doExecuteQueryReturnResultSet(query);
+		return toIterator(EmptyResultSet.nullSafeResultSet(doExecuteQueryReturnResultSet(query)), entityClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#stream(com.datastax.driver.core.Statement, java.lang.Class)
+	 */
+	@Override
+	public <T> CloseableIterator<T> stream(Statement statement, Class<T> entityClass) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
 
-		return (resultSet != null ? toIterator(resultSet, entityClass) : Collections.<T>emptyIterator());
+		return toIterator(EmptyResultSet.nullSafeResultSet(doExecute(statement)), entityClass);
 	}
 
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraTemplate.ResultSetIteratorAdapter
 	 */
-	@SuppressWarnings("unchecked")
-	private <T> Iterator<T> toIterator(ResultSet resultSet, Class<T> entityClass) {
+	private <T> CloseableIterator<T> toIterator(ResultSet resultSet, Class<T> entityClass) {
 
-		return new ResultSetIteratorAdapter(resultSet.iterator(), getExceptionTranslator(),
-			new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
+		return new ResultSetIteratorAdapter<T>(resultSet, getExceptionTranslator(),
+			new CassandraConverterRowCallback<T>(cassandraConverter, entityClass), streamPrefetchThreshold);
 	}
 
 	protected <T> T selectOne(String query, CassandraConverterRowCallback<T> rowCallback) {
@@ -655,13 +1233,18 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 	protected <T> T selectOne(Select query, CassandraConverterRowCallback<T> rowCallback) {
 
+		Row row = selectOneRow(query);
+
+		return (row != null ? rowCallback.doWith(row) : null);
+	}
+
+	private Row selectOneRow(Select query) {
+
 		Iterator<Row> iterator = query(query).iterator();
-		T result = null;
+		Row row = null;
 
 		if (iterator.hasNext()) {
-			Row row = iterator.next();
-
-			result = rowCallback.doWith(row);
+			row = iterator.next();
 
 			if (iterator.hasNext()) {
 				// TODO: this is not necessarily a duplicate key depending on the query predicate!
@@ -670,11 +1253,17 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		}
 
-		return result;
+		return row;
 	}
 
 	// TODO: handle possible IndexOutOfBoundsException if the List of entities is empty
 	protected <T> void doBatchDelete(List<T> entities, QueryOptions options) {
+
+		if (usePartitionedBatches) {
+			executePartitioned(new PartitionedBatchTemplate(this).withQueryOptions(options).delete(entities, options));
+			return;
+		}
+
 		execute(createDeleteBatchQuery(getTableName(entities.get(0).getClass()).toCql(), entities, options,
 			cassandraConverter));
 	}
@@ -705,7 +1294,11 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		execute(createInsertQuery(entity, options));
+		if (usePreparedStatements) {
+			execute(createPreparedInsert(entity, options));
+		} else {
+			execute(createInsertQuery(entity, options));
+		}
 
 		return entity;
 	}
@@ -721,7 +1314,8 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Insert insert = createInsertQuery(entity, options);
+		Statement insert = (usePreparedStatements ? createPreparedInsert(entity, options)
+				: createInsertQuery(entity, options));
 
 		AsynchronousQueryListener queryListener = (listener == null ? null : new AsynchronousQueryListener() {
 
@@ -737,7 +1331,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		});
 
-		return executeAsynchronously(insert, queryListener);
+		return doExecuteAsync(insert, queryListener);
 	}
 
 	protected <T> List<T> doBatchInsert(List<T> entities, WriteOptions options) {
@@ -758,6 +1352,15 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			return entities;
 		}
 
+		if (usePartitionedBatches) {
+
+			PartitionedBatchTemplate batchTemplate = new PartitionedBatchTemplate(this).withQueryOptions(options);
+
+			executePartitioned(insert ? batchTemplate.insert(entities, options) : batchTemplate.update(entities, options));
+
+			return entities;
+		}
+
 		String tableName = getTableName(entities.get(0).getClass()).toCql();
 
 		Batch batch = (insert ? createInsertBatchQuery(tableName, entities, options, cassandraConverter)
@@ -768,6 +1371,22 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return entities;
 	}
 
+	private static void executePartitioned(PartitionedBatchTemplate batchTemplate) {
+
+		BatchResult result = batchTemplate.execute();
+
+		if (!result.wasSuccessful()) {
+			throw result.getFailures().get(0);
+		}
+	}
+
+	/**
+	 * @return the {@link Executor} running listeners directly on the thread completing the future.
+	 */
+	static Executor getRunRunnableExecutor() {
+		return RUN_RUNNABLE_EXECUTOR;
+	}
+
 	/**
 	 * Asynchronously performs a batch insert or update.
 	 *
@@ -856,16 +1475,22 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 	}
 
 	protected <T> void doDelete(T entity, QueryOptions options) {
+
 		Assert.notNull(entity, "Entity must not be null");
 
-		execute(createDeleteQuery(entity, options));
+		if (usePreparedStatements) {
+			execute(createPreparedDelete(entity, options));
+		} else {
+			execute(createDeleteQuery(entity, options));
+		}
 	}
 
 	protected <T> Cancellable doDeleteAsync(final T entity, final DeletionListener<T> listener, QueryOptions options) {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Delete delete = createDeleteQuery(entity, options);
+		Statement delete = (usePreparedStatements ? createPreparedDelete(entity, options)
+				: createDeleteQuery(entity, options));
 
 		AsynchronousQueryListener queryListener = (listener == null ? null : new AsynchronousQueryListener() {
 			@Override
@@ -879,20 +1504,63 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		});
 
-		return executeAsynchronously(delete, queryListener);
+		return doExecuteAsync(delete, queryListener);
 	}
 
-	<T> Update createUpdateQuery(T entity, WriteOptions options) {
+	<T> BuiltStatement createUpdateQuery(T entity, WriteOptions options) {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		return createUpdateQuery(getTableName(entity.getClass()).toCql(), entity, options, cassandraConverter);
+		return createUpdateStatement(getTableName(entity.getClass()).toCql(), entity, options, cassandraConverter);
 	}
 
 	protected <T> T doUpdate(T entity, WriteOptions options) {
+
 		Assert.notNull(entity, "Entity must not be null");
 
-		execute(createUpdateQuery(entity, options));
+		if (isChangeTracked(entity)) {
+			return doUpdateChanges(entity, options);
+		}
+
+		if (usePreparedStatements) {
+			execute(createPreparedUpdate(entity, options));
+		} else {
+			execute(createUpdateQuery(entity, options));
+		}
+
+		return entity;
+	}
+
+	private boolean isChangeTracked(Object entity) {
+		return cassandraConverter instanceof MappingCassandraConverter
+				&& ((MappingCassandraConverter) cassandraConverter).isUseChangeTracking()
+				&& ((MappingCassandraConverter) cassandraConverter).isTracked(entity);
+	}
+
+	/**
+	 * Update only the columns of a change-tracked entity that changed since it was read or last updated. The snapshot is
+	 * refreshed only after the update succeeded so failed updates are retried with the same changes.
+	 */
+	private <T> T doUpdateChanges(T entity, WriteOptions options) {
+
+		MappingCassandraConverter converter = (MappingCassandraConverter) cassandraConverter;
+		CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entity.getClass());
+
+		if (converter.isUpdateWithoutAssignments(entity, persistentEntity)) {
+
+			execute(createUpdateQuery(entity, options));
+			converter.snapshot(entity);
+
+			return entity;
+		}
+
+		Update update = addWriteOptions(QueryBuilder.update(persistentEntity.getTableName().toCql()), options);
+
+		if (converter.writeChanges(entity, update, persistentEntity)) {
+			execute(update);
+		}
+
+		converter.snapshot(entity);
 
 		return entity;
 	}
@@ -915,7 +1583,76 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		});
 
-		return executeAsynchronously(createUpdateQuery(entity, options), queryListener);
+		Statement update = (usePreparedStatements ? createPreparedUpdate(entity, options)
+				: createUpdateQuery(entity, options));
+
+		return doExecuteAsync(update, queryListener);
+	}
+
+	/**
+	 * Create a {@link BoundStatement} to insert {@code entity} using a prepared statement.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 * @since 1.6
+	 */
+	<T> BoundStatement createPreparedInsert(final T entity, final WriteOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return doExecute(new SessionCallback<BoundStatement>() {
+
+			@Override
+			public BoundStatement doInSession(Session session) {
+				return preparedStatementFactory.insert(getPreparedStatementCache(), session, entity,
+						getPersistentEntity(entity.getClass()), options);
+			}
+		});
+	}
+
+	/**
+	 * Create a {@link BoundStatement} to update {@code entity} using a prepared statement.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 * @since 1.6
+	 */
+	<T> BoundStatement createPreparedUpdate(final T entity, final WriteOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return doExecute(new SessionCallback<BoundStatement>() {
+
+			@Override
+			public BoundStatement doInSession(Session session) {
+				return preparedStatementFactory.update(getPreparedStatementCache(), session, entity,
+						getPersistentEntity(entity.getClass()), options);
+			}
+		});
+	}
+
+	/**
+	 * Create a {@link BoundStatement} to delete {@code entity} using a prepared statement.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 * @since 1.6
+	 */
+	<T> BoundStatement createPreparedDelete(final T entity, final QueryOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return doExecute(new SessionCallback<BoundStatement>() {
+
+			@Override
+			public BoundStatement doInSession(Session session) {
+				return preparedStatementFactory.delete(getPreparedStatementCache(), session, entity,
+						getPersistentEntity(entity.getClass()), options);
+			}
+		});
 	}
 
 	/*
@@ -927,6 +1664,23 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return new CassandraBatchTemplate(this);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#partitionedBatchOps()
+	 */
+	@Override
+	public PartitionedBatchOperations partitionedBatchOps() {
+		return new PartitionedBatchTemplate(this);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#partitionedBatchOps(int)
+	 */
+	@Override
+	public PartitionedBatchOperations partitionedBatchOps(int maxStatementsPerBatch) {
+		return new PartitionedBatchTemplate(this, maxStatementsPerBatch,
+				PartitionedBatchTemplate.DEFAULT_MAX_CONCURRENT_BATCHES);
+	}
+
 	/**
 	 * Generates a Query Object for an insert.
 	 *
@@ -1000,6 +1754,38 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return update;
 	}
 
+	/**
+	 * Generates a statement to update {@code objectToUpdate}. Uses an {@link Update} unless {@literal null} values are
+	 * skipped and no column is left to assign. An {@link Update} without assignments is not valid CQL, so the primary
+	 * key columns are written with an {@link Insert} instead.
+	 *
+	 * @param tableName the table name, must not be empty and not {@literal null}.
+	 * @param objectToUpdate the object to update, must not be {@literal null}.
+	 * @param options optional {@link WriteOptions} to apply to the statement, may be {@literal null}.
+	 * @param entityWriter the {@link EntityWriter} to write update assignments and where clauses.
+	 * @return the {@link Update} or {@link Insert} statement.
+	 * @see MappingCassandraConverter#isUpdateWithoutAssignments(Object, CassandraPersistentEntity)
+	 * @since 1.6
+	 */
+	static BuiltStatement createUpdateStatement(String tableName, Object objectToUpdate, WriteOptions options,
+			EntityWriter<Object, Object> entityWriter) {
+
+		Assert.notNull(objectToUpdate, "Object to update must not be null");
+
+		if (entityWriter instanceof MappingCassandraConverter) {
+
+			MappingCassandraConverter converter = (MappingCassandraConverter) entityWriter;
+			CassandraPersistentEntity<?> entity = converter.getMappingContext()
+					.getPersistentEntity(objectToUpdate.getClass());
+
+			if (entity != null && converter.isUpdateWithoutAssignments(objectToUpdate, entity)) {
+				return createInsertQuery(tableName, objectToUpdate, options, entityWriter);
+			}
+		}
+
+		return createUpdateQuery(tableName, objectToUpdate, options, entityWriter);
+	}
+
 	/**
 	 * Generates a Batch Object for multiple Updates. The {@link Update} uses the identity and values from the given
 	 * {@code objectsToUpdate}.
@@ -1021,7 +1807,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		Batch batch = addQueryOptions(QueryBuilder.batch(), options);
 
 		for (T objectToSave : objectsToUpdate) {
-			batch.add(createUpdateQuery(tableName, objectToSave, options, entityWriter));
+			batch.add(createUpdateStatement(tableName, objectToSave, options, entityWriter));
 		}
 
 		return batch;
@@ -1130,7 +1916,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return doSelectOneAsync(cql, entityClass, listener, options);
 	}
 
-	private <T> CassandraPersistentEntity<?> getPersistentEntity(Class<T> entityClass) {
+	<T> CassandraPersistentEntity<?> getPersistentEntity(Class<T> entityClass) {
 
 		Assert.notNull(entityClass, "EntityClass must not be null");
 
@@ -1195,24 +1981,41 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		void doWithClause(Clause clause);
 	}
 
-	private static class ResultSetIteratorAdapter<T> implements Iterator<T>{
+	/**
+	 * {@link CloseableIterator} converting {@link Row}s of a {@link ResultSet}. If a {@code prefetchThreshold} is set, the
+	 * next page is fetched asynchronously as soon as the number of rows available without fetching drops to the
+	 * threshold so iteration does not block on page boundaries. Closing the iterator stops further fetching.
+	 */
+	private static class ResultSetIteratorAdapter<T> implements CloseableIterator<T> {
 
-		private final CassandraConverterRowCallback<T> rowCallback;
+		private final ResultSet resultSet;
 		private final Iterator<Row> iterator;
 		private final PersistenceExceptionTranslator exceptionTranslator;
+		private final CassandraConverterRowCallback<T> rowCallback;
+		private final int prefetchThreshold;
 
-		public ResultSetIteratorAdapter(Iterator<Row> iterator, PersistenceExceptionTranslator exceptionTranslator,
-				CassandraConverterRowCallback<T> rowCallback) {
+		private Future<ResultSet> pendingFetch;
+		private boolean closed;
 
-			this.iterator = iterator;
+		public ResultSetIteratorAdapter(ResultSet resultSet, PersistenceExceptionTranslator exceptionTranslator,
+				CassandraConverterRowCallback<T> rowCallback, int prefetchThreshold) {
+
+			this.resultSet = resultSet;
+			this.iterator = resultSet.iterator();
 			this.exceptionTranslator = exceptionTranslator;
 			this.rowCallback = rowCallback;
+			this.prefetchThreshold = prefetchThreshold;
 		}
 
 		@Override
 		public boolean hasNext() {
 
+			if (closed) {
+				return false;
+			}
+
 			try {
+				prefetchIfNecessary();
 				return iterator.hasNext();
 			} catch (Exception e) {
 				throw translateExceptionIfPossible(e, exceptionTranslator);
@@ -1222,11 +2025,45 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		@Override
 		public T next() {
 
+			if (closed) {
+				throw new NoSuchElementException("Iterator is closed");
+			}
+
 			try {
-				return rowCallback.doWith(iterator.next());
+				T result = rowCallback.doWith(iterator.next());
+				prefetchIfNecessary();
+				return result;
+			} catch (NoSuchElementException e) {
+				throw e;
 			} catch (Exception e) {
 				throw translateExceptionIfPossible(e, exceptionTranslator);
 			}
 		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void close() {
+
+			closed = true;
+
+			if (pendingFetch != null && !pendingFetch.isDone()) {
+				pendingFetch.cancel(false);
+			}
+		}
+
+		private void prefetchIfNecessary() {
+
+			if (prefetchThreshold <= 0 || (pendingFetch != null && !pendingFetch.isDone())) {
+				return;
+			}
+
+			if (resultSet.getAvailableWithoutFetching() <= prefetchThreshold && !resultSet.isFullyFetched()) {
+				pendingFetch = resultSet.fetchMoreResults();
+			}
+		}
 	}
 }
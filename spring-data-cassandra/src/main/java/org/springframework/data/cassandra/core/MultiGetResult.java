@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a multi-get reading entities by their ids with one single-key query per id.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see CassandraOperations#multiGet(Class, Iterable)
+ */
+public class MultiGetResult<T> {
+
+	private final List<T> results;
+	private final List<Object> missingIds;
+
+	/**
+	 * Creates a new {@link MultiGetResult}.
+	 *
+	 * @param results the found entities in the order of their ids.
+	 * @param missingIds ids for which no entity was found.
+	 */
+	public MultiGetResult(List<T> results, List<Object> missingIds) {
+
+		this.results = Collections.unmodifiableList(results);
+		this.missingIds = Collections.unmodifiableList(missingIds);
+	}
+
+	/**
+	 * @return the found entities in the order of their ids. Each distinct id is read once.
+	 */
+	public List<T> getResults() {
+		return results;
+	}
+
+	/**
+	 * @return ids for which no entity was found, in the order of their ids.
+	 */
+	public List<Object> getMissingIds() {
+		return missingIds;
+	}
+
+	/**
+	 * @return {@literal true} if an entity was found for each id.
+	 */
+	public boolean isComplete() {
+		return missingIds.isEmpty();
+	}
+}
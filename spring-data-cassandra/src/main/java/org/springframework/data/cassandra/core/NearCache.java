@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.datastax.driver.core.Row;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Bounded least-recently-used cache of {@link Row}s for a single entity type with a time to live, backed by a Guava
+ * {@link Cache}. Rows are cached instead of entities so each read maps its own entity instance.
+ * <p>
+ * Rows are added with the generation obtained before they were read. Each invalidation advances the generation so rows
+ * read concurrently with a write are not cached.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class NearCache {
+
+	private final Cache<Object, Row> rows;
+
+	private final AtomicLong generation = new AtomicLong();
+
+	NearCache(NearCacheOptions options) {
+		this(options, Ticker.systemTicker());
+	}
+
+	NearCache(NearCacheOptions options, Ticker ticker) {
+
+		this.rows = CacheBuilder.newBuilder() //
+				.maximumSize(options.getMaximumSize()) //
+				.expireAfterWrite(options.getTimeToLive(), TimeUnit.MILLISECONDS) //
+				.ticker(ticker) //
+				.recordStats() //
+				.build();
+	}
+
+	/**
+	 * @return the cached {@link Row} or {@literal null} if absent or expired.
+	 */
+	Row get(Object key) {
+		return rows.getIfPresent(key);
+	}
+
+	/**
+	 * @return the current generation to pass to {@link #put(Object, Row, long)}.
+	 */
+	long getGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * Cache the {@link Row} unless the cache was invalidated since {@code generation} was obtained.
+	 */
+	void put(Object key, Row row, long generation) {
+
+		if (this.generation.get() != generation) {
+			return;
+		}
+
+		rows.put(key, row);
+
+		// an invalidation racing with put advances the generation before removing rows
+		if (this.generation.get() != generation) {
+			rows.asMap().remove(key, row);
+		}
+	}
+
+	void invalidate(Object key) {
+
+		generation.incrementAndGet();
+		rows.invalidate(key);
+	}
+
+	void invalidateAll() {
+
+		generation.incrementAndGet();
+		rows.invalidateAll();
+	}
+
+	NearCacheStatistics getStatistics() {
+
+		rows.cleanUp();
+
+		CacheStats stats = rows.stats();
+
+		return new NearCacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), (int) rows.size());
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for the per-entity near-cache of {@link CachingCassandraTemplate}.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see CachingCassandraTemplate
+ */
+public class NearCacheOptions {
+
+	/**
+	 * Default maximum number of cached rows per entity type.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	/**
+	 * Default time to live of cached rows in milliseconds.
+	 */
+	public static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(1);
+
+	private static final NearCacheOptions DEFAULTS = builder().build();
+
+	private final int maximumSize;
+	private final long timeToLive;
+
+	private NearCacheOptions(int maximumSize, long timeToLive) {
+
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Creates a new {@link NearCacheOptionsBuilder}.
+	 *
+	 * @return a new {@link NearCacheOptionsBuilder}.
+	 */
+	public static NearCacheOptionsBuilder builder() {
+		return new NearCacheOptionsBuilder();
+	}
+
+	/**
+	 * @return {@link NearCacheOptions} caching up to {@link #DEFAULT_MAXIMUM_SIZE} rows for
+	 *         {@link #DEFAULT_TIME_TO_LIVE} milliseconds.
+	 */
+	public static NearCacheOptions defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * @return the maximum number of cached rows. The least recently used row is evicted when exceeded.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return the time to live of cached rows in milliseconds.
+	 */
+	public long getTimeToLive() {
+		return timeToLive;
+	}
+
+	/**
+	 * Builder for {@link NearCacheOptions}.
+	 *
+	 * @author Mark Paluch
+	 * @since 1.6
+	 */
+	public static class NearCacheOptionsBuilder {
+
+		private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+		private long timeToLive = DEFAULT_TIME_TO_LIVE;
+
+		private NearCacheOptionsBuilder() {}
+
+		/**
+		 * Sets the maximum number of cached rows per entity type.
+		 *
+		 * @param maximumSize must be greater than zero.
+		 * @return {@code this} {@link NearCacheOptionsBuilder}
+		 */
+		public NearCacheOptionsBuilder maximumSize(int maximumSize) {
+
+			Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		/**
+		 * Sets the time to live of cached rows. Rows are evicted once the time to live since they were read elapsed,
+		 * bounding staleness caused by writes that bypass the caching template.
+		 *
+		 * @param timeToLive must be greater than zero.
+		 * @param timeUnit must not be {@literal null}.
+		 * @return {@code this} {@link NearCacheOptionsBuilder}
+		 */
+		public NearCacheOptionsBuilder timeToLive(long timeToLive, TimeUnit timeUnit) {
+
+			Assert.isTrue(timeToLive > 0, "Time to live must be greater than zero");
+			Assert.notNull(timeUnit, "TimeUnit must not be null");
+
+			this.timeToLive = timeUnit.toMillis(timeToLive);
+			return this;
+		}
+
+		/**
+		 * Builds new {@link NearCacheOptions} with the configured values.
+		 *
+		 * @return new {@link NearCacheOptions} with the configured values
+		 */
+		public NearCacheOptions build() {
+			return new NearCacheOptions(maximumSize, timeToLive);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+/**
+ * Point-in-time statistics of a near-cache for a single entity type.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see CachingCassandraTemplate#getNearCacheStatistics(Class)
+ */
+public class NearCacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+	private final int size;
+
+	/**
+	 * Creates new {@link NearCacheStatistics}.
+	 *
+	 * @param hitCount number of reads served from the cache.
+	 * @param missCount number of reads not served from the cache.
+	 * @param evictionCount number of rows evicted because of size or time to live.
+	 * @param size current number of cached rows.
+	 */
+	public NearCacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+	}
+
+	/**
+	 * @return the number of reads served from the cache.
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of reads not served from the cache.
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the ratio of reads served from the cache or {@code 1.0} if there were no reads.
+	 */
+	public double getHitRatio() {
+
+		long requestCount = hitCount + missCount;
+
+		return (requestCount == 0 ? 1.0 : (double) hitCount / requestCount);
+	}
+
+	/**
+	 * @return the number of rows evicted because the cache exceeded its maximum size or their time to live elapsed.
+	 *         Invalidations caused by writes are not counted.
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return the current number of cached rows.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("NearCacheStatistics [hitCount=%d, missCount=%d, evictionCount=%d, size=%d]", hitCount,
+				missCount, evictionCount, size);
+	}
+}
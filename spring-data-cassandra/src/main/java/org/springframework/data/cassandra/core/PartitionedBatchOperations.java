@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+/**
+ * Batch operations grouping insert/update/delete statements by table and partition key. Statements targeting the same
+ * partition are written with unlogged batches containing at most a configured number of statements. Batches are routed
+ * to a replica owning the partition and executed concurrently.
+ * <p>
+ * In contrast to {@link CassandraBatchOperations}, statements for different partitions are not applied atomically.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see CassandraOperations#partitionedBatchOps()
+ */
+public interface PartitionedBatchOperations {
+
+	/**
+	 * Execute the batches and await their completion. The batches can be executed only once.
+	 *
+	 * @return the {@link BatchResult} aggregating the outcome of all batches.
+	 * @throws IllegalStateException if the batches were already executed.
+	 */
+	BatchResult execute();
+
+	/**
+	 * Apply a given {@code timestamp} to all batches.
+	 *
+	 * @param timestamp the timestamp to apply.
+	 * @return {@code this} {@link PartitionedBatchOperations}.
+	 * @throws IllegalStateException if the batches were already executed.
+	 */
+	PartitionedBatchOperations withTimestamp(long timestamp);
+
+	/**
+	 * Add an array of inserts to the batches.
+	 *
+	 * @param entities the entities to insert; must not be {@literal null}.
+	 * @return {@code this} {@link PartitionedBatchOperations}.
+	 * @throws IllegalStateException if the batches were already executed.
+	 */
+	PartitionedBatchOperations insert(Object... entities);
+
+	/**
+	 * Add a collection of inserts to the batches.
+	 *
+	 * @param entities the entities to insert; must not be {@literal null}.
+	 * @return {@code this} {@link PartitionedBatchOperations}.
+	 * @throws IllegalStateException if the batches were already executed.
+	 */
+	PartitionedBatchOperations insert(Iterable<?> entities);
+
+	/**
+	 * Add an array of updates to the batches.
+	 *
+	 * @param entities the entities to update; must not be {@literal null}.
+	 * @return {@code this} {@link PartitionedBatchOperations}.
+	 * @throws IllegalStateException if the batches were already executed.
+	 */
+	PartitionedBatchOperations update(Object... entities);
+
+	/**
+	 * Add a collection of updates to the batches.
+	 *
+	 * @param entities the entities to update; must not be {@literal null}.
+	 * @return {@code this} {@link PartitionedBatchOperations}.
+	 * @throws IllegalStateException if the batches were already executed.
+	 */
+	PartitionedBatchOperations update(Iterable<?> entities);
+
+	/**
+	 * Add an array of deletes to the batches.
+	 *
+	 * @param entities the entities to delete; must not be {@literal null}.
+	 * @return {@code this} {@link PartitionedBatchOperations}.
+	 * @throws IllegalStateException if the batches were already executed.
+	 */
+	PartitionedBatchOperations delete(Object... entities);
+
+	/**
+	 * Add a collection of deletes to the batches.
+	 *
+	 * @param entities the entities to delete; must not be {@literal null}.
+	 * @return {@code this} {@link PartitionedBatchOperations}.
+	 * @throws IllegalStateException if the batches were already executed.
+	 */
+	PartitionedBatchOperations delete(Iterable<?> entities);
+}
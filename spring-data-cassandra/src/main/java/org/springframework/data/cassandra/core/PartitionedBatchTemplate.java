@@ -0,0 +1,396 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.cassandra.core.CqlTemplate;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.cassandra.core.keyspace.ColumnSpecification;
+import org.springframework.cassandra.support.exception.CassandraUncategorizedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.querybuilder.Batch;
+import com.datastax.driver.core.querybuilder.BuiltStatement;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+
+/**
+ * Default implementation for {@link PartitionedBatchOperations}. Statements are grouped by table and the converted
+ * partition key values of their entity. Each group is split into unlogged batches of at most
+ * {@code maxStatementsPerBatch} statements. The routing key is set on each statement so token-aware load balancing
+ * routes the batch to a replica of the partition.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class PartitionedBatchTemplate implements PartitionedBatchOperations {
+
+	/**
+	 * Default maximum number of statements per batch.
+	 */
+	static final int DEFAULT_MAX_STATEMENTS_PER_BATCH = 100;
+
+	/**
+	 * Default maximum number of concurrently executing batches.
+	 */
+	static final int DEFAULT_MAX_CONCURRENT_BATCHES = 32;
+
+	private final AtomicBoolean executed = new AtomicBoolean();
+
+	private final Map<List<Object>, PartitionGroup> groups = new LinkedHashMap<List<Object>, PartitionGroup>();
+
+	private final Map<CassandraPersistentEntity<?>, List<ColumnSpecification>> partitionKeyColumns =
+			new HashMap<CassandraPersistentEntity<?>, List<ColumnSpecification>>();
+
+	private final CassandraTemplate cassandraTemplate;
+
+	private final int maxStatementsPerBatch;
+
+	private final int maxConcurrentBatches;
+
+	private QueryOptions queryOptions;
+
+	private Long timestamp;
+
+	PartitionedBatchTemplate(CassandraTemplate cassandraTemplate) {
+		this(cassandraTemplate, DEFAULT_MAX_STATEMENTS_PER_BATCH, DEFAULT_MAX_CONCURRENT_BATCHES);
+	}
+
+	PartitionedBatchTemplate(CassandraTemplate cassandraTemplate, int maxStatementsPerBatch, int maxConcurrentBatches) {
+
+		Assert.notNull(cassandraTemplate, "CassandraTemplate must not be null");
+		Assert.isTrue(maxStatementsPerBatch > 0, "Max statements per batch must be greater than zero");
+		Assert.isTrue(maxConcurrentBatches > 0, "Max concurrent batches must be greater than zero");
+
+		this.cassandraTemplate = cassandraTemplate;
+		this.maxStatementsPerBatch = maxStatementsPerBatch;
+		this.maxConcurrentBatches = maxConcurrentBatches;
+	}
+
+	/**
+	 * Apply {@link QueryOptions} such as the consistency level to each batch.
+	 *
+	 * @param queryOptions may be {@literal null}.
+	 * @return {@code this} {@link PartitionedBatchTemplate}.
+	 */
+	PartitionedBatchTemplate withQueryOptions(QueryOptions queryOptions) {
+
+		assertNotExecuted();
+
+		this.queryOptions = queryOptions;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.PartitionedBatchOperations#execute()
+	 */
+	@Override
+	public BatchResult execute() {
+
+		Assert.state(executed.compareAndSet(false, true), "This Cassandra Batch was already executed");
+
+		Configuration configuration = cassandraTemplate.getSession().getCluster().getConfiguration();
+		ProtocolVersion protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+		CodecRegistry codecRegistry = configuration.getCodecRegistry();
+
+		final Semaphore permits = new Semaphore(maxConcurrentBatches);
+		Runnable release = new Runnable() {
+
+			@Override
+			public void run() {
+				permits.release();
+			}
+		};
+
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>();
+		int statementCount = 0;
+
+		for (PartitionGroup group : groups.values()) {
+
+			ByteBuffer[] routingKey = group.getRoutingKey(protocolVersion, codecRegistry);
+
+			for (int offset = 0; offset < group.statements.size(); offset += maxStatementsPerBatch) {
+
+				List<BuiltStatement> chunk = group.statements.subList(offset,
+						Math.min(offset + maxStatementsPerBatch, group.statements.size()));
+
+				permits.acquireUninterruptibly();
+
+				try {
+					ResultSetFuture future = cassandraTemplate.executeAsynchronously(createBatch(chunk, routingKey));
+					future.addListener(release, CassandraTemplate.getRunRunnableExecutor());
+					futures.add(future);
+				} catch (RuntimeException e) {
+					permits.release();
+					throw e;
+				}
+
+				statementCount += chunk.size();
+			}
+		}
+
+		List<DataAccessException> failures = new ArrayList<DataAccessException>();
+
+		for (ResultSetFuture future : futures) {
+			try {
+				future.getUninterruptibly();
+			} catch (RuntimeException e) {
+				failures.add(translate(e));
+			}
+		}
+
+		return new BatchResult(futures.size(), statementCount, failures);
+	}
+
+	private Batch createBatch(List<BuiltStatement> statements, ByteBuffer[] routingKey) {
+
+		Batch batch = CqlTemplate.addQueryOptions(QueryBuilder.unloggedBatch(), queryOptions);
+
+		if (timestamp != null) {
+			batch.using(QueryBuilder.timestamp(timestamp));
+		}
+
+		for (BuiltStatement statement : statements) {
+
+			if (routingKey != null) {
+				statement.setRoutingKey(routingKey);
+			}
+
+			batch.add(statement);
+		}
+
+		return batch;
+	}
+
+	private DataAccessException translate(RuntimeException e) {
+
+		DataAccessException translated = cassandraTemplate.getExceptionTranslator().translateExceptionIfPossible(e);
+
+		return (translated != null ? translated : new CassandraUncategorizedException(e.getMessage(), e));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.PartitionedBatchOperations#withTimestamp(long)
+	 */
+	@Override
+	public PartitionedBatchOperations withTimestamp(long timestamp) {
+
+		assertNotExecuted();
+
+		this.timestamp = timestamp;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.PartitionedBatchOperations#insert(Object...)
+	 */
+	@Override
+	public PartitionedBatchOperations insert(Object... entities) {
+		return insert(nullSafeIterable(entities));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.PartitionedBatchOperations#insert(java.lang.Iterable)
+	 */
+	@Override
+	public PartitionedBatchOperations insert(Iterable<?> entities) {
+		return insert(entities, null);
+	}
+
+	PartitionedBatchTemplate insert(Iterable<?> entities, WriteOptions options) {
+
+		assertNotExecuted();
+
+		for (Object entity : nullSafeIterable(entities)) {
+			Assert.notNull(entity, "Entity must not be null");
+			add(entity, cassandraTemplate.createInsertQuery(entity, options));
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.PartitionedBatchOperations#update(Object...)
+	 */
+	@Override
+	public PartitionedBatchOperations update(Object... entities) {
+		return update(nullSafeIterable(entities));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.PartitionedBatchOperations#update(java.lang.Iterable)
+	 */
+	@Override
+	public PartitionedBatchOperations update(Iterable<?> entities) {
+		return update(entities, null);
+	}
+
+	PartitionedBatchTemplate update(Iterable<?> entities, WriteOptions options) {
+
+		assertNotExecuted();
+
+		for (Object entity : nullSafeIterable(entities)) {
+			Assert.notNull(entity, "Entity must not be null");
+			add(entity, cassandraTemplate.createUpdateQuery(entity, options));
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.PartitionedBatchOperations#delete(Object...)
+	 */
+	@Override
+	public PartitionedBatchOperations delete(Object... entities) {
+		return delete(nullSafeIterable(entities));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.PartitionedBatchOperations#delete(java.lang.Iterable)
+	 */
+	@Override
+	public PartitionedBatchOperations delete(Iterable<?> entities) {
+		return delete(entities, null);
+	}
+
+	PartitionedBatchTemplate delete(Iterable<?> entities, QueryOptions options) {
+
+		assertNotExecuted();
+
+		for (Object entity : nullSafeIterable(entities)) {
+			Assert.notNull(entity, "Entity must not be null");
+			add(entity, cassandraTemplate.createDeleteQuery(entity, options));
+		}
+
+		return this;
+	}
+
+	private void add(Object entity, BuiltStatement statement) {
+
+		CassandraPersistentEntity<?> persistentEntity = cassandraTemplate.getPersistentEntity(entity.getClass());
+		List<ColumnSpecification> columns = getPartitionKeyColumns(persistentEntity);
+
+		Map<String, Object> values = new HashMap<String, Object>();
+		cassandraTemplate.getConverter().write(entity, values, persistentEntity);
+
+		Object[] partitionKey = new Object[columns.size()];
+
+		for (int index = 0; index < partitionKey.length; index++) {
+			partitionKey[index] = values.get(columns.get(index).getName().toCql());
+		}
+
+		List<Object> groupKey = new ArrayList<Object>(partitionKey.length + 1);
+		groupKey.add(persistentEntity.getTableName());
+		groupKey.addAll(Arrays.asList(partitionKey));
+
+		PartitionGroup group = groups.get(groupKey);
+
+		if (group == null) {
+			group = new PartitionGroup(columns, partitionKey);
+			groups.put(groupKey, group);
+		}
+
+		group.statements.add(statement);
+	}
+
+	private List<ColumnSpecification> getPartitionKeyColumns(CassandraPersistentEntity<?> entity) {
+
+		List<ColumnSpecification> columns = partitionKeyColumns.get(entity);
+
+		if (columns == null) {
+			columns = cassandraTemplate.getMappingContext().getCreateTableSpecificationFor(entity)
+					.getPartitionKeyColumns();
+			partitionKeyColumns.put(entity, columns);
+		}
+
+		return columns;
+	}
+
+	private void assertNotExecuted() {
+		Assert.state(!executed.get(), "This Cassandra Batch was already executed");
+	}
+
+	private static <T> Iterable<T> nullSafeIterable(T... array) {
+		return (array == null ? Collections.<T> emptyList() : Arrays.asList(array));
+	}
+
+	private static <T> Iterable<T> nullSafeIterable(Iterable<T> iterable) {
+		return (iterable != null ? iterable : Collections.<T> emptyList());
+	}
+
+	/**
+	 * Statements targeting a single partition.
+	 */
+	static class PartitionGroup {
+
+		private final List<ColumnSpecification> columns;
+		private final Object[] partitionKey;
+		final List<BuiltStatement> statements = new ArrayList<BuiltStatement>();
+
+		PartitionGroup(List<ColumnSpecification> columns, Object[] partitionKey) {
+			this.columns = columns;
+			this.partitionKey = partitionKey;
+		}
+
+		/**
+		 * Serialize the partition key values into routing key components.
+		 *
+		 * @return the routing key components or {@literal null} if the partition key is incomplete.
+		 */
+		ByteBuffer[] getRoutingKey(ProtocolVersion protocolVersion, CodecRegistry codecRegistry) {
+
+			ByteBuffer[] components = new ByteBuffer[partitionKey.length];
+
+			for (int index = 0; index < partitionKey.length; index++) {
+
+				Object value = partitionKey[index];
+
+				if (value == null) {
+					return null;
+				}
+
+				components[index] = codecRegistry.codecFor(columns.get(index).getType(), value).serialize(value,
+						protocolVersion);
+			}
+
+			return components;
+		}
+	}
+}
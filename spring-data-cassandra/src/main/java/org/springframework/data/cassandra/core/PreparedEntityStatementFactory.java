@@ -0,0 +1,451 @@
+/*
+ * Copyright 2017 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.cassandra.core.CqlTemplate;
+import org.springframework.cassandra.core.DefaultPreparedStatementCache;
+import org.springframework.cassandra.core.PreparedStatementCache;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.querybuilder.Delete;
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Update;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Factory for parameterized insert, update and delete {@link BoundStatement statements} derived from a
+ * {@link CassandraPersistentEntity}. The CQL for each entity, statement kind and {@link WriteOptions} shape is derived
+ * once and prepared once per {@link Session} through a {@link PreparedStatementCache}. Column values are written by
+ * the {@link CassandraConverter} and bound to the {@link PreparedStatement} without rendering CQL literals.
+ * <p>
+ * Shapes depend on the set of written columns and may therefore vary per entity instance. They are cached in a bounded
+ * least-recently-used cache of {@value #MAXIMUM_SHAPES} entries.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class PreparedEntityStatementFactory {
+
+	static final int MAXIMUM_SHAPES = DefaultPreparedStatementCache.DEFAULT_MAXIMUM_SIZE;
+
+	private final Cache<StatementShapeKey, StatementShape> shapes = CacheBuilder.newBuilder()
+			.maximumSize(MAXIMUM_SHAPES).build();
+
+	private final CassandraConverter converter;
+
+	/**
+	 * Creates a new {@link PreparedEntityStatementFactory} given {@link CassandraConverter}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 */
+	PreparedEntityStatementFactory(CassandraConverter converter) {
+
+		Assert.notNull(converter, "CassandraConverter must not be null");
+
+		this.converter = converter;
+	}
+
+	/**
+	 * Create a {@link BoundStatement} to insert {@code objectToInsert}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param session must not be {@literal null}.
+	 * @param objectToInsert must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 */
+	BoundStatement insert(PreparedStatementCache cache, Session session, Object objectToInsert,
+			CassandraPersistentEntity<?> entity, WriteOptions options) {
+
+		Map<String, Object> values = getColumnValues(objectToInsert, entity);
+		Set<String> unset = skipNullValues(session, values, entity);
+		StatementShape shape = getShape(StatementKind.INSERT, entity, values, hasTtl(options));
+
+		return bind(cache, session, shape, values, unset, options);
+	}
+
+	/**
+	 * Create a {@link BoundStatement} to update {@code objectToUpdate}. Entities that leave no column to assign after
+	 * skipping {@literal null} values are written with an insert of their primary key columns as an update without
+	 * {@code SET} clause is not valid CQL.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param session must not be {@literal null}.
+	 * @param objectToUpdate must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 */
+	BoundStatement update(PreparedStatementCache cache, Session session, Object objectToUpdate,
+			CassandraPersistentEntity<?> entity, WriteOptions options) {
+
+		Map<String, Object> values = getColumnValues(objectToUpdate, entity);
+		Set<String> unset = skipNullValues(session, values, entity);
+		StatementKind kind = (isSkipNullValues(entity) && !hasAssignments(entity, values, unset) ? StatementKind.INSERT
+				: StatementKind.UPDATE);
+		StatementShape shape = getShape(kind, entity, values, hasTtl(options));
+
+		return bind(cache, session, shape, values, unset, options);
+	}
+
+	/**
+	 * Create a {@link BoundStatement} to delete {@code objectToDelete}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param session must not be {@literal null}.
+	 * @param objectToDelete must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 */
+	BoundStatement delete(PreparedStatementCache cache, Session session, Object objectToDelete,
+			CassandraPersistentEntity<?> entity, QueryOptions options) {
+
+		Map<String, Object> values = getColumnValues(objectToDelete, entity);
+		StatementShape shape = getShape(StatementKind.DELETE, entity, values, false);
+
+		return bind(cache, session, shape, values, Collections.<String> emptySet(), options);
+	}
+
+	private Map<String, Object> getColumnValues(Object source, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(source, "Entity must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+
+		converter.write(source, values, entity);
+
+		return values;
+	}
+
+	/**
+	 * Apply the {@literal null} value handling of the {@link CassandraPersistentEntity}. Skipped columns are removed from
+	 * {@code values} unless the native protocol supports unset values; in that case they are retained so that all
+	 * entities share a single prepared statement and reported as columns to leave unset.
+	 */
+	private Set<String> skipNullValues(Session session, Map<String, Object> values, CassandraPersistentEntity<?> entity) {
+
+		if (!(converter instanceof MappingCassandraConverter)) {
+			return Collections.emptySet();
+		}
+
+		Set<String> skipped = ((MappingCassandraConverter) converter).removeSkippedNullValues(values, entity);
+
+		if (skipped.isEmpty() || !supportsUnsetValues(session)) {
+			return Collections.emptySet();
+		}
+
+		for (String column : skipped) {
+			values.put(column, null);
+		}
+
+		return skipped;
+	}
+
+	private boolean isSkipNullValues(CassandraPersistentEntity<?> entity) {
+		return (converter instanceof MappingCassandraConverter
+				&& ((MappingCassandraConverter) converter).isSkipNullValues(entity));
+	}
+
+	private static boolean hasAssignments(CassandraPersistentEntity<?> entity, Map<String, Object> values,
+			Set<String> unset) {
+
+		Set<String> keyColumns = getPrimaryKeyColumns(entity);
+
+		for (String column : values.keySet()) {
+			if (!keyColumns.contains(column) && !unset.contains(column)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean supportsUnsetValues(Session session) {
+
+		ProtocolVersion protocolVersion = session.getCluster().getConfiguration().getProtocolOptions()
+				.getProtocolVersion();
+
+		return (protocolVersion != null && protocolVersion.compareTo(ProtocolVersion.V4) >= 0);
+	}
+
+	private StatementShape getShape(StatementKind kind, CassandraPersistentEntity<?> entity, Map<String, Object> values,
+			boolean ttl) {
+
+		StatementShapeKey key = new StatementShapeKey(kind, entity.getType(), values.keySet(), ttl);
+		StatementShape shape = shapes.getIfPresent(key);
+
+		if (shape == null) {
+
+			Set<String> columns = new LinkedHashSet<String>(values.keySet());
+
+			shape = createShape(kind, entity, columns, ttl);
+			shapes.put(new StatementShapeKey(kind, entity.getType(), columns, ttl), shape);
+		}
+
+		return shape;
+	}
+
+	private static StatementShape createShape(StatementKind kind, CassandraPersistentEntity<?> entity,
+			Set<String> columns, boolean ttl) {
+
+		String tableName = entity.getTableName().toCql();
+		Set<String> keyColumns = getPrimaryKeyColumns(entity);
+
+		List<String> bindings = new ArrayList<String>(columns.size());
+		RegularStatement statement;
+
+		switch (kind) {
+
+			case INSERT: {
+
+				Insert insert = QueryBuilder.insertInto(tableName);
+
+				for (String column : columns) {
+					insert.value(column, QueryBuilder.bindMarker());
+					bindings.add(column);
+				}
+
+				if (ttl) {
+					insert.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+				}
+
+				statement = insert;
+				break;
+			}
+
+			case UPDATE: {
+
+				Update update = QueryBuilder.update(tableName);
+
+				if (ttl) {
+					update.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+				}
+
+				for (String column : columns) {
+					if (!keyColumns.contains(column)) {
+						update.with(QueryBuilder.set(column, QueryBuilder.bindMarker()));
+						bindings.add(column);
+					}
+				}
+
+				for (String column : columns) {
+					if (keyColumns.contains(column)) {
+						update.where(QueryBuilder.eq(column, QueryBuilder.bindMarker()));
+						bindings.add(column);
+					}
+				}
+
+				statement = update;
+				break;
+			}
+
+			case DELETE: {
+
+				Delete delete = QueryBuilder.delete().from(tableName);
+
+				for (String column : columns) {
+					if (keyColumns.contains(column)) {
+						delete.where(QueryBuilder.eq(column, QueryBuilder.bindMarker()));
+						bindings.add(column);
+					}
+				}
+
+				statement = delete;
+				break;
+			}
+
+			default:
+				throw new IllegalArgumentException(String.format("Statement kind [%s] not supported", kind));
+		}
+
+		// TTL is rendered before SET in UPDATE statements and after VALUES in INSERT statements
+		TtlPosition ttlPosition = (!ttl ? TtlPosition.NONE
+				: kind == StatementKind.UPDATE ? TtlPosition.FIRST : TtlPosition.LAST);
+
+		// bound statements do not infer idempotence from their prepared query, retain the one inferred by the builder
+		return new StatementShape(statement.getQueryString(), bindings, ttlPosition,
+				Boolean.TRUE.equals(statement.isIdempotent()));
+	}
+
+	private static Set<String> getPrimaryKeyColumns(CassandraPersistentEntity<?> entity) {
+
+		final Set<String> keyColumns = new LinkedHashSet<String>();
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (property.isCompositePrimaryKey()) {
+					keyColumns.addAll(getPrimaryKeyColumns(property.getCompositePrimaryKeyEntity()));
+				} else if (property.isPrimaryKeyColumn() || property.isIdProperty()) {
+					keyColumns.add(property.getColumnName().toCql());
+				}
+			}
+		});
+
+		return keyColumns;
+	}
+
+	private static BoundStatement bind(PreparedStatementCache cache, Session session, StatementShape shape,
+			Map<String, Object> values, Set<String> unset, QueryOptions options) {
+
+		PreparedStatement preparedStatement = cache.getPreparedStatement(session, shape.cql);
+
+		List<Object> arguments = new ArrayList<Object>(shape.bindings.size() + 1);
+
+		if (shape.ttlPosition == TtlPosition.FIRST) {
+			arguments.add(((WriteOptions) options).getTtl());
+		}
+
+		for (String column : shape.bindings) {
+			arguments.add(values.get(column));
+		}
+
+		if (shape.ttlPosition == TtlPosition.LAST) {
+			arguments.add(((WriteOptions) options).getTtl());
+		}
+
+		BoundStatement boundStatement = preparedStatement.bind(arguments.toArray());
+
+		if (!unset.isEmpty()) {
+
+			int offset = (shape.ttlPosition == TtlPosition.FIRST ? 1 : 0);
+
+			for (int index = 0; index < shape.bindings.size(); index++) {
+				if (unset.contains(shape.bindings.get(index))) {
+					boundStatement.unset(offset + index);
+				}
+			}
+		}
+
+		boundStatement.setIdempotent(shape.idempotent);
+
+		return CqlTemplate.addQueryOptions(boundStatement, options);
+	}
+
+	private static boolean hasTtl(WriteOptions options) {
+		return (options != null && options.getTtl() != null);
+	}
+
+	enum StatementKind {
+		INSERT, UPDATE, DELETE
+	}
+
+	enum TtlPosition {
+		NONE, FIRST, LAST
+	}
+
+	/**
+	 * Value object capturing the CQL, the column binding order and the idempotence of a prepared statement.
+	 */
+	static class StatementShape {
+
+		final String cql;
+		final List<String> bindings;
+		final TtlPosition ttlPosition;
+		final boolean idempotent;
+
+		StatementShape(String cql, List<String> bindings, TtlPosition ttlPosition, boolean idempotent) {
+
+			this.cql = cql;
+			this.bindings = Collections.unmodifiableList(bindings);
+			this.ttlPosition = ttlPosition;
+			this.idempotent = idempotent;
+		}
+	}
+
+	/**
+	 * Cache key for {@link StatementShape}s. Lookup keys may reference a live column {@link Set}, keys stored in the cache
+	 * hold a copy.
+	 */
+	static class StatementShapeKey {
+
+		private final StatementKind kind;
+		private final Class<?> type;
+		private final Set<String> columns;
+		private final boolean ttl;
+
+		StatementShapeKey(StatementKind kind, Class<?> type, Set<String> columns, boolean ttl) {
+
+			this.kind = kind;
+			this.type = type;
+			this.columns = columns;
+			this.ttl = ttl;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof StatementShapeKey)) {
+				return false;
+			}
+
+			StatementShapeKey that = (StatementShapeKey) obj;
+
+			return kind == that.kind && ttl == that.ttl && ObjectUtils.nullSafeEquals(type, that.type)
+					&& columns.equals(that.columns);
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = kind.hashCode();
+
+			result = 31 * result + type.hashCode();
+			result = 31 * result + columns.hashCode();
+			result = 31 * result + (ttl ? 1 : 0);
+
+			return result;
+		}
+	}
+}
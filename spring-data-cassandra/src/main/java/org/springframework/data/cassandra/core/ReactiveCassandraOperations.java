@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.ReactiveCqlOperations;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+
+import com.datastax.driver.core.Statement;
+
+/**
+ * Reactive variant of {@link CassandraOperations} emitting mapped entities through Reactive Streams
+ * {@link Publisher}s. Queries are executed once a {@link org.reactivestreams.Subscriber} signals demand, and result
+ * pages are fetched only as far as the demand requires.
+ * <p>
+ * Requires {@code org.reactivestreams:reactive-streams} on the class path.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see ReactiveCassandraTemplate
+ * @see ReactiveCqlOperations
+ */
+public interface ReactiveCassandraOperations {
+
+	/**
+	 * Execute the given CQL and convert the resulting rows to entities of the given type.
+	 *
+	 * @param cql must not be empty or {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the converted entities.
+	 */
+	<T> Publisher<T> select(String cql, Class<T> entityClass);
+
+	/**
+	 * Execute the given {@link Statement} and convert the resulting rows to entities of the given type.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the converted entities.
+	 */
+	<T> Publisher<T> select(Statement statement, Class<T> entityClass);
+
+	/**
+	 * Insert the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the inserted entity once the insert completed.
+	 */
+	<T> Publisher<T> insert(T entity);
+
+	/**
+	 * Insert the given entity applying {@link WriteOptions}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return a {@link Publisher} emitting the inserted entity once the insert completed.
+	 */
+	<T> Publisher<T> insert(T entity, WriteOptions options);
+
+	/**
+	 * Update the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the updated entity once the update completed.
+	 */
+	<T> Publisher<T> update(T entity);
+
+	/**
+	 * Update the given entity applying {@link WriteOptions}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return a {@link Publisher} emitting the updated entity once the update completed.
+	 */
+	<T> Publisher<T> update(T entity, WriteOptions options);
+
+	/**
+	 * Delete the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the deleted entity once the delete completed.
+	 */
+	<T> Publisher<T> delete(T entity);
+
+	/**
+	 * Delete the given entity applying {@link QueryOptions}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return a {@link Publisher} emitting the deleted entity once the delete completed.
+	 */
+	<T> Publisher<T> delete(T entity, QueryOptions options);
+
+	/**
+	 * Returns the underlying {@link ReactiveCqlOperations}.
+	 *
+	 * @return the underlying {@link ReactiveCqlOperations}.
+	 */
+	ReactiveCqlOperations getReactiveCqlOperations();
+
+	/**
+	 * Returns the underlying {@link CassandraConverter}.
+	 *
+	 * @return the underlying {@link CassandraConverter}.
+	 */
+	CassandraConverter getConverter();
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.ReactiveCqlOperations;
+import org.springframework.cassandra.core.ReactiveCqlTemplate;
+import org.springframework.cassandra.core.ResultSetExtractor;
+import org.springframework.cassandra.core.RowMapper;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Default implementation of {@link ReactiveCassandraOperations} using {@link ReactiveCqlOperations} to execute
+ * statements and a {@link CassandraConverter} to map rows and write entities. Rows are converted on the thread the
+ * {@link ReactiveCqlOperations} emit them on, by default a driver I/O thread for {@link ReactiveCqlTemplate}.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see ReactiveCassandraOperations
+ * @see ReactiveCqlTemplate#setCallbackExecutor(java.util.concurrent.Executor)
+ */
+public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
+
+	private final ReactiveCqlOperations cqlOperations;
+	private final CassandraConverter converter;
+
+	/**
+	 * Creates a new {@link ReactiveCassandraTemplate} for the given {@link Session} and {@link CassandraConverter}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	public ReactiveCassandraTemplate(Session session, CassandraConverter converter) {
+		this(new ReactiveCqlTemplate(session), converter);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveCassandraTemplate} for the given {@link ReactiveCqlOperations} and
+	 * {@link CassandraConverter}.
+	 *
+	 * @param cqlOperations must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	public ReactiveCassandraTemplate(ReactiveCqlOperations cqlOperations, CassandraConverter converter) {
+
+		Assert.notNull(cqlOperations, "ReactiveCqlOperations must not be null");
+		Assert.notNull(converter, "CassandraConverter must not be null");
+
+		this.cqlOperations = cqlOperations;
+		this.converter = converter;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#select(java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <T> Publisher<T> select(String cql, Class<T> entityClass) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+
+		return select(new SimpleStatement(cql), entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#select(com.datastax.driver.core.Statement, java.lang.Class)
+	 */
+	@Override
+	public <T> Publisher<T> select(Statement statement, final Class<T> entityClass) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return cqlOperations.query(statement, new RowMapper<T>() {
+
+			@Override
+			public T mapRow(Row row, int rowNum) {
+				return converter.read(entityClass, row);
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#insert(java.lang.Object)
+	 */
+	@Override
+	public <T> Publisher<T> insert(T entity) {
+		return insert(entity, null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#insert(java.lang.Object, org.springframework.cassandra.core.WriteOptions)
+	 */
+	@Override
+	public <T> Publisher<T> insert(T entity, WriteOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return execute(CassandraTemplate.createInsertQuery(getTableName(entity), entity, options, converter), entity);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#update(java.lang.Object)
+	 */
+	@Override
+	public <T> Publisher<T> update(T entity) {
+		return update(entity, null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#update(java.lang.Object, org.springframework.cassandra.core.WriteOptions)
+	 */
+	@Override
+	public <T> Publisher<T> update(T entity, WriteOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return execute(CassandraTemplate.createUpdateStatement(getTableName(entity), entity, options, converter), entity);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#delete(java.lang.Object)
+	 */
+	@Override
+	public <T> Publisher<T> delete(T entity) {
+		return delete(entity, null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#delete(java.lang.Object, org.springframework.cassandra.core.QueryOptions)
+	 */
+	@Override
+	public <T> Publisher<T> delete(T entity, QueryOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return execute(CassandraTemplate.createDeleteQuery(getTableName(entity), entity, options, converter), entity);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#getReactiveCqlOperations()
+	 */
+	@Override
+	public ReactiveCqlOperations getReactiveCqlOperations() {
+		return cqlOperations;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#getConverter()
+	 */
+	@Override
+	public CassandraConverter getConverter() {
+		return converter;
+	}
+
+	private <T> Publisher<T> execute(Statement statement, final T entity) {
+
+		return cqlOperations.query(statement, new ResultSetExtractor<T>() {
+
+			@Override
+			public T extractData(ResultSet resultSet) {
+				return entity;
+			}
+		});
+	}
+
+	private String getTableName(Object entity) {
+
+		CassandraPersistentEntity<?> persistentEntity = converter.getMappingContext()
+				.getPersistentEntity(entity.getClass());
+
+		if (persistentEntity == null) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("No Persistent Entity information found for the class [%s]", entity.getClass().getName()));
+		}
+
+		return persistentEntity.getTableName().toCql();
+	}
+}
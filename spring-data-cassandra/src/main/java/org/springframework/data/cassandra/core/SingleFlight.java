@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cassandra.support.exception.CassandraUncategorizedException;
+import org.springframework.util.Assert;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Merges concurrent executions for the same key into a single execution. The first caller for a key executes the
+ * {@link Callable} on its own thread while callers arriving during the execution wait for and share its outcome.
+ * Results are not cached: a call arriving after the execution completed starts a new execution.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+class SingleFlight<K, V> {
+
+	private final ConcurrentMap<K, FutureTask<V>> inFlight = new ConcurrentHashMap<K, FutureTask<V>>();
+
+	private final AtomicLong executions = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+
+	/**
+	 * Execute the {@link Callable} or join an in-flight execution for the same key.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param callable must not be {@literal null}.
+	 * @return the result of the execution, may be {@literal null}.
+	 */
+	V execute(K key, Callable<V> callable) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(callable, "Callable must not be null");
+
+		FutureTask<V> task = new FutureTask<V>(callable);
+		FutureTask<V> existing = inFlight.putIfAbsent(key, task);
+
+		if (existing != null) {
+			coalesced.incrementAndGet();
+			return getResult(existing);
+		}
+
+		executions.incrementAndGet();
+
+		try {
+			task.run();
+		} finally {
+			inFlight.remove(key, task);
+		}
+
+		return getResult(task);
+	}
+
+	/**
+	 * @return the number of executions.
+	 */
+	long getExecutionCount() {
+		return executions.get();
+	}
+
+	/**
+	 * @return the number of calls that joined an in-flight execution instead of executing.
+	 */
+	long getCoalescedCount() {
+		return coalesced.get();
+	}
+
+	private static <V> V getResult(FutureTask<V> task) {
+
+		try {
+			return Uninterruptibles.getUninterruptibly(task);
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+
+			throw new CassandraUncategorizedException("Coalesced execution failed", e.getCause());
+		}
+	}
+}
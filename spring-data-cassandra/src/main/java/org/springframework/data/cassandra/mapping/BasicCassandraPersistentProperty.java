@@ -269,6 +269,11 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 		return isAnnotationPresent(Indexed.class);
 	}
 
+	@Override
+	public boolean isLazy() {
+		return isAnnotationPresent(Lazy.class);
+	}
+
 	@Override
 	public boolean isClusterKeyColumn() {
 
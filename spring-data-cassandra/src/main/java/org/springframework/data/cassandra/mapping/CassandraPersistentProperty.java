@@ -94,6 +94,14 @@ public interface CassandraPersistentProperty
 	 */
 	boolean isIndexed();
 
+	/**
+	 * Whether the property is converted lazily on first access.
+	 *
+	 * @since 1.6
+	 * @see Lazy
+	 */
+	boolean isLazy();
+
 	/**
 	 * Whether the property is a partition key column.
 	 */
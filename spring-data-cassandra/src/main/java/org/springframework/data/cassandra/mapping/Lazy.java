@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a collection or map property to be converted lazily. The property is populated with a proxy that keeps the
+ * driver value and converts elements, such as user-defined types, on first access. Applies to properties declared as
+ * {@link java.util.List}, {@link java.util.Set}, {@link java.util.Collection} or {@link java.util.Map}; other
+ * properties are read eagerly.
+ * <p>
+ * Lazily converted properties keep a reference to the {@link com.datastax.driver.core.Row} they were read from until
+ * they are accessed.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ */
+@Documented
+@Retention(value = RetentionPolicy.RUNTIME)
+@Target(value = { ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface Lazy {}
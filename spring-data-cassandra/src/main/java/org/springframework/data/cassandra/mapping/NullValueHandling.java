@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.mapping;
+
+/**
+ * Strategy for writing {@literal null} property values of an entity. Writing a {@literal null} value creates a
+ * tombstone in Cassandra; skipping it leaves the column untouched.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see Table#nullValues()
+ */
+public enum NullValueHandling {
+
+	/**
+	 * Use the default configured on the {@link org.springframework.data.cassandra.convert.CassandraConverter}.
+	 */
+	DEFAULT,
+
+	/**
+	 * Write {@literal null} values.
+	 */
+	WRITE,
+
+	/**
+	 * Skip {@literal null} values of non-primary key columns in inserts and updates. Prepared statements leave the bind
+	 * variables of these columns unset if the native protocol supports unset values (v4 and newer).
+	 */
+	SKIP
+}
@@ -44,4 +44,12 @@ public @interface Table {
 	 * Whether to cause the table name to be force-quoted.
 	 */
 	boolean forceQuote() default false;
+
+	/**
+	 * How to write {@literal null} property values. Defaults to {@link NullValueHandling#DEFAULT} to use the setting of
+	 * the {@link org.springframework.data.cassandra.convert.CassandraConverter}.
+	 *
+	 * @since 1.6
+	 */
+	NullValueHandling nullValues() default NullValueHandling.DEFAULT;
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare whether the statements of a repository query method are idempotent. Idempotent statements can
+ * be executed speculatively by the driver's {@link com.datastax.driver.core.policies.SpeculativeExecutionPolicy}.
+ * Derived queries and {@link Query string queries} selecting data are considered idempotent unless annotated
+ * otherwise; other string queries are considered non-idempotent unless annotated.
+ *
+ * @author Mark Paluch
+ * @since 1.6
+ * @see com.datastax.driver.core.Statement#setIdempotent(boolean)
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Documented
+public @interface Idempotent {
+
+	/**
+	 * @return {@literal true} if the statements of the query method can be applied multiple times without changing the
+	 *         result.
+	 */
+	boolean value() default true;
+}
@@ -19,26 +19,37 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.CodecNotFoundException;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cassandra.core.PreparedStatementCallback;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.cassandra.convert.CassandraConverter;
 import org.springframework.data.cassandra.convert.CustomConversions;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.AsyncExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.CollectionExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultProcessingConverter;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultProcessingExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultSetQuery;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SingleEntityExecution;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SlicedExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.StreamExecution;
 import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -63,6 +74,7 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	private final CassandraOperations template;
 	private final CassandraQueryMethod queryMethod;
 	private final EntityInstantiators instantiators;
+	private final AtomicBoolean bindFallbackReported = new AtomicBoolean();
 
 	/**
 	 * Creates a new {@link AbstractCassandraQuery} from the given {@link CassandraQueryMethod} and
@@ -100,9 +112,9 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 
 		ResultProcessor resultProcessor = queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 
-		String query = createQuery(parameterAccessor);
+		Statement statement = applyIdempotence(createStatement(parameterAccessor));
 
-		CassandraQueryExecution queryExecution = getExecution(query, parameterAccessor,
+		CassandraQueryExecution queryExecution = getExecution(statement, parameterAccessor,
 				new ResultProcessingConverter(resultProcessor, template.getConverter().getMappingContext(), instantiators));
 
 		CassandraReturnedType returnedType = new CassandraReturnedType(resultProcessor.getReturnedType(),
@@ -110,19 +122,25 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 
 		Class<?> resultType = (returnedType.isProjecting() ? returnedType.getDomainType() : returnedType.getReturnedType());
 
-		return queryExecution.execute(query, resultType);
+		return queryExecution.execute(statement, resultType);
 	}
 
 	/**
 	 * Returns the execution instance to use.
 	 *
-	 * @param query must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
 	 * @param accessor must not be {@literal null}.
 	 * @param resultProcessing must not be {@literal null}. @return
 	 */
-	private CassandraQueryExecution getExecution(String query, CassandraParameterAccessor accessor,
+	private CassandraQueryExecution getExecution(Statement statement, CassandraParameterAccessor accessor,
 			Converter<Object, Object> resultProcessing) {
 
+		if (queryMethod.isAsyncQuery()) {
+			// results are processed on completion
+			return new AsyncExecution(template, queryMethod.getReturnType().getType(), queryMethod.isCollectionQuery(),
+					resultProcessing);
+		}
+
 		return new ResultProcessingExecution(getExecutionToWrap(accessor, resultProcessing), resultProcessing);
 	}
 
@@ -131,6 +149,8 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 
 		if (queryMethod.isCollectionQuery()) {
 			return new CollectionExecution(template);
+		} else if (queryMethod.isSliceQuery()) {
+			return new SlicedExecution(template, accessor.getPageable());
 		} else if (queryMethod.isResultSetQuery()) {
 			return new ResultSetQuery(template);
 		} else if (queryMethod.isStreamQuery()) {
@@ -242,6 +262,90 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	 */
 	protected abstract String createQuery(CassandraParameterAccessor accessor);
 
+	/**
+	 * Creates a {@link Statement} using the given {@link ParameterAccessor}. Defaults to a {@link SimpleStatement}
+	 * rendered by {@link #createQuery(CassandraParameterAccessor)}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return the {@link Statement} to execute.
+	 * @since 1.6
+	 */
+	protected Statement createStatement(CassandraParameterAccessor accessor) {
+		return new SimpleStatement(createQuery(accessor));
+	}
+
+	/**
+	 * Returns whether the query only reads data. Read queries are idempotent and can be executed speculatively unless
+	 * the query method declares otherwise. Defaults to {@literal false}.
+	 *
+	 * @return {@literal true} if the query only reads data.
+	 * @since 1.6
+	 * @see org.springframework.data.cassandra.repository.Idempotent
+	 */
+	protected boolean isReadQuery() {
+		return false;
+	}
+
+	/**
+	 * Marks the {@link Statement} idempotent as declared by the query method or if the query only reads data and the
+	 * statement did not infer its idempotence.
+	 */
+	private Statement applyIdempotence(Statement statement) {
+
+		Boolean idempotent = queryMethod.getIdempotent();
+
+		if (idempotent != null) {
+			statement.setIdempotent(idempotent);
+		} else if (statement.isIdempotent() == null && isReadQuery()) {
+			statement.setIdempotent(true);
+		}
+
+		return statement;
+	}
+
+	/**
+	 * Binds {@code values} to the {@link PreparedStatement} created from the parameterized {@code cql}. The
+	 * {@link PreparedStatement} is prepared on first use and cached per {@link com.datastax.driver.core.Session}.
+	 *
+	 * @param cql the parameterized CQL, must not be empty.
+	 * @param values the values to bind in order of the bind markers, must not be {@literal null}.
+	 * @return the {@link BoundStatement} or {@literal null} if the values are not compatible with the types of the bind
+	 *         variables. Callers are expected to fall back to a {@link #createQuery(CassandraParameterAccessor) string
+	 *         query} in that case. The first fallback of a query method is logged as warning.
+	 * @since 1.6
+	 */
+	protected BoundStatement bindPreparedStatement(String cql, List<Object> values) {
+
+		PreparedStatement preparedStatement = template.execute(cql,
+				new PreparedStatementCallback<PreparedStatement>() {
+
+					@Override
+					public PreparedStatement doInPreparedStatement(PreparedStatement preparedStatement) {
+						return preparedStatement;
+					}
+				});
+
+		try {
+			return preparedStatement.bind(values.toArray());
+		} catch (InvalidTypeException e) {
+			logBindFallback(cql, e);
+		} catch (CodecNotFoundException e) {
+			logBindFallback(cql, e);
+		}
+
+		return null;
+	}
+
+	private void logBindFallback(String cql, RuntimeException e) {
+
+		if (bindFallbackReported.compareAndSet(false, true)) {
+			log.warn("Cannot bind values to prepared statement [{}] of query method [{}], falling back to a string query "
+					+ "without prepared statement reuse: {}", cql, queryMethod.getName(), e.getMessage());
+		} else {
+			log.debug("Cannot bind values to prepared statement [{}]: {}", cql, e.getMessage());
+		}
+	}
+
 	@RequiredArgsConstructor
 	private class CassandraReturnedType {
 
@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.query;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -41,6 +42,7 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
 import org.springframework.util.Assert;
 
 /**
@@ -59,6 +61,7 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 	private final CassandraPersistentEntity<?> entity;
 	private final CqlIdentifier tableName;
 	private final WhereBuilder whereBuilder = new WhereBuilder();
+	private final List<Object> bindValues;
 
 	/**
 	 * Creates a new {@link CassandraQueryCreator} from the given {@link PartTree}, {@link ConvertingParameterAccessor}
@@ -72,6 +75,24 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 	public CassandraQueryCreator(PartTree tree, CassandraParameterAccessor accessor,
 			CassandraMappingContext mappingContext, CassandraEntityMetadata<?> entityMetadata) {
 
+		this(tree, accessor, mappingContext, entityMetadata, null);
+	}
+
+	/**
+	 * Creates a new {@link CassandraQueryCreator} from the given {@link PartTree}, {@link ConvertingParameterAccessor}
+	 * and {@link MappingContext}. If {@code bindValues} is not {@literal null}, parameter values are rendered as bind
+	 * markers and collected in order into {@code bindValues} instead of being inlined into the query.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param entityMetadata must not be {@literal null}.
+	 * @param bindValues may be {@literal null}.
+	 * @since 1.6
+	 */
+	CassandraQueryCreator(PartTree tree, CassandraParameterAccessor accessor, CassandraMappingContext mappingContext,
+			CassandraEntityMetadata<?> entityMetadata, List<Object> bindValues) {
+
 		super(tree, accessor);
 
 		Assert.notNull(mappingContext, "CassandraMappingContext must not be null");
@@ -80,6 +101,7 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 		this.mappingContext = mappingContext;
 		this.entity = mappingContext.getPersistentEntity(entityMetadata.getJavaType());
 		this.tableName = entityMetadata.getTableName();
+		this.bindValues = bindValues;
 	}
 
 	/* (non-Javadoc)
@@ -148,20 +170,20 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 		switch (type) {
 			case AFTER:
 			case GREATER_THAN:
-				return QueryBuilder.gt(columnName(property), parameters.nextConverted(property));
+				return QueryBuilder.gt(columnName(property), bind(parameters.nextConverted(property)));
 			case GREATER_THAN_EQUAL:
-				return QueryBuilder.gte(columnName(property), parameters.nextConverted(property));
+				return QueryBuilder.gte(columnName(property), bind(parameters.nextConverted(property)));
 			case BEFORE:
 			case LESS_THAN:
-				return QueryBuilder.lt(columnName(property), parameters.nextConverted(property));
+				return QueryBuilder.lt(columnName(property), bind(parameters.nextConverted(property)));
 			case LESS_THAN_EQUAL:
-				return QueryBuilder.lte(columnName(property), parameters.nextConverted(property));
+				return QueryBuilder.lte(columnName(property), bind(parameters.nextConverted(property)));
 			case IN:
-				return QueryBuilder.in(columnName(property), nextAsArray(property, parameters));
+				return in(property, nextAsArray(property, parameters));
 			case LIKE:
 			case STARTING_WITH:
 			case ENDING_WITH:
-				return QueryBuilder.like(columnName(property), like(type, parameters.nextConverted(property)));
+				return QueryBuilder.like(columnName(property), bind(like(type, parameters.nextConverted(property))));
 			case CONTAINING:
 				return containing(property, parameters.nextConverted(property));
 			case TRUE:
@@ -169,7 +191,7 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 			case FALSE:
 				return QueryBuilder.eq(columnName(property), false);
 			case SIMPLE_PROPERTY:
-				return QueryBuilder.eq(columnName(property), parameters.nextConverted(property));
+				return QueryBuilder.eq(columnName(property), bind(parameters.nextConverted(property)));
 			default:
 				throw new InvalidDataAccessApiUsageException(String.format(
 					"Unsupported keyword [%s] in part [%s]", type, part));
@@ -183,13 +205,38 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 	private Clause containing(CassandraPersistentProperty property, Object bindableValue) {
 
 		if (property.isCollectionLike() || property.isMapLike()) {
-			return QueryBuilder.contains(columnName(property), bindableValue);
+			return QueryBuilder.contains(columnName(property), bind(bindableValue));
 		}
 
-		return QueryBuilder.like(columnName(property), like(Type.CONTAINING, bindableValue));
+		return QueryBuilder.like(columnName(property), bind(like(Type.CONTAINING, bindableValue)));
 	}
 
-	private Object like(Type type, Object value) {
+	private Clause in(CassandraPersistentProperty property, Object[] values) {
+
+		if (bindValues != null) {
+			// a single bind marker renders IN ? and accepts the values as list
+			return QueryBuilder.in(columnName(property), bind(Arrays.asList(values)));
+		}
+
+		return QueryBuilder.in(columnName(property), values);
+	}
+
+	/**
+	 * Returns a bind marker and collects {@code value} if the creator is configured to create a parameterized query,
+	 * otherwise {@code value} itself to render it inline.
+	 */
+	private Object bind(Object value) {
+
+		if (bindValues == null) {
+			return value;
+		}
+
+		bindValues.add(value);
+
+		return QueryBuilder.bindMarker();
+	}
+
+	private static Object like(Type type, Object value) {
 
 		if (value != null) {
 			switch (type) {
@@ -209,7 +256,7 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 		return null;
 	}
 
-	private Object[] nextAsArray(CassandraPersistentProperty property, PotentiallyConvertingIterator iterator) {
+	private static Object[] nextAsArray(CassandraPersistentProperty property, PotentiallyConvertingIterator iterator) {
 
 		Object next = iterator.nextConverted(property);
 
@@ -222,6 +269,86 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 		return new Object[] { next };
 	}
 
+	/**
+	 * Collects the converted bind values of the parameterized query derived from a {@link PartTree} without creating the
+	 * query. Values are collected in the order of the bind markers rendered by {@link CassandraQueryCreator}.
+	 *
+	 * @author Mark Paluch
+	 * @since 1.6
+	 */
+	static class BindValueCollector {
+
+		private final Part[] parts;
+		private final CassandraPersistentProperty[] properties;
+
+		/**
+		 * Creates a new {@link BindValueCollector} for the given {@link PartTree}.
+		 *
+		 * @param tree must not be {@literal null}.
+		 * @param mappingContext must not be {@literal null}.
+		 */
+		BindValueCollector(PartTree tree, CassandraMappingContext mappingContext) {
+
+			Assert.notNull(tree, "PartTree must not be null");
+			Assert.notNull(mappingContext, "CassandraMappingContext must not be null");
+
+			List<Part> parts = new ArrayList<Part>();
+
+			for (OrPart node : tree) {
+				for (Part part : node) {
+					parts.add(part);
+				}
+			}
+
+			this.parts = parts.toArray(new Part[parts.size()]);
+			this.properties = new CassandraPersistentProperty[parts.size()];
+
+			for (int i = 0; i < this.parts.length; i++) {
+				properties[i] = mappingContext.getPersistentPropertyPath(this.parts[i].getProperty()).getLeafProperty();
+			}
+		}
+
+		/**
+		 * Collects the converted bind values from the given {@link CassandraParameterAccessor}.
+		 *
+		 * @param accessor must not be {@literal null}.
+		 * @return the bind values in bind marker order.
+		 */
+		List<Object> collect(CassandraParameterAccessor accessor) {
+
+			PotentiallyConvertingIterator parameters = (PotentiallyConvertingIterator) accessor.iterator();
+			List<Object> values = new ArrayList<Object>(parts.length);
+
+			for (int i = 0; i < parts.length; i++) {
+
+				Type type = parts[i].getType();
+				CassandraPersistentProperty property = properties[i];
+
+				switch (type) {
+					case TRUE:
+					case FALSE:
+						break;
+					case IN:
+						values.add(Arrays.asList(nextAsArray(property, parameters)));
+						break;
+					case LIKE:
+					case STARTING_WITH:
+					case ENDING_WITH:
+						values.add(like(type, parameters.nextConverted(property)));
+						break;
+					case CONTAINING:
+						Object value = parameters.nextConverted(property);
+						values.add(property.isCollectionLike() || property.isMapLike() ? value : like(type, value));
+						break;
+					default:
+						values.add(parameters.nextConverted(property));
+				}
+			}
+
+			return values;
+		}
+	}
+
 	/**
 	 * Where clause builder. Collects {@link Clause clauses} and builds the where-clause depending on the WHERE type.
 	 *
@@ -16,16 +16,29 @@
 
 package org.springframework.data.cassandra.repository.query;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.CassandraPageRequest;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.Statement;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +51,7 @@ import lombok.RequiredArgsConstructor;
  */
 interface CassandraQueryExecution {
 
-	Object execute(String query, Class<?> type);
+	Object execute(Statement statement, Class<?> type);
 
 	/**
 	 * {@link CassandraQueryExecution} for a Stream.
@@ -52,12 +65,15 @@ interface CassandraQueryExecution {
 		private final @NonNull Converter<Object, Object> resultProcessing;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
+		public Object execute(Statement statement, Class<?> type) {
+
+			// closing the Stream stops fetching further pages
+			Stream<?> stream = StreamUtils.createStreamFromIterator(operations.stream(statement, type));
 
-			return StreamUtils.createStreamFromIterator(operations.stream(query, type)).map(new Function<Object, Object>() {
+			return stream.map(new Function<Object, Object>() {
 
 				@Override
 				public Object apply(Object t) {
@@ -67,6 +83,136 @@ interface CassandraQueryExecution {
 		}
 	}
 
+	/**
+	 * {@link CassandraQueryExecution} for asynchronous queries returning a {@link CompletableFuture} or a
+	 * {@link ListenableFuture}. Rows are read and processed once the query completes without blocking the caller.
+	 *
+	 * @author Mark Paluch
+	 * @since 1.6
+	 */
+	@RequiredArgsConstructor
+	final class AsyncExecution implements CassandraQueryExecution {
+
+		private final @NonNull CassandraOperations operations;
+		private final @NonNull Class<?> futureType;
+		private final boolean collectionQuery;
+		private final @NonNull Converter<Object, Object> resultProcessing;
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object execute(Statement statement, Class<?> type) {
+
+			ListenableFuture<Object> future = (ListenableFuture<Object>) (collectionQuery
+					? operations.selectAsynchronously(statement, type)
+					: operations.selectOneAsynchronously(statement, type));
+
+			if (futureType.isAssignableFrom(CompletableFuture.class)) {
+
+				final CompletableFuture<Object> completableFuture = new CompletableFuture<Object>();
+
+				future.addCallback(new ListenableFutureCallback<Object>() {
+
+					@Override
+					public void onSuccess(Object result) {
+
+						try {
+							completableFuture.complete(resultProcessing.convert(result));
+						} catch (RuntimeException e) {
+							completableFuture.completeExceptionally(e);
+						}
+					}
+
+					@Override
+					public void onFailure(Throwable e) {
+						completableFuture.completeExceptionally(e);
+					}
+				});
+
+				return completableFuture;
+			}
+
+			if (futureType.isAssignableFrom(ListenableFuture.class)) {
+
+				final SettableListenableFuture<Object> listenableFuture = new SettableListenableFuture<Object>();
+
+				future.addCallback(new ListenableFutureCallback<Object>() {
+
+					@Override
+					public void onSuccess(Object result) {
+
+						try {
+							listenableFuture.set(resultProcessing.convert(result));
+						} catch (RuntimeException e) {
+							listenableFuture.setException(e);
+						}
+					}
+
+					@Override
+					public void onFailure(Throwable e) {
+						listenableFuture.setException(e);
+					}
+				});
+
+				return listenableFuture;
+			}
+
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Unsupported asynchronous return type [%s]; use CompletableFuture or ListenableFuture",
+							futureType.getName()));
+		}
+	}
+
+	/**
+	 * {@link CassandraQueryExecution} for {@link Slice} queries. Reads a single result page sized by the
+	 * {@link Pageable} and resumes from the {@link com.datastax.driver.core.PagingState} of a {@link CassandraPageRequest}.
+	 * A {@literal null} {@link Pageable} reads the first page with the statement's effective fetch size.
+	 *
+	 * @author Mark Paluch
+	 * @since 1.6
+	 */
+	@RequiredArgsConstructor
+	final class SlicedExecution implements CassandraQueryExecution {
+
+		private final @NonNull CassandraOperations operations;
+		private final Pageable pageable;
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
+		 */
+		@Override
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		public Object execute(Statement statement, Class<?> type) {
+
+			if (pageable == null) {
+				return operations.slice(statement, type);
+			}
+
+			PagingState pagingState = (pageable instanceof CassandraPageRequest
+					? ((CassandraPageRequest) pageable).getPagingState() : null);
+
+			if (pageable.getPageNumber() > 0 && pagingState == null) {
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"Cannot skip to page %d; Cassandra resumes from the PagingState of the previous Slice, use Slice.nextPageable()",
+						pageable.getPageNumber()));
+			}
+
+			statement.setFetchSize(pageable.getPageSize());
+
+			if (pagingState != null) {
+				statement.setPagingState(pagingState);
+			}
+
+			Slice slice = operations.slice(statement, type);
+			CassandraPageRequest pageRequest = (CassandraPageRequest) slice.getPageable();
+
+			return new SliceImpl(slice.getContent(), CassandraPageRequest.of(pageable, pageRequest.getPagingState()),
+					slice.hasNext());
+		}
+	}
+
 	/**
 	 * {@link CassandraQueryExecution} for collection returning queries.
 	 *
@@ -78,11 +224,11 @@ interface CassandraQueryExecution {
 		private final @NonNull CassandraOperations operations;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return operations.select(query, type);
+		public Object execute(Statement statement, Class<?> type) {
+			return operations.select(statement, type);
 		}
 	}
 
@@ -97,11 +243,11 @@ interface CassandraQueryExecution {
 		private final @NonNull CassandraOperations operations;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return operations.selectOne(query, type);
+		public Object execute(Statement statement, Class<?> type) {
+			return operations.selectOne(statement, type);
 		}
 	}
 
@@ -116,11 +262,11 @@ interface CassandraQueryExecution {
 		private final @NonNull CassandraOperations operations;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return operations.query(query);
+		public Object execute(Statement statement, Class<?> type) {
+			return operations.query(statement);
 		}
 	}
 
@@ -136,11 +282,11 @@ interface CassandraQueryExecution {
 		private final @NonNull Converter<Object, Object> converter;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(com.datastax.driver.core.Statement, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return converter.convert(delegate.execute(query, type));
+		public Object execute(Statement statement, Class<?> type) {
+			return converter.convert(delegate.execute(statement, type));
 		}
 	}
 
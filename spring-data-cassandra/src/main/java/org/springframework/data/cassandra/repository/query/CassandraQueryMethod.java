@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.query;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.Future;
 
 import com.datastax.driver.core.ResultSet;
 
@@ -24,6 +25,7 @@ import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.repository.Idempotent;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -72,14 +74,23 @@ public class CassandraQueryMethod extends QueryMethod {
 	}
 
 	/**
-	 * Validates that this query is not a page or slice query.
+	 * Validates that this query is not a page query. {@link org.springframework.data.domain.Slice} queries are supported
+	 * using {@link com.datastax.driver.core.PagingState}. {@link org.springframework.data.domain.Page} queries are not
+	 * supported as they require a count of all results. Asynchronous queries are supported for entities and collections
+	 * of entities.
 	 */
 	@SuppressWarnings("unused")
 	public void verify(Method method, RepositoryMetadata metadata) {
 
-		// TODO: support Page & Slice queries
-		if (isSliceQuery() || isPageQuery()) {
-			throw new InvalidDataAccessApiUsageException("Slice and Page queries are not supported");
+		if (isPageQuery()) {
+			throw new InvalidDataAccessApiUsageException(
+					"Page queries are not supported; use Slice with a CassandraPageRequest instead");
+		}
+
+		if (Future.class.isAssignableFrom(method.getReturnType())
+				&& (isSliceQuery() || isStreamQuery() || ResultSet.class.isAssignableFrom(getReturnedObjectType()))) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+					"Asynchronous query method [%s] must complete with an entity or a List of entities", method));
 		}
 	}
 
@@ -158,6 +169,19 @@ public class CassandraQueryMethod extends QueryMethod {
 		return AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
 	}
 
+	/**
+	 * Returns the idempotence declared with {@link Idempotent} or {@literal null} if not declared.
+	 *
+	 * @return
+	 * @since 1.6
+	 */
+	public Boolean getIdempotent() {
+
+		Idempotent idempotent = AnnotatedElementUtils.findMergedAnnotation(method, Idempotent.class);
+
+		return (idempotent != null ? idempotent.value() : null);
+	}
+
 	/**
 	 * @return the return type for this {@link QueryMethod}.
 	 */
@@ -165,6 +189,15 @@ public class CassandraQueryMethod extends QueryMethod {
 		return ClassTypeInformation.fromReturnTypeOf(method);
 	}
 
+	/**
+	 * @return true if the method returns a {@link Future}, such as a {@link java.util.concurrent.CompletableFuture} or
+	 *         {@link org.springframework.util.concurrent.ListenableFuture}, completed once the query results are read.
+	 * @since 1.6
+	 */
+	public boolean isAsyncQuery() {
+		return Future.class.isAssignableFrom(method.getReturnType());
+	}
+
 	/**
 	 * @return true is the method returns a {@link ResultSet}.
 	 */
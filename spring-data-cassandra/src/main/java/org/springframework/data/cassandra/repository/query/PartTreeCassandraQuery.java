@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2016 the original author or authors.
+ * Copyright 2014-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,12 +15,21 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import java.util.ArrayList;
+import java.util.Map;
+
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.repository.query.CassandraQueryCreator.BindValueCollector;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 
 /**
  * {@link RepositoryQuery} implementation for Cassandra.
@@ -34,6 +43,10 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
 	private final PartTree tree;
 
+	private final BindValueCollector bindValueCollector;
+
+	private final Map<Sort, String> parameterizedQueries = new ConcurrentReferenceHashMap<Sort, String>();
+
 	/**
 	 * Creates a new {@link PartTreeCassandraQuery} from the given {@link QueryMethod} and {@link CassandraTemplate}.
 	 *
@@ -46,6 +59,7 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
 		this.mappingContext = operations.getConverter().getMappingContext();
+		this.bindValueCollector = new BindValueCollector(tree, mappingContext);
 	}
 
 	/**
@@ -57,6 +71,16 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 		return tree;
 	}
 
+	/**
+	 * Derived queries select data and are therefore read queries.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#isReadQuery()
+	 */
+	@Override
+	protected boolean isReadQuery() {
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor, boolean)
@@ -69,4 +93,38 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
 		return queryCreator.createQuery().toString();
 	}
+
+	/**
+	 * Creates a {@link Statement} by binding the converted parameter values to the prepared, parameterized query derived
+	 * from the {@link PartTree}. The parameterized query is derived once per dynamic {@link Sort} and cached so only the
+	 * bind values are collected per call. Falls back to a {@link SimpleStatement} with inlined values if the values
+	 * cannot be bound to the bind variables.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createStatement(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	protected Statement createStatement(CassandraParameterAccessor parameterAccessor) {
+
+		Statement statement = bindPreparedStatement(getParameterizedQuery(parameterAccessor),
+				bindValueCollector.collect(parameterAccessor));
+
+		return (statement != null ? statement : new SimpleStatement(createQuery(parameterAccessor)));
+	}
+
+	private String getParameterizedQuery(CassandraParameterAccessor parameterAccessor) {
+
+		Sort sort = parameterAccessor.getSort();
+		String cql = parameterizedQueries.get(sort);
+
+		if (cql == null) {
+
+			CassandraQueryCreator queryCreator = new CassandraQueryCreator(tree, parameterAccessor, mappingContext,
+					getQueryMethod().getEntityInformation(), new ArrayList<Object>());
+
+			cql = queryCreator.createQuery().toString();
+			parameterizedQueries.put(sort, cql);
+		}
+
+		return cql;
+	}
 }
@@ -35,6 +35,8 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.querybuilder.BindMarker;
 
@@ -62,6 +64,10 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 
 	private final String query;
 
+	private final String parameterizedQuery;
+
+	private final boolean readQuery;
+
 	/**
 	 * Creates a new {@link StringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
 	 * {@link CassandraOperations}, {@link SpelExpressionParser}, and {@link EvaluationContextProvider}.
@@ -96,20 +102,67 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 		this.queryParameterBindings = new ArrayList<ParameterBinding>();
 		this.query = BINDING_PARSER.parseAndCollectParameterBindingsFromQueryIntoBindings(query,
 				this.queryParameterBindings);
+		this.parameterizedQuery = ParameterBinder.INSTANCE.bindMarkers(this.query);
+		this.readQuery = this.query.trim().regionMatches(true, 0, "SELECT", 0, 6);
 		this.parameterBinder = new ExpressionEvaluatingParameterBinder(expressionParser, evaluationContextProvider);
 		this.codecRegistry = operations.getSession().getCluster().getConfiguration().getCodecRegistry();
 	}
 
+	/**
+	 * String queries are read queries if they are {@code SELECT} statements.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#isReadQuery()
+	 */
+	@Override
+	protected boolean isReadQuery() {
+		return readQuery;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
 	 */
 	@Override
 	public String createQuery(CassandraParameterAccessor parameterAccessor) {
+		return createQuery(bindArguments(parameterAccessor));
+	}
+
+	/**
+	 * Creates a {@link Statement} by binding the evaluated parameter values to the prepared, parameterized query. Falls
+	 * back to a {@link SimpleStatement} with inlined values if arguments contain collections (which are expanded into
+	 * the query string) or cannot be bound to the bind variables.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createStatement(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	protected Statement createStatement(CassandraParameterAccessor parameterAccessor) {
+
+		List<Object> arguments = bindArguments(parameterAccessor);
+
+		if (ParameterBinder.isBindable(arguments)) {
+
+			Statement statement = bindPreparedStatement(parameterizedQuery, arguments);
+
+			if (statement != null) {
+				return statement;
+			}
+		}
+
+		return new SimpleStatement(createQuery(arguments));
+	}
+
+	private List<Object> bindArguments(CassandraParameterAccessor parameterAccessor) {
 
 		try {
-			List<Object> arguments = this.parameterBinder.bind(parameterAccessor,
+			return this.parameterBinder.bind(parameterAccessor,
 					new BindingContext(getQueryMethod(), queryParameterBindings));
+		} catch (RuntimeException e) {
+			throw QueryCreationException.create(getQueryMethod(), e);
+		}
+	}
+
+	private String createQuery(List<Object> arguments) {
 
+		try {
 			String boundQuery = bind(query, arguments);
 
 			if (LOG.isDebugEnabled()) {
@@ -138,6 +191,34 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 		private static final String ARGUMENT_PLACEHOLDER = "?_param_?";
 		private static final Pattern ARGUMENT_PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(ARGUMENT_PLACEHOLDER));
 
+		/**
+		 * Replace all argument placeholders in {@code input} with positional bind markers.
+		 *
+		 * @param input can be {@literal null} or empty.
+		 * @return the query with bind markers.
+		 */
+		public String bindMarkers(String input) {
+			return (StringUtils.hasText(input) ? input.replace(ARGUMENT_PLACEHOLDER, "?") : input);
+		}
+
+		/**
+		 * Return true if all {@code parameters} can be bound to positional bind markers. Collection and map arguments are
+		 * expanded into the query string and require literal rendering.
+		 *
+		 * @param parameters must not be {@literal null}.
+		 * @return true if the arguments can be bound to a prepared statement.
+		 */
+		static boolean isBindable(List<Object> parameters) {
+
+			for (Object parameter : parameters) {
+				if (parameter instanceof Collection || parameter instanceof Map || parameter instanceof BindMarker) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
 		public String bind(String input, CodecRegistry codecRegistry, List<Object> parameters) {
 
 			if (parameters.isEmpty()) {
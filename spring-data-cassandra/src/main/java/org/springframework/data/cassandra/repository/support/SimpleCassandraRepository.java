@@ -17,6 +17,7 @@ package org.springframework.data.cassandra.repository.support;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.cassandra.core.util.CollectionUtils;
 import org.springframework.data.cassandra.core.CassandraOperations;
@@ -24,7 +25,10 @@ import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.repository.TypedIdCassandraRepository;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
 
+import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 
 /**
@@ -113,4 +117,50 @@ public class SimpleCassandraRepository<T, ID extends Serializable> implements Ty
 	protected List<T> findAll(Select query) {
 		return operations.select(query, entityInformation.getJavaType());
 	}
+
+	/**
+	 * Retrieve an entity by its id asynchronously. Repository interfaces may declare
+	 * {@code CompletableFuture<T> findOneAsync(ID id)} to expose this method.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the entity or {@literal null} if none found.
+	 * @since 1.6
+	 */
+	public CompletableFuture<T> findOneAsync(ID id) {
+		return toCompletableFuture(operations.selectOneByIdAsynchronously(entityInformation.getJavaType(), id));
+	}
+
+	/**
+	 * Retrieve all entities asynchronously. Repository interfaces may declare
+	 * {@code CompletableFuture<List<T>> findAllAsync()} to expose this method.
+	 *
+	 * @return a {@link CompletableFuture} completed with all entities.
+	 * @since 1.6
+	 */
+	public CompletableFuture<List<T>> findAllAsync() {
+
+		Select select = QueryBuilder.select().all().from(entityInformation.getTableName().toCql());
+
+		return toCompletableFuture(operations.selectAsynchronously(select, entityInformation.getJavaType()));
+	}
+
+	private static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> future) {
+
+		final CompletableFuture<T> completableFuture = new CompletableFuture<T>();
+
+		future.addCallback(new ListenableFutureCallback<T>() {
+
+			@Override
+			public void onSuccess(T result) {
+				completableFuture.complete(result);
+			}
+
+			@Override
+			public void onFailure(Throwable e) {
+				completableFuture.completeExceptionally(e);
+			}
+		});
+
+		return completableFuture;
+	}
 }
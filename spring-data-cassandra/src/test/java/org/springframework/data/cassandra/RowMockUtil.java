@@ -19,11 +19,15 @@ import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.springframework.util.Assert;
 
 import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnDefinitions.Definition;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
 
@@ -47,8 +51,20 @@ public class RowMockUtil {
 
 		Row rowMock = mock(Row.class);
 		ColumnDefinitions columnDefinitionsMock = mock(ColumnDefinitions.class);
+		List<Definition> definitions = new ArrayList<Definition>(columns.length);
+
+		for (Column column : columns) {
+
+			Definition definition = mock(Definition.class);
+
+			when(definition.getName()).thenReturn(column.name);
+			when(definition.getType()).thenReturn(column.type);
+
+			definitions.add(definition);
+		}
 
 		when(rowMock.getColumnDefinitions()).thenReturn(columnDefinitionsMock);
+		when(columnDefinitionsMock.asList()).thenReturn(definitions);
 
 		when(columnDefinitionsMock.contains(anyString())).thenAnswer(new Answer<Boolean>() {
 			@Override
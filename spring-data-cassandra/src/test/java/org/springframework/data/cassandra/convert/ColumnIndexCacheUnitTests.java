@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.cassandra.RowMockUtil.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.RowMockUtil;
+import org.springframework.data.cassandra.convert.ColumnIndexCache.PropertyIndexes;
+import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.mapping.Table;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+/**
+ * Unit tests for {@link ColumnIndexCache}.
+ *
+ * @author Mark Paluch
+ */
+public class ColumnIndexCacheUnitTests {
+
+	ColumnIndexCache cache = new ColumnIndexCache();
+
+	CassandraPersistentEntity<?> entity = new BasicCassandraMappingContext().getPersistentEntity(Person.class);
+	CassandraPersistentProperty id = entity.getPersistentProperty("id");
+	CassandraPersistentProperty name = entity.getPersistentProperty("name");
+
+	@Test
+	public void shouldResolveIndexesOncePerColumnDefinitions() {
+
+		Row row = RowMockUtil.newRowMock(column("name", "Walter", DataType.varchar()));
+		ColumnDefinitions columnDefinitions = row.getColumnDefinitions();
+
+		PropertyIndexes propertyIndexes = cache.createPropertyIndexes(Arrays.asList(id, name));
+
+		int[] indexes = propertyIndexes.getIndexes(columnDefinitions);
+
+		assertThat(indexes[propertyIndexes.ordinalOf(id)]).isEqualTo(-1);
+		assertThat(indexes[propertyIndexes.ordinalOf(name)]).isEqualTo(0);
+		assertThat(propertyIndexes.getIndexes(columnDefinitions)).isSameAs(indexes);
+
+		verify(columnDefinitions, times(1)).asList();
+		verify(columnDefinitions, never()).getIndexOf(anyString());
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitRate()).isEqualTo(0.5);
+	}
+
+	@Test
+	public void shouldResolveIndexesPerColumnDefinitionsInstance() {
+
+		ColumnDefinitions first = newRowMock(column("id", "my-id", DataType.ascii())).getColumnDefinitions();
+		ColumnDefinitions second = newRowMock(column("name", "Walter", DataType.varchar()),
+				column("id", "my-id", DataType.ascii())).getColumnDefinitions();
+
+		PropertyIndexes propertyIndexes = cache.createPropertyIndexes(Arrays.asList(id, name));
+		int ordinal = propertyIndexes.ordinalOf(id);
+
+		assertThat(propertyIndexes.getIndexes(first)[ordinal]).isEqualTo(0);
+		assertThat(propertyIndexes.getIndexes(second)[ordinal]).isEqualTo(1);
+		assertThat(propertyIndexes.getIndexes(first)[ordinal]).isEqualTo(0);
+
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldReportUnknownProperties() {
+
+		PropertyIndexes propertyIndexes = cache.createPropertyIndexes(Arrays.asList(id));
+
+		assertThat(propertyIndexes.ordinalOf(id)).isEqualTo(0);
+		assertThat(propertyIndexes.ordinalOf(name)).isEqualTo(-1);
+	}
+
+	@Test
+	public void columnReaderShouldUseColumnIndex() {
+
+		Row row = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()));
+
+		ColumnReader reader = new ColumnReader(row, cache);
+
+		assertThat(reader.contains("id")).isTrue();
+		assertThat(reader.get("id")).isEqualTo("my-id");
+		assertThat(reader.contains("name")).isFalse();
+
+		verify(row.getColumnDefinitions(), never()).contains(anyString());
+		verify(row.getColumnDefinitions(), never()).getIndexOf(anyString());
+	}
+
+	@Table
+	static class Person {
+
+		@Id String id;
+		String name;
+	}
+}
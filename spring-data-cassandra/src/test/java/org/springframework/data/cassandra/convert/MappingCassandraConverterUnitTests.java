@@ -28,12 +28,15 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -61,7 +64,10 @@ import org.springframework.data.cassandra.domain.TypeWithMapId;
 import org.springframework.data.cassandra.domain.UserToken;
 import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.mapping.CassandraType;
+import org.springframework.data.cassandra.mapping.Lazy;
+import org.springframework.data.cassandra.mapping.NullValueHandling;
 import org.springframework.data.cassandra.mapping.PrimaryKey;
 import org.springframework.data.cassandra.mapping.PrimaryKeyClass;
 import org.springframework.data.cassandra.mapping.PrimaryKeyColumn;
@@ -484,6 +490,75 @@ public class MappingCassandraConverterUnitTests {
 		assertThat(result.localDate.getDayOfMonth()).isEqualTo(4);
 	}
 
+	@Test
+	public void compiledReaderShouldReadConstructorArguments() {
+
+		mappingCassandraConverter.setUseCompiledEntityReaders(true);
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()),
+				column("localDate", LocalDate.fromYearMonthDay(2010, 7, 4), DataType.date()));
+
+		TypeWithLocalDateMappedToDate result = mappingCassandraConverter.readRow(TypeWithLocalDateMappedToDate.class,
+				rowMock);
+
+		assertThat(result.id).isEqualTo("my-id");
+		assertThat(result.localDate).isEqualTo(java.time.LocalDate.of(2010, 7, 4));
+	}
+
+	@Test
+	public void shouldResolveColumnIndexesOncePerColumnDefinitions() {
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()));
+
+		TypeWithLocalDate first = mappingCassandraConverter.readRow(TypeWithLocalDate.class, rowMock);
+		TypeWithLocalDate second = mappingCassandraConverter.readRow(TypeWithLocalDate.class, rowMock);
+
+		assertThat(first.id).isEqualTo("my-id");
+		assertThat(first.localDate).isNull();
+		assertThat(second.id).isEqualTo("my-id");
+
+		verify(rowMock.getColumnDefinitions(), times(1)).asList();
+		verify(rowMock.getColumnDefinitions(), never()).getIndexOf(anyString());
+		assertThat(mappingCassandraConverter.getColumnIndexCache().getMissCount()).isEqualTo(1);
+		assertThat(mappingCassandraConverter.getColumnIndexCache().getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void compiledReaderShouldResolveColumnIndexesOncePerColumnDefinitions() {
+
+		mappingCassandraConverter.setUseCompiledEntityReaders(true);
+
+		LocalDateTime now = LocalDateTime.now();
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()),
+				column("localDateTime", Date.from(now.toInstant(ZoneOffset.UTC)), DataType.timestamp()));
+
+		TypeWithLocalDate first = mappingCassandraConverter.readRow(TypeWithLocalDate.class, rowMock);
+		TypeWithLocalDate second = mappingCassandraConverter.readRow(TypeWithLocalDate.class, rowMock);
+
+		assertThat(first.id).isEqualTo("my-id");
+		assertThat(first.localDateTime.getMinute()).isEqualTo(now.getMinute());
+		assertThat(first.localDate).isNull();
+		assertThat(second.localDateTime).isEqualTo(first.localDateTime);
+
+		verify(rowMock.getColumnDefinitions(), times(1)).asList();
+		verify(rowMock.getColumnDefinitions(), never()).getIndexOf(anyString());
+		assertThat(mappingCassandraConverter.getColumnIndexCache().getMissCount()).isEqualTo(1);
+		assertThat(mappingCassandraConverter.getColumnIndexCache().getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void compiledReaderShouldFallBackForCompositePrimaryKeys() {
+
+		mappingCassandraConverter.setUseCompiledEntityReaders(true);
+
+		Row rowMock = RowMockUtil.newRowMock(column("condition", "MINT", DataType.varchar()));
+
+		CompositeKeyThing result = mappingCassandraConverter.readRow(CompositeKeyThing.class, rowMock);
+
+		assertThat(result.getKey().getCondition()).isEqualTo(Condition.MINT);
+	}
+
 	@Test // DATACASS-296, DATACASS-400
 	public void shouldCreateInsertWithLocalDateUsingCassandraDateCorrectly() {
 
@@ -839,6 +914,309 @@ public class MappingCassandraConverterUnitTests {
 				mappingContext.getPersistentEntity(TypeWithMapId.class));
 	}
 
+	@Test
+	public void insertShouldWriteNullValuesByDefault() {
+
+		WithEnumColumns withEnumColumns = new WithEnumColumns();
+		withEnumColumns.setId("42");
+
+		Insert insert = QueryBuilder.insertInto("table");
+
+		mappingCassandraConverter.write(withEnumColumns, insert);
+
+		assertThat(getValues(insert)).hasSize(2).containsNull();
+	}
+
+	@Test
+	public void insertShouldSkipNullValues() {
+
+		mappingCassandraConverter.setSkipNullValues(true);
+
+		WithEnumColumns withEnumColumns = new WithEnumColumns();
+		withEnumColumns.setId("42");
+
+		Insert insert = QueryBuilder.insertInto("table");
+
+		mappingCassandraConverter.write(withEnumColumns, insert);
+
+		assertThat(getValues(insert)).containsOnly("42");
+		assertThat(mappingCassandraConverter.getSkippedNullValueCount(WithEnumColumns.class)).isEqualTo(1);
+	}
+
+	@Test
+	public void updateShouldSkipNullValuesConfiguredOnTable() {
+
+		WithSkippedNullValues entity = new WithSkippedNullValues();
+		entity.id = "42";
+		entity.firstname = "Walter";
+
+		Update update = QueryBuilder.update("table");
+
+		mappingCassandraConverter.write(entity, update);
+
+		assertThat(getAssignments(update)).containsOnlyKeys("firstname");
+		assertThat(getWherePredicates(update)).containsEntry("id", "42");
+		assertThat(mappingCassandraConverter.getSkippedNullValueCounts()).containsEntry(WithSkippedNullValues.class, 1L);
+	}
+
+	@Test
+	public void shouldDetectUpdateWithoutAssignments() {
+
+		WithSkippedNullValues entity = new WithSkippedNullValues();
+		entity.id = "42";
+
+		CassandraPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(WithSkippedNullValues.class);
+
+		assertThat(mappingCassandraConverter.isUpdateWithoutAssignments(entity, persistentEntity)).isTrue();
+
+		entity.lastname = "White";
+
+		assertThat(mappingCassandraConverter.isUpdateWithoutAssignments(entity, persistentEntity)).isFalse();
+	}
+
+	@Test
+	public void shouldRemoveSkippedNullValuesFromColumnValues() {
+
+		mappingCassandraConverter.setSkipNullValues(true);
+
+		Map<String, Object> values = new LinkedHashMap<String, Object>();
+		values.put("id", null);
+		values.put("condition", null);
+
+		Set<String> removed = mappingCassandraConverter.removeSkippedNullValues(values,
+				mappingContext.getPersistentEntity(WithEnumColumns.class));
+
+		assertThat(removed).containsOnly("condition");
+		assertThat(values).containsOnlyKeys("id");
+	}
+
+	@Test
+	public void shouldReadLazyCollectionsOnFirstAccess() {
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "42", DataType.ascii()),
+				column("list", Arrays.asList("a", "b"), DataType.list(DataType.ascii())),
+				column("map", Collections.singletonMap("k", "v"), DataType.map(DataType.ascii(), DataType.ascii())));
+
+		WithLazyCollections entity = mappingCassandraConverter.readRow(WithLazyCollections.class, rowMock);
+
+		assertThat(LazyLoadingCollection.isUnresolved(entity.list)).isTrue();
+		assertThat(LazyLoadingCollection.isUnresolved(entity.map)).isTrue();
+
+		assertThat(entity.list).containsExactly("a", "b");
+
+		assertThat(LazyLoadingCollection.isUnresolved(entity.list)).isFalse();
+		assertThat(LazyLoadingCollection.isUnresolved(entity.map)).isTrue();
+		assertThat(entity.map).containsEntry("k", "v");
+	}
+
+	@Test
+	public void shouldReadNullLazyCollectionsAsNull() {
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "42", DataType.ascii()),
+				column("list", null, DataType.list(DataType.ascii())),
+				column("map", Collections.singletonMap("k", "v"), DataType.map(DataType.ascii(), DataType.ascii())));
+		when(rowMock.isNull("list")).thenReturn(true);
+
+		WithLazyCollections entity = mappingCassandraConverter.readRow(WithLazyCollections.class, rowMock);
+
+		assertThat(entity.list).isNull();
+		assertThat(LazyLoadingCollection.isUnresolved(entity.map)).isTrue();
+	}
+
+	@Test
+	public void compiledReaderShouldReadLazyCollectionsOnFirstAccess() {
+
+		mappingCassandraConverter.setUseCompiledEntityReaders(true);
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "42", DataType.ascii()),
+				column("list", Arrays.asList("a", "b"), DataType.list(DataType.ascii())));
+
+		WithLazyCollections entity = mappingCassandraConverter.readRow(WithLazyCollections.class, rowMock);
+
+		assertThat(LazyLoadingCollection.isUnresolved(entity.list)).isTrue();
+		assertThat(entity.list).hasSize(2).isEqualTo(Arrays.asList("a", "b"));
+	}
+
+	@Test
+	public void readRowShouldSnapshotEntitiesIfChangeTrackingIsEnabled() {
+
+		mappingCassandraConverter.setUseChangeTracking(true);
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "42", DataType.ascii()),
+				column("name", "Walter", DataType.ascii()));
+
+		WithCollections entity = mappingCassandraConverter.readRow(WithCollections.class, rowMock);
+
+		assertThat(mappingCassandraConverter.isTracked(entity)).isTrue();
+		assertThat(mappingCassandraConverter.isTracked(new WithCollections())).isFalse();
+	}
+
+	@Test
+	public void writeChangesShouldWriteChangedColumnsOnly() {
+
+		WithCollections entity = new WithCollections();
+		entity.id = "42";
+		entity.name = "Walter";
+		entity.list = Arrays.asList("a");
+
+		mappingCassandraConverter.snapshot(entity);
+		entity.name = "Heisenberg";
+
+		Update update = QueryBuilder.update("table");
+
+		assertThat(mappingCassandraConverter.writeChanges(entity, update,
+				mappingContext.getPersistentEntity(WithCollections.class))).isTrue();
+		assertThat(getAssignments(update)).containsOnlyKeys("name").containsEntry("name", "Heisenberg");
+		assertThat(getWherePredicates(update)).containsEntry("id", "42");
+	}
+
+	@Test
+	public void writeChangesShouldNotWriteAssignmentsForUnchangedEntity() {
+
+		WithCollections entity = new WithCollections();
+		entity.id = "42";
+		entity.set = new HashSet<String>(Arrays.asList("a", "b"));
+
+		mappingCassandraConverter.snapshot(entity);
+
+		Update update = QueryBuilder.update("table");
+
+		assertThat(mappingCassandraConverter.writeChanges(entity, update,
+				mappingContext.getPersistentEntity(WithCollections.class))).isFalse();
+		assertThat(getAssignments(update)).isEmpty();
+	}
+
+	@Test
+	public void writeChangesShouldDetectChangesOfMutableValuesWithEqualHashCode() {
+
+		WithMutableValues entity = new WithMutableValues();
+		entity.id = "42";
+		entity.date = new Date(0);
+		entity.blob = ByteBuffer.wrap(new byte[] { 1, 2 });
+
+		mappingCassandraConverter.snapshot(entity);
+
+		// same hash code as new Date(0)
+		entity.date.setTime((1L << 32) | 1);
+		entity.blob.put(0, (byte) 3);
+
+		Update update = QueryBuilder.update("table");
+
+		assertThat(mappingCassandraConverter.writeChanges(entity, update,
+				mappingContext.getPersistentEntity(WithMutableValues.class))).isTrue();
+		assertThat(getAssignments(update)).containsOnlyKeys("date", "blob");
+	}
+
+	@Test
+	public void writeChangesShouldNotWriteUnchangedMutableValues() {
+
+		WithMutableValues entity = new WithMutableValues();
+		entity.id = "42";
+		entity.date = new Date(0);
+		entity.blob = ByteBuffer.wrap(new byte[] { 1, 2 });
+
+		mappingCassandraConverter.snapshot(entity);
+
+		Update update = QueryBuilder.update("table");
+
+		assertThat(mappingCassandraConverter.writeChanges(entity, update,
+				mappingContext.getPersistentEntity(WithMutableValues.class))).isFalse();
+	}
+
+	@Test
+	public void writeChangesShouldWriteCollectionDeltas() {
+
+		WithCollections entity = new WithCollections();
+		entity.id = "42";
+		entity.list = new ArrayList<String>(Arrays.asList("a"));
+		entity.set = new HashSet<String>(Arrays.asList("a", "b"));
+		entity.map = new LinkedHashMap<String, String>();
+		entity.map.put("a", "1");
+
+		mappingCassandraConverter.snapshot(entity);
+
+		entity.list.add("b");
+		entity.set.remove("b");
+		entity.map.put("b", "2");
+
+		Update update = QueryBuilder.update("table");
+
+		mappingCassandraConverter.writeChanges(entity, update, mappingContext.getPersistentEntity(WithCollections.class));
+
+		assertThat(update.toString()).contains("list=list+['b']").contains("set=set-{'b'}").contains("map=map+{'b':'2'}");
+	}
+
+	@Test
+	public void writeChangesShouldReplaceCollectionsThatCannotBeWrittenAsDelta() {
+
+		WithCollections entity = new WithCollections();
+		entity.id = "42";
+		entity.list = new ArrayList<String>(Arrays.asList("a", "b"));
+
+		mappingCassandraConverter.snapshot(entity);
+
+		entity.list.remove("a");
+
+		Update update = QueryBuilder.update("table");
+
+		mappingCassandraConverter.writeChanges(entity, update, mappingContext.getPersistentEntity(WithCollections.class));
+
+		assertThat(getAssignments(update)).containsOnlyKeys("list").containsEntry("list", Arrays.asList("b"));
+	}
+
+	@Test
+	public void snapshotShouldNotResolveLazyCollections() {
+
+		mappingCassandraConverter.setUseChangeTracking(true);
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "42", DataType.ascii()),
+				column("list", Arrays.asList("a", "b"), DataType.list(DataType.ascii())),
+				column("map", Collections.singletonMap("k", "v"), DataType.map(DataType.ascii(), DataType.ascii())));
+
+		WithLazyCollections entity = mappingCassandraConverter.readRow(WithLazyCollections.class, rowMock);
+
+		Update update = QueryBuilder.update("table");
+
+		assertThat(mappingCassandraConverter.writeChanges(entity, update,
+				mappingContext.getPersistentEntity(WithLazyCollections.class))).isFalse();
+		assertThat(LazyLoadingCollection.isUnresolved(entity.list)).isTrue();
+		assertThat(LazyLoadingCollection.isUnresolved(entity.map)).isTrue();
+	}
+
+	@Test
+	public void writeChangesShouldWriteDeltasOfResolvedLazyCollections() {
+
+		mappingCassandraConverter.setUseChangeTracking(true);
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "42", DataType.ascii()),
+				column("list", new ArrayList<String>(Arrays.asList("a", "b")), DataType.list(DataType.ascii())),
+				column("map", Collections.singletonMap("k", "v"), DataType.map(DataType.ascii(), DataType.ascii())));
+
+		WithLazyCollections entity = mappingCassandraConverter.readRow(WithLazyCollections.class, rowMock);
+		entity.list.add("c");
+
+		Update update = QueryBuilder.update("table");
+
+		assertThat(mappingCassandraConverter.writeChanges(entity, update,
+				mappingContext.getPersistentEntity(WithLazyCollections.class))).isTrue();
+		assertThat(update.toString()).contains("list=list+['c']").doesNotContain("map");
+		assertThat(LazyLoadingCollection.isUnresolved(entity.map)).isTrue();
+	}
+
+	@Test
+	public void writeChangesShouldWriteAllColumnsWithoutSnapshot() {
+
+		WithCollections entity = new WithCollections();
+		entity.id = "42";
+		entity.name = "Walter";
+
+		Update update = QueryBuilder.update("table");
+
+		assertThat(mappingCassandraConverter.writeChanges(entity, update,
+				mappingContext.getPersistentEntity(WithCollections.class))).isTrue();
+		assertThat(getAssignments(update)).containsOnlyKeys("name", "list", "set", "map");
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> List<T> getListValue(Insert statement) {
 		List<Object> values = getValues(statement);
@@ -970,6 +1348,44 @@ public class MappingCassandraConverterUnitTests {
 		}
 	}
 
+	@Table(nullValues = NullValueHandling.SKIP)
+	static class WithSkippedNullValues {
+
+		@PrimaryKey String id;
+
+		String firstname;
+		String lastname;
+	}
+
+	@Table
+	static class WithCollections {
+
+		@PrimaryKey String id;
+
+		String name;
+		List<String> list;
+		Set<String> set;
+		Map<String, String> map;
+	}
+
+	@Table
+	static class WithMutableValues {
+
+		@PrimaryKey String id;
+
+		Date date;
+		ByteBuffer blob;
+	}
+
+	@Table
+	static class WithLazyCollections {
+
+		@PrimaryKey String id;
+
+		@Lazy List<String> list;
+		@Lazy Map<String, String> map;
+	}
+
 	@PrimaryKeyClass
 	public static class EnumCompositePrimaryKey implements Serializable {
 
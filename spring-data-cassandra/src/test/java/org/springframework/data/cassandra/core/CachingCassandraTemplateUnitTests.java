@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.cassandra.RowMockUtil.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.data.cassandra.test.integration.simpletons.Book;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Select;
+
+/**
+ * Unit tests for {@link CachingCassandraTemplate}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CachingCassandraTemplateUnitTests {
+
+	@Mock Session session;
+	@Mock ResultSet resultSet;
+
+	Row row = newRowMock(column("isbn", "1", DataType.varchar()), column("title", "Spring", DataType.varchar()));
+
+	List<Row> rows = Collections.singletonList(row);
+
+	CachingCassandraTemplate template;
+
+	@Before
+	public void setUp() {
+
+		template = new CachingCassandraTemplate(session);
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenAnswer(new Answer<Iterator<Row>>() {
+
+			@Override
+			public Iterator<Row> answer(InvocationOnMock invocation) {
+				return rows.iterator();
+			}
+		});
+		when(resultSet.all()).thenAnswer(new Answer<List<Row>>() {
+
+			@Override
+			public List<Row> answer(InvocationOnMock invocation) {
+				return rows;
+			}
+		});
+	}
+
+	@Test
+	public void selectOneByIdShouldServeRepeatedReadsFromCache() {
+
+		Book first = template.selectOneById(Book.class, "1");
+		Book second = template.selectOneById(Book.class, "1");
+
+		assertThat(first.getTitle()).isEqualTo("Spring");
+		assertThat(second).isNotSameAs(first).isEqualTo(first);
+
+		verify(session, times(1)).execute(isA(Select.class));
+
+		NearCacheStatistics statistics = template.getNearCacheStatistics(Book.class);
+
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getHitRatio()).isEqualTo(0.5);
+		assertThat(statistics.getSize()).isEqualTo(1);
+	}
+
+	@Test
+	public void updateShouldInvalidateCachedRow() {
+
+		Book book = template.selectOneById(Book.class, "1");
+
+		template.update(book);
+		template.selectOneById(Book.class, "1");
+
+		verify(session, times(2)).execute(isA(Select.class));
+		assertThat(template.getNearCacheStatistics(Book.class).getHitCount()).isZero();
+	}
+
+	@Test
+	public void deleteByIdShouldInvalidateCachedRow() {
+
+		template.selectOneById(Book.class, "1");
+		template.deleteById(Book.class, "1");
+
+		assertThat(template.getNearCacheStatistics(Book.class).getSize()).isZero();
+	}
+
+	@Test
+	public void selectBySimpleIdsShouldReadOnlyMissingIds() {
+
+		template.selectOneById(Book.class, "1");
+
+		List<Book> books = template.selectBySimpleIds(Book.class, Arrays.asList("1", "1"));
+
+		assertThat(books).extracting("isbn").containsExactly("1");
+		verify(session, times(1)).execute(isA(Select.class));
+	}
+
+	@Test
+	public void selectBySimpleIdsShouldReturnResultsInIdOrder() {
+
+		template.selectOneById(Book.class, "1");
+
+		rows = Collections.singletonList(
+				newRowMock(column("isbn", "2", DataType.varchar()), column("title", "Data", DataType.varchar())));
+
+		List<Book> books = template.selectBySimpleIds(Book.class, Arrays.asList("2", "1"));
+
+		assertThat(books).extracting("isbn").containsExactly("2", "1");
+	}
+
+	@Test
+	public void readsWithQueryOptionsShouldBypassCache() {
+
+		template.selectOneById(Book.class, "1");
+		template.selectOneById(Book.class, "1", new QueryOptions());
+
+		verify(session, times(2)).execute(isA(Select.class));
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.springframework.util.SerializationUtils;
+
+import com.datastax.driver.core.PagingState;
+
+/**
+ * Unit tests for {@link CassandraPageRequest}.
+ *
+ * @author Mark Paluch
+ */
+public class CassandraPageRequestUnitTests {
+
+	PagingState pagingState = mock(PagingState.class);
+
+	@Test
+	public void shouldRetainPagingStateWhenSerialized() {
+
+		when(pagingState.toString()).thenReturn("001000");
+
+		CassandraPageRequest pageRequest = CassandraPageRequest.of(CassandraPageRequest.first(10), pagingState);
+
+		CassandraPageRequest deserialized = (CassandraPageRequest) SerializationUtils
+				.deserialize(SerializationUtils.serialize(pageRequest));
+
+		assertThat(deserialized.hasNext()).isTrue();
+		assertThat(deserialized).isEqualTo(pageRequest);
+	}
+
+	@Test
+	public void previousOrFirstShouldReturnFirstPage() {
+
+		CassandraPageRequest pageRequest = (CassandraPageRequest) CassandraPageRequest
+				.of(CassandraPageRequest.first(10), pagingState).next();
+
+		assertThat(pageRequest.previousOrFirst()).isEqualTo(CassandraPageRequest.first(10));
+	}
+}
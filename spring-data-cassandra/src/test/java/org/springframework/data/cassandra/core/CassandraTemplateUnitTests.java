@@ -18,26 +18,53 @@ package org.springframework.data.cassandra.core;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.data.cassandra.RowMockUtil.*;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.mapping.NullValueHandling;
+import org.springframework.data.cassandra.mapping.PrimaryKey;
+import org.springframework.data.cassandra.mapping.Table;
 import org.springframework.data.cassandra.test.integration.simpletons.Book;
-
+import org.springframework.data.domain.Slice;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Batch;
+import com.datastax.driver.core.querybuilder.BuiltStatement;
+import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.Select;
+import com.datastax.driver.core.querybuilder.Update;
 
 /**
  * Test suite of test cases testing the contract and functionality of the {@link CassandraTemplate} class.
@@ -157,4 +184,323 @@ public class CassandraTemplateUnitTests {
 
 		verify(mockSession).execute(Mockito.any(Batch.class));
 	}
+
+	@Test
+	public void insertShouldBindPreparedStatement() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(preparedStatement);
+		when(preparedStatement.bind(Matchers.<Object> anyVararg())).thenReturn(boundStatement);
+
+		template.setUsePreparedStatements(true);
+
+		Book book = new Book("isbn");
+		book.setTitle("title");
+
+		template.insert(book);
+
+		ArgumentCaptor<String> cql = ArgumentCaptor.forClass(String.class);
+		verify(mockSession).prepare(cql.capture());
+		verify(mockSession).execute(boundStatement);
+
+		assertThat(cql.getValue()).startsWith("INSERT INTO book").contains("title").contains("?").doesNotContain("'title'");
+	}
+
+	@Test
+	public void updateShouldBindTtlBeforeAssignments() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(preparedStatement);
+		when(preparedStatement.bind(Matchers.<Object> anyVararg())).thenReturn(boundStatement);
+
+		template.setUsePreparedStatements(true);
+
+		Book book = new Book("isbn");
+		book.setTitle("title");
+
+		template.update(book, WriteOptions.builder().ttl(42).build());
+
+		ArgumentCaptor<String> cql = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<Object> values = ArgumentCaptor.forClass(Object.class);
+
+		verify(mockSession).prepare(cql.capture());
+		verify(preparedStatement).bind(values.capture());
+
+		assertThat(cql.getValue()).startsWith("UPDATE book USING TTL ? SET").endsWith("WHERE isbn=?;");
+		assertThat(values.getAllValues().get(0)).isEqualTo(42);
+		assertThat(values.getAllValues()).endsWith("isbn");
+	}
+
+	@Test
+	public void streamShouldPrefetchNextPage() {
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+		CassandraConverter mockCassandraConverter = mock(CassandraConverter.class);
+		Row mockRowOne = mockRow("MockRowOne");
+		Row mockRowTwo = mockRow("MockRowTwo");
+
+		when(mockSession.execute(Mockito.any(Statement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.iterator()).thenReturn(iterator(mockRowOne, mockRowTwo));
+		when(mockResultSet.getAvailableWithoutFetching()).thenReturn(2, 1, 0);
+		when(mockResultSet.isFullyFetched()).thenReturn(false);
+		when(mockResultSet.fetchMoreResults()).thenReturn(mock(ResultSetFuture.class));
+		when(mockCassandraConverter.read(eq(String.class), Mockito.any(Row.class))).thenReturn("one", "two");
+
+		CassandraTemplate template = new CassandraTemplate(mockSession, mockCassandraConverter);
+		template.setStreamPrefetchThreshold(1);
+
+		Iterator<String> iterator = template.stream(mock(Statement.class), String.class);
+
+		assertThat(iterator.hasNext()).isTrue();
+		verify(mockResultSet, never()).fetchMoreResults();
+
+		assertThat(iterator.next()).isEqualTo("one");
+		verify(mockResultSet, times(1)).fetchMoreResults();
+	}
+
+	@Test
+	public void closedStreamShouldStopFetching() {
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+		ResultSetFuture mockFuture = mock(ResultSetFuture.class);
+		CassandraConverter mockCassandraConverter = mock(CassandraConverter.class);
+
+		when(mockSession.execute(Mockito.any(Statement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.iterator()).thenReturn(iterator(mockRow("MockRowOne"), mockRow("MockRowTwo")));
+		when(mockResultSet.getAvailableWithoutFetching()).thenReturn(1);
+		when(mockResultSet.isFullyFetched()).thenReturn(false);
+		when(mockResultSet.fetchMoreResults()).thenReturn(mockFuture);
+
+		CassandraTemplate template = new CassandraTemplate(mockSession, mockCassandraConverter);
+		template.setStreamPrefetchThreshold(1);
+
+		CloseableIterator<Integer> iterator = template.stream(mock(Statement.class), Integer.class);
+
+		assertThat(iterator.hasNext()).isTrue();
+
+		iterator.close();
+
+		assertThat(iterator.hasNext()).isFalse();
+		verify(mockFuture).cancel(false);
+		verify(mockResultSet, times(1)).fetchMoreResults();
+	}
+
+	@Test
+	public void streamShouldNotPrefetchByDefault() {
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+
+		when(mockSession.execute(Mockito.any(Statement.class))).thenReturn(mockResultSet);
+		when(mockResultSet.iterator()).thenReturn(iterator(mockRow("MockRowOne")));
+
+		Iterator<Integer> iterator = template.stream(mock(Statement.class), Integer.class);
+
+		assertThat(iterator.hasNext()).isTrue();
+		verify(mockResultSet, never()).fetchMoreResults();
+		verify(mockResultSet, never()).getAvailableWithoutFetching();
+	}
+
+	@Test
+	public void sliceShouldReadCurrentPageOnly() {
+
+		ResultSet mockResultSet = mock(ResultSet.class);
+		ExecutionInfo mockExecutionInfo = mock(ExecutionInfo.class);
+		PagingState mockPagingState = mock(PagingState.class);
+		CassandraConverter mockCassandraConverter = mock(CassandraConverter.class);
+		Statement statement = new SimpleStatement("SELECT * FROM Test").setFetchSize(2);
+
+		when(mockSession.execute(statement)).thenReturn(mockResultSet);
+		when(mockResultSet.getAvailableWithoutFetching()).thenReturn(2);
+		when(mockResultSet.one()).thenReturn(mockRow("MockRowOne"), mockRow("MockRowTwo"));
+		when(mockResultSet.getExecutionInfo()).thenReturn(mockExecutionInfo);
+		when(mockExecutionInfo.getPagingState()).thenReturn(mockPagingState);
+		when(mockCassandraConverter.read(eq(String.class), Mockito.any(Row.class))).thenReturn("one", "two");
+
+		CassandraTemplate template = new CassandraTemplate(mockSession, mockCassandraConverter);
+
+		Slice<String> slice = template.slice(statement, String.class);
+
+		assertThat(slice.getContent()).containsExactly("one", "two");
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(slice.getPageable()).isInstanceOf(CassandraPageRequest.class);
+		assertThat(((CassandraPageRequest) slice.getPageable()).getPagingState()).isSameAs(mockPagingState);
+		assertThat(slice.getSize()).isEqualTo(2);
+
+		verify(mockResultSet, times(2)).one();
+		verify(mockResultSet, never()).iterator();
+	}
+
+	@Test
+	public void multiGetShouldReadIdsConcurrentlyInInputOrder() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(preparedStatement);
+
+		mockSingleKeyRead(preparedStatement, "1", newRowMock(column("isbn", "1", DataType.varchar())));
+		mockSingleKeyRead(preparedStatement, "2", newRowMock(column("isbn", "2", DataType.varchar())));
+		mockSingleKeyRead(preparedStatement, "3", null);
+
+		MultiGetResult<Book> result = template.multiGet(Book.class, Arrays.asList("2", "1", "3", "1"));
+
+		assertThat(result.getResults()).extracting("isbn").containsExactly("2", "1");
+		assertThat(result.getMissingIds()).containsExactly("3");
+		assertThat(result.isComplete()).isFalse();
+
+		ArgumentCaptor<String> cql = ArgumentCaptor.forClass(String.class);
+		verify(mockSession).prepare(cql.capture());
+		verify(mockSession, times(3)).executeAsync(Mockito.any(Statement.class));
+
+		assertThat(cql.getValue()).isEqualTo("SELECT * FROM book WHERE isbn = ?");
+	}
+
+	@Test
+	public void selectBySimpleIdsShouldUseMultiGetIfEnabled() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(preparedStatement);
+
+		mockSingleKeyRead(preparedStatement, "1", newRowMock(column("isbn", "1", DataType.varchar())));
+
+		template.setMultiGetMaxInFlight(1);
+
+		List<Book> books = template.selectBySimpleIds(Book.class, Collections.singletonList("1"));
+
+		assertThat(books).extracting("isbn").containsExactly("1");
+		verify(mockSession, never()).execute(Mockito.any(Statement.class));
+	}
+
+	@Test
+	public void selectAsynchronouslyShouldReadAllPagesWithoutBlocking() throws Exception {
+
+		ResultSetFuture firstPageFuture = mock(ResultSetFuture.class);
+		ResultSetFuture secondPageFuture = mock(ResultSetFuture.class);
+		ResultSet firstPage = mock(ResultSet.class);
+		ResultSet secondPage = mock(ResultSet.class);
+		CassandraConverter mockCassandraConverter = mock(CassandraConverter.class);
+		Statement statement = new SimpleStatement("SELECT * FROM Test");
+
+		when(mockSession.executeAsync(statement)).thenReturn(firstPageFuture);
+		mockCompletedFuture(firstPageFuture, firstPage);
+		mockCompletedFuture(secondPageFuture, secondPage);
+
+		when(firstPage.getAvailableWithoutFetching()).thenReturn(1);
+		when(firstPage.one()).thenReturn(mockRow("MockRowOne"));
+		when(firstPage.isFullyFetched()).thenReturn(false);
+		when(firstPage.fetchMoreResults()).thenReturn(secondPageFuture);
+
+		when(secondPage.getAvailableWithoutFetching()).thenReturn(1);
+		when(secondPage.one()).thenReturn(mockRow("MockRowTwo"));
+		when(secondPage.isFullyFetched()).thenReturn(true);
+
+		when(mockCassandraConverter.read(eq(String.class), Mockito.any(Row.class))).thenReturn("one", "two");
+
+		CassandraTemplate template = new CassandraTemplate(mockSession, mockCassandraConverter);
+
+		ListenableFuture<List<String>> future = template.selectAsynchronously(statement, String.class);
+
+		assertThat(future.isDone()).isTrue();
+		assertThat(future.get()).containsExactly("one", "two");
+
+		verify(mockSession, never()).execute(Mockito.any(Statement.class));
+		verify(firstPage, never()).iterator();
+	}
+
+	@Test
+	public void selectOneAsynchronouslyShouldFailOnMultipleResults() throws Exception {
+
+		ResultSetFuture resultSetFuture = mock(ResultSetFuture.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		CassandraConverter mockCassandraConverter = mock(CassandraConverter.class);
+		Statement statement = new SimpleStatement("SELECT * FROM Test");
+
+		when(mockSession.executeAsync(statement)).thenReturn(resultSetFuture);
+		mockCompletedFuture(resultSetFuture, resultSet);
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(2);
+		when(resultSet.one()).thenReturn(mockRow("MockRowOne"), mockRow("MockRowTwo"));
+		when(resultSet.isFullyFetched()).thenReturn(true);
+
+		CassandraTemplate template = new CassandraTemplate(mockSession, mockCassandraConverter);
+
+		try {
+			template.selectOneAsynchronously(statement, String.class).get();
+			fail("Missing DuplicateKeyException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isInstanceOf(DuplicateKeyException.class);
+		}
+	}
+
+	@Test
+	public void updateShouldInsertPrimaryKeyIfAllColumnsAreSkipped() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		WithSkippedNullValues entity = new WithSkippedNullValues();
+		entity.id = "42";
+
+		BuiltStatement statement = CassandraTemplate.createUpdateStatement("person", entity, null, converter);
+
+		assertThat(statement).isInstanceOf(Insert.class);
+		assertThat(statement.toString()).isEqualTo("INSERT INTO person (id) VALUES ('42');");
+
+		entity.firstname = "Walter";
+
+		statement = CassandraTemplate.createUpdateStatement("person", entity, null, converter);
+
+		assertThat(statement).isInstanceOf(Update.class);
+		assertThat(statement.toString()).isEqualTo("UPDATE person SET firstname='Walter' WHERE id='42';");
+	}
+
+	private static void mockCompletedFuture(ResultSetFuture future, ResultSet resultSet) throws Exception {
+
+		when(future.get()).thenReturn(resultSet);
+		when(future.isDone()).thenReturn(true);
+
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+
+				((Runnable) invocation.getArguments()[0]).run();
+				return null;
+			}
+		}).when(future).addListener(Mockito.any(Runnable.class), Mockito.any(Executor.class));
+	}
+
+	private void mockSingleKeyRead(PreparedStatement preparedStatement, Object id, Row row) {
+
+		BoundStatement boundStatement = mock(BoundStatement.class);
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		ResultSet resultSet = mock(ResultSet.class);
+
+		when(preparedStatement.bind(id)).thenReturn(boundStatement);
+		when(mockSession.executeAsync(boundStatement)).thenReturn(future);
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+		when(resultSet.one()).thenReturn(row);
+
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+
+				((Runnable) invocation.getArguments()[0]).run();
+				return null;
+			}
+		}).when(future).addListener(Mockito.any(Runnable.class), Mockito.any(Executor.class));
+	}
+
+	@Table(nullValues = NullValueHandling.SKIP)
+	static class WithSkippedNullValues {
+
+		@PrimaryKey String id;
+
+		String firstname;
+	}
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.Row;
+import com.google.common.base.Ticker;
+
+/**
+ * Unit tests for {@link NearCache}.
+ *
+ * @author Mark Paluch
+ */
+public class NearCacheUnitTests {
+
+	Row row = mock(Row.class);
+
+	ManualTicker ticker = new ManualTicker();
+
+	@Test
+	public void shouldEvictLeastRecentlyUsedRow() {
+
+		NearCache nearCache = new NearCache(NearCacheOptions.builder().maximumSize(2).build(), ticker);
+
+		nearCache.put("a", row, nearCache.getGeneration());
+		nearCache.put("b", row, nearCache.getGeneration());
+		nearCache.get("a");
+		nearCache.put("c", row, nearCache.getGeneration());
+
+		assertThat(nearCache.get("a")).isSameAs(row);
+		assertThat(nearCache.get("b")).isNull();
+		assertThat(nearCache.get("c")).isSameAs(row);
+		assertThat(nearCache.getStatistics().getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldExpireRowsAfterTimeToLive() {
+
+		NearCache nearCache = new NearCache(NearCacheOptions.builder().timeToLive(1, TimeUnit.SECONDS).build(), ticker);
+
+		nearCache.put("a", row, nearCache.getGeneration());
+		ticker.advance(999, TimeUnit.MILLISECONDS);
+
+		assertThat(nearCache.get("a")).isSameAs(row);
+
+		ticker.advance(1, TimeUnit.MILLISECONDS);
+
+		assertThat(nearCache.get("a")).isNull();
+
+		NearCacheStatistics statistics = nearCache.getStatistics();
+
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getEvictionCount()).isEqualTo(1);
+		assertThat(statistics.getSize()).isZero();
+	}
+
+	@Test
+	public void shouldNotCacheRowsReadBeforeInvalidation() {
+
+		NearCache nearCache = new NearCache(NearCacheOptions.defaults(), ticker);
+
+		long generation = nearCache.getGeneration();
+		nearCache.invalidate("a");
+		nearCache.put("a", row, generation);
+
+		assertThat(nearCache.get("a")).isNull();
+	}
+
+	static class ManualTicker extends Ticker {
+
+		long nanos;
+
+		void advance(long duration, TimeUnit timeUnit) {
+			nanos += timeUnit.toNanos(duration);
+		}
+
+		@Override
+		public long read() {
+			return nanos;
+		}
+	}
+}
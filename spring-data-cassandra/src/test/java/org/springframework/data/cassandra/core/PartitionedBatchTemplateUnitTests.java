@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.support.exception.CassandraUncategorizedException;
+import org.springframework.data.cassandra.test.integration.simpletons.Book;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.core.querybuilder.Batch;
+
+/**
+ * Unit tests for {@link PartitionedBatchTemplate}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PartitionedBatchTemplateUnitTests {
+
+	@Mock Session session;
+	@Mock Cluster cluster;
+	@Mock Configuration configuration;
+	@Mock ProtocolOptions protocolOptions;
+	@Mock ResultSetFuture success;
+	@Mock ResultSetFuture failure;
+
+	CassandraTemplate template;
+
+	@Before
+	public void before() {
+
+		when(session.getCluster()).thenReturn(cluster);
+		when(cluster.getConfiguration()).thenReturn(configuration);
+		when(configuration.getProtocolOptions()).thenReturn(protocolOptions);
+		when(configuration.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT_INSTANCE);
+		when(protocolOptions.getProtocolVersion()).thenReturn(ProtocolVersion.V4);
+
+		Answer<Void> runListener = new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+
+				((Executor) invocation.getArguments()[1]).execute((Runnable) invocation.getArguments()[0]);
+				return null;
+			}
+		};
+
+		doAnswer(runListener).when(success).addListener(any(Runnable.class), any(Executor.class));
+		doAnswer(runListener).when(failure).addListener(any(Runnable.class), any(Executor.class));
+		when(failure.getUninterruptibly()).thenThrow(new DriverException("boom"));
+
+		template = new CassandraTemplate(session);
+	}
+
+	@Test
+	public void shouldGroupStatementsByPartitionKey() {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(success);
+
+		BatchResult result = template.partitionedBatchOps()
+				.insert(new Book("a"), new Book("b"), new Book("a")).execute();
+
+		assertThat(result.wasSuccessful()).isTrue();
+		assertThat(result.getBatchCount()).isEqualTo(2);
+		assertThat(result.getStatementCount()).isEqualTo(3);
+
+		List<Batch> batches = captureBatches(2);
+
+		assertThat(batches.get(0).toString()).startsWith("BEGIN UNLOGGED BATCH").contains("'a'").doesNotContain("'b'");
+		assertThat(batches.get(1).toString()).startsWith("BEGIN UNLOGGED BATCH").contains("'b'").doesNotContain("'a'");
+	}
+
+	@Test
+	public void shouldRouteBatchToPartition() {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(success);
+
+		template.partitionedBatchOps().update(new Book("a")).execute();
+
+		Batch batch = captureBatches(1).get(0);
+
+		assertThat(batch.getRoutingKey(ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE))
+				.isEqualTo(TypeCodec.varchar().serialize("a", ProtocolVersion.V4));
+	}
+
+	@Test
+	public void shouldSplitPartitionIntoBatchesOfMaximumSize() {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(success);
+
+		BatchResult result = template.partitionedBatchOps(2)
+				.delete(Arrays.asList(new Book("a"), new Book("a"), new Book("a"))).execute();
+
+		assertThat(result.getBatchCount()).isEqualTo(2);
+		assertThat(result.getStatementCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldCollectFailedBatches() {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(failure, success);
+
+		BatchResult result = template.partitionedBatchOps().insert(new Book("a"), new Book("b")).execute();
+
+		assertThat(result.wasSuccessful()).isFalse();
+		assertThat(result.getBatchCount()).isEqualTo(2);
+		assertThat(result.getFailures()).hasSize(1);
+		assertThat(result.getFailures().get(0)).isInstanceOf(CassandraUncategorizedException.class);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRejectSecondExecution() {
+
+		PartitionedBatchOperations batchOperations = template.partitionedBatchOps();
+
+		batchOperations.execute();
+		batchOperations.execute();
+	}
+
+	private List<Batch> captureBatches(int count) {
+
+		ArgumentCaptor<Batch> captor = ArgumentCaptor.forClass(Batch.class);
+		verify(session, times(count)).executeAsync(captor.capture());
+
+		return captor.getAllValues();
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SingleFlight}.
+ *
+ * @author Mark Paluch
+ */
+public class SingleFlightUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	SingleFlight<String, String> singleFlight = new SingleFlight<String, String>();
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void shouldMergeConcurrentExecutionsForSameKey() throws Exception {
+
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger invocations = new AtomicInteger();
+
+		Future<String> first = executor.submit(new Callable<String>() {
+
+			@Override
+			public String call() throws Exception {
+
+				return singleFlight.execute("key", new Callable<String>() {
+
+					@Override
+					public String call() throws Exception {
+
+						invocations.incrementAndGet();
+						started.countDown();
+						release.await();
+						return "value";
+					}
+				});
+			}
+		});
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Future<String> second = executor.submit(new Callable<String>() {
+
+			@Override
+			public String call() throws Exception {
+
+				return singleFlight.execute("key", new Callable<String>() {
+
+					@Override
+					public String call() throws Exception {
+						invocations.incrementAndGet();
+						return "other";
+					}
+				});
+			}
+		});
+
+		while (singleFlight.getCoalescedCount() == 0) {
+			Thread.sleep(1);
+		}
+
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(invocations.get()).isEqualTo(1);
+		assertThat(singleFlight.getExecutionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldNotCacheCompletedExecutions() {
+
+		assertThat(singleFlight.execute("key", new FixedValue("first"))).isEqualTo("first");
+		assertThat(singleFlight.execute("key", new FixedValue("second"))).isEqualTo("second");
+		assertThat(singleFlight.getExecutionCount()).isEqualTo(2);
+		assertThat(singleFlight.getCoalescedCount()).isZero();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRethrowRuntimeException() {
+
+		singleFlight.execute("key", new Callable<String>() {
+
+			@Override
+			public String call() {
+				throw new IllegalStateException();
+			}
+		});
+	}
+
+	static class FixedValue implements Callable<String> {
+
+		private final String value;
+
+		FixedValue(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public String call() {
+			return value;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.CassandraPageRequest;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SlicedExecution;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link CassandraQueryExecution}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CassandraQueryExecutionUnitTests {
+
+	@Mock CassandraOperations operations;
+	@Mock Statement statement;
+
+	@Test
+	public void slicedExecutionShouldReadFirstPageWithoutPageable() {
+
+		Slice<String> slice = new SliceImpl<String>(Collections.singletonList("Walter"), CassandraPageRequest.first(5000),
+				false);
+
+		when(operations.slice(statement, String.class)).thenReturn(slice);
+
+		Object result = new SlicedExecution(operations, null).execute(statement, String.class);
+
+		assertThat(result).isSameAs(slice);
+		verify(statement, never()).setFetchSize(anyInt());
+		verify(statement, never()).setPagingState(any(PagingState.class));
+	}
+
+	@Test
+	public void slicedExecutionShouldApplyPageSize() {
+
+		when(operations.slice(statement, String.class)).thenReturn(
+				new SliceImpl<String>(Collections.singletonList("Walter"), CassandraPageRequest.first(10), false));
+
+		Slice<?> result = (Slice<?>) new SlicedExecution(operations, new PageRequest(0, 10)).execute(statement,
+				String.class);
+
+		assertThat(result.getContent()).containsExactly("Walter");
+		verify(statement).setFetchSize(10);
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void slicedExecutionShouldRejectSkippingPages() {
+		new SlicedExecution(operations, new PageRequest(2, 10)).execute(statement, String.class);
+	}
+}
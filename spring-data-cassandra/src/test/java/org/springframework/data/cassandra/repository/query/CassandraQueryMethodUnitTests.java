@@ -19,16 +19,22 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.util.concurrent.ListenableFuture;
 
 /**
  * Unit tests for {@link CassandraQueryMethod}.
@@ -71,6 +77,39 @@ public class CassandraQueryMethodUnitTests {
 		assertThat(queryMethod.isCollectionQuery()).isTrue();
 	}
 
+	@Test
+	public void considersMethodAsSliceQuery() throws Exception {
+
+		CassandraQueryMethod queryMethod = queryMethod(SampleRepository.class, "sliced", Pageable.class);
+
+		assertThat(queryMethod.isSliceQuery()).isTrue();
+		assertThat(queryMethod.isCollectionQuery()).isFalse();
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void rejectsPageQuery() throws Exception {
+		queryMethod(SampleRepository.class, "paged", Pageable.class);
+	}
+
+	@Test
+	public void considersFutureReturningMethodsAsAsyncQuery() throws Exception {
+
+		CassandraQueryMethod single = queryMethod(SampleRepository.class, "findOneAsync");
+		CassandraQueryMethod collection = queryMethod(SampleRepository.class, "findAllAsync");
+
+		assertThat(single.isAsyncQuery()).isTrue();
+		assertThat(single.isCollectionQuery()).isFalse();
+		assertThat(collection.isAsyncQuery()).isTrue();
+		assertThat(collection.isCollectionQuery()).isTrue();
+		assertThat(collection.getEntityInformation().getJavaType()).isEqualTo(Person.class);
+		assertThat(queryMethod(SampleRepository.class, "method").isAsyncQuery()).isFalse();
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void rejectsAsyncSliceQuery() throws Exception {
+		queryMethod(SampleRepository.class, "slicedAsync", Pageable.class);
+	}
+
 	private CassandraQueryMethod queryMethod(Class<?> repository, String name, Class<?>... parameters) throws Exception {
 
 		Method method = repository.getMethod(name, parameters);
@@ -83,5 +122,15 @@ public class CassandraQueryMethodUnitTests {
 
 		List<Person> method();
 
+		Slice<Person> sliced(Pageable pageable);
+
+		Page<Person> paged(Pageable pageable);
+
+		CompletableFuture<Person> findOneAsync();
+
+		ListenableFuture<List<Person>> findAllAsync();
+
+		CompletableFuture<Slice<Person>> slicedAsync(Pageable pageable);
+
 	}
 }
@@ -28,8 +28,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.PreparedStatementCallback;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.data.cassandra.convert.CassandraConverter;
 import org.springframework.data.cassandra.convert.MappingCassandraConverter;
@@ -40,11 +42,15 @@ import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cassandra.test.integration.repository.querymethods.declared.Address;
 import org.springframework.data.cassandra.test.integration.repository.querymethods.declared.Person;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
 
@@ -149,6 +155,72 @@ public class PartTreeCassandraQueryUnitTests {
 		assertThat(query).isEqualTo("SELECT * FROM person WHERE mainaddress IN ({});");
 	}
 
+	@Test
+	public void shouldCreateBoundStatementForDerivedQuery() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(mockCassandraOperations.execute(anyString(), any(PreparedStatementCallback.class)))
+				.thenReturn(preparedStatement);
+		when(preparedStatement.bind(Matchers.<Object> anyVararg())).thenReturn(boundStatement);
+
+		Statement statement = deriveStatementFromMethod("findByFirstnameAndLastname",
+				new Class[] { String.class, String.class }, "foo", "bar");
+
+		assertThat(statement).isSameAs(boundStatement);
+		verify(mockCassandraOperations).execute(eq("SELECT * FROM person WHERE firstname=? AND lastname=?;"),
+				any(PreparedStatementCallback.class));
+		verify(preparedStatement).bind("foo", "bar");
+	}
+
+	@Test
+	public void shouldBindInValuesAsList() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(mockCassandraOperations.execute(anyString(), any(PreparedStatementCallback.class)))
+				.thenReturn(preparedStatement);
+		when(preparedStatement.bind(Matchers.<Object> anyVararg())).thenReturn(boundStatement);
+
+		deriveStatementFromMethod("findByFirstnameIn", new Class[] { Collection.class },
+				Arrays.asList("Hank", "Walter"));
+
+		verify(mockCassandraOperations).execute(eq("SELECT * FROM person WHERE firstname IN ?;"),
+				any(PreparedStatementCallback.class));
+		verify(preparedStatement).bind(Arrays.asList("Hank", "Walter"));
+	}
+
+	@Test
+	public void shouldReuseParameterizedQueryPerSort() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+		when(mockCassandraOperations.execute(anyString(), any(PreparedStatementCallback.class)))
+				.thenReturn(preparedStatement);
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findByFirstname", String.class, Sort.class);
+
+		partTreeQuery.createStatement(createAccessor(partTreeQuery, "Walter", null));
+		partTreeQuery.createStatement(createAccessor(partTreeQuery, "Hank", null));
+		partTreeQuery.createStatement(createAccessor(partTreeQuery, "Skyler", new Sort("lastname")));
+
+		verify(mockCassandraOperations, times(2)).execute(eq("SELECT * FROM person WHERE firstname=?;"),
+				any(PreparedStatementCallback.class));
+		verify(mockCassandraOperations).execute(eq("SELECT * FROM person WHERE firstname=? ORDER BY lastname ASC;"),
+				any(PreparedStatementCallback.class));
+		verify(preparedStatement).bind("Walter");
+		verify(preparedStatement).bind("Hank");
+		verify(preparedStatement).bind("Skyler");
+	}
+
+	private CassandraParameterAccessor createAccessor(PartTreeCassandraQuery partTreeQuery, Object... args) {
+
+		return new ConvertingParameterAccessor(mockCassandraOperations.getConverter(),
+				new CassandraParametersParameterAccessor(partTreeQuery.getQueryMethod(), args));
+	}
+
 	private String deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
@@ -170,6 +242,17 @@ public class PartTreeCassandraQueryUnitTests {
 		return partTreeQuery.createQuery(new ConvertingParameterAccessor(mockCassandraOperations.getConverter(), accessor));
 	}
 
+	private Statement deriveStatementFromMethod(String method, Class<?>[] types, Object... args) {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(method, types);
+
+		CassandraParameterAccessor accessor = new CassandraParametersParameterAccessor(partTreeQuery.getQueryMethod(),
+				args);
+
+		return partTreeQuery
+				.createStatement(new ConvertingParameterAccessor(mockCassandraOperations.getConverter(), accessor));
+	}
+
 	private PartTreeCassandraQuery createQueryForMethod(String methodName, Class<?>... paramTypes) {
 		try {
 			Method method = Repo.class.getMethod(methodName, paramTypes);
@@ -207,6 +290,8 @@ public class PartTreeCassandraQueryUnitTests {
 
 		Person findByFirstnameIn(Collection<String> firstname);
 
+		Person findByFirstname(String firstname, Sort sort);
+
 		PersonProjection findPersonProjectedBy();
 
 		<T> T findDynamicallyProjectedBy(Class<T> type);
@@ -31,13 +31,17 @@ import java.util.HashSet;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.PreparedStatementCallback;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.data.cassandra.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
 import org.springframework.data.cassandra.mapping.UserTypeResolver;
+import org.springframework.data.cassandra.repository.Idempotent;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cassandra.test.integration.repository.querymethods.declared.Address;
 import org.springframework.data.cassandra.test.integration.repository.querymethods.declared.Person;
@@ -52,15 +56,20 @@ import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.Configuration;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
 import com.datastax.driver.core.UserType.Field;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 
@@ -344,6 +353,91 @@ public class StringBasedCassandraQueryUnitTests {
 		assertThat(stringQuery).isEqualTo("SELECT * FROM person WHERE address={city:NULL,country:NULL};");
 	}
 
+	@Test
+	public void createsBoundStatementForScalarParameters() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(operations.execute(anyString(), any(PreparedStatementCallback.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(Matchers.<Object> anyVararg())).thenReturn(boundStatement);
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastnameAndFirstname", String.class,
+				String.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "White", "Walter");
+
+		Statement statement = cassandraQuery.createStatement(accessor);
+
+		assertThat(statement).isSameAs(boundStatement);
+		verify(operations).execute(eq("SELECT * FROM person WHERE lastname=? AND firstname=?;"),
+				any(PreparedStatementCallback.class));
+		verify(preparedStatement).bind("White", "Walter");
+	}
+
+	@Test
+	public void createsSimpleStatementForCollectionParameters() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastNameIn", Collection.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), Arrays.asList("White", "Heisenberg"));
+
+		Statement statement = cassandraQuery.createStatement(accessor);
+
+		assertThat(statement).isInstanceOf(SimpleStatement.class);
+		assertThat(((SimpleStatement) statement).getQueryString())
+				.isEqualTo("SELECT * FROM person WHERE lastname IN ('White','Heisenberg');");
+		verify(operations, never()).execute(anyString(), any(PreparedStatementCallback.class));
+	}
+
+	@Test
+	public void marksSelectQueriesIdempotent() {
+
+		when(operations.getConverter()).thenReturn(converter);
+
+		getQueryMethod("findByLastNameIn", Collection.class)
+				.execute(new Object[] { Arrays.asList("White", "Heisenberg") });
+
+		ArgumentCaptor<Statement> statement = ArgumentCaptor.forClass(Statement.class);
+		verify(operations).selectOne(statement.capture(), eq(Person.class));
+
+		assertThat(statement.getValue().isIdempotent()).isTrue();
+	}
+
+	@Test
+	public void appliesDeclaredIdempotence() {
+
+		when(operations.getConverter()).thenReturn(converter);
+
+		getQueryMethod("findNonIdempotentByLastNameIn", Collection.class)
+				.execute(new Object[] { Arrays.asList("White", "Heisenberg") });
+
+		ArgumentCaptor<Statement> statement = ArgumentCaptor.forClass(Statement.class);
+		verify(operations).selectOne(statement.capture(), eq(Person.class));
+
+		assertThat(statement.getValue().isIdempotent()).isFalse();
+	}
+
+	@Test
+	public void fallsBackToSimpleStatementIfValuesCannotBeBound() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+		when(operations.execute(anyString(), any(PreparedStatementCallback.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(Matchers.<Object> anyVararg()))
+				.thenThrow(new InvalidTypeException("Invalid type for value 0"));
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastname", String.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "Matthews");
+
+		Statement statement = cassandraQuery.createStatement(accessor);
+
+		assertThat(statement).isInstanceOf(SimpleStatement.class);
+		assertThat(((SimpleStatement) statement).getQueryString())
+				.isEqualTo("SELECT * FROM person WHERE lastname = 'Matthews';");
+	}
+
 	private StringBasedCassandraQuery getQueryMethod(String name, Class<?>... args) {
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
 		CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, metadata, factory,
@@ -402,6 +496,10 @@ public class StringBasedCassandraQueryUnitTests {
 		@Query("SELECT * FROM person WHERE lastname IN (?0);")
 		Person findByLastNameIn(Collection<String> lastNames);
 
+		@Idempotent(false)
+		@Query("SELECT * FROM person WHERE lastname IN (?0);")
+		Person findNonIdempotentByLastNameIn(Collection<String> lastNames);
+
 		@Query("SELECT * FROM person WHERE lastname = :#{#lastname};")
 		Person findByExpressionParameter(@Param("lastname") String lastname);
 